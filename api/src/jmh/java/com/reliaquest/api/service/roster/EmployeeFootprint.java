@@ -0,0 +1,144 @@
+package com.reliaquest.api.service.roster;
+
+import com.reliaquest.api.model.Employee;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import org.openjdk.jol.info.GraphLayout;
+
+/**
+ * Prints the retained heap of a roster and an id cache holding every employee, both as plain deserialized records
+ * (every response bringing its own strings, as before canonicalization) and as the api holds them now: a
+ * {@link RosterList} over interned columns with encoded emails, and an id cache sharing the roster's instances.
+ */
+public final class EmployeeFootprint {
+
+    private static final String[] FIRST_NAMES = {"Alice", "Bob", "Charlie", "Diana", "Edward", "Fiona", "George"};
+    private static final String[] LAST_NAMES = {"Anderson", "Brown", "Clark", "Davis", "Evans", "Fischer", "Garcia"};
+    private static final String[] TITLES = {
+        "Engineer", "Senior Engineer", "Manager", "Director", "Designer", "Product Manager", "Analyst", "Consultant"
+    };
+    private static final String[] DOMAINS = {"company.com", "example.org", "corp.example.com"};
+
+    private EmployeeFootprint() {}
+
+    public static void main(String[] args) {
+        int size = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+        List<String[]> source = generate(size, 42);
+
+        List<PlainEmployee> plainList = new ArrayList<>(size);
+        Map<String, PlainEmployee> plainById = new HashMap<>();
+        for (String[] fields : source) {
+            plainList.add(PlainEmployee.parse(fields));
+            PlainEmployee copy = PlainEmployee.parse(fields);
+            plainById.put(copy.id(), copy);
+        }
+        long plainListBytes = GraphLayout.parseInstance(plainList).totalSize();
+        long plainBytes = GraphLayout.parseInstance(plainList, plainById).totalSize();
+        plainList = null;
+        plainById = null;
+
+        RosterColumns.Builder builder = RosterColumns.builder(size);
+        for (String[] fields : source) {
+            builder.add(
+                    fresh(fields[0]),
+                    fresh(fields[1]),
+                    salary(fields),
+                    age(fields),
+                    fresh(fields[4]),
+                    fresh(fields[5]));
+        }
+        RosterList roster = RosterList.of(builder.build());
+        Map<String, Employee> rosterById = new HashMap<>();
+        for (Employee employee : roster) {
+            rosterById.put(employee.id(), employee);
+        }
+        Map<String, Employee> byId = new HashMap<>();
+        for (String[] fields : source) {
+            // A by-id read deserializes its own copy; an unchanged one is swapped for the roster's instance.
+            Employee read = new Employee(
+                    fresh(fields[0]),
+                    fresh(fields[1]),
+                    salary(fields),
+                    age(fields),
+                    fresh(fields[4]),
+                    fresh(fields[5]));
+            Employee known = rosterById.get(read.id());
+            byId.put(read.id(), read.equals(known) ? known : read);
+        }
+        rosterById = null;
+        long rosterBytes = GraphLayout.parseInstance(roster).totalSize();
+        long canonicalBytes = GraphLayout.parseInstance(roster, byId).totalSize();
+
+        System.out.printf("Employees:                    %,d%n", size);
+        System.out.printf("Plain list:                   %,d bytes (%.1f per employee)%n", plainListBytes,
+                perRow(plainListBytes, size));
+        System.out.printf("Plain list + id cache copies: %,d bytes (%.1f per employee)%n", plainBytes,
+                perRow(plainBytes, size));
+        System.out.printf("Canonical roster:             %,d bytes (%.1f per employee)%n", rosterBytes,
+                perRow(rosterBytes, size));
+        System.out.printf("Canonical roster + id cache:  %,d bytes (%.1f per employee)%n", canonicalBytes,
+                perRow(canonicalBytes, size));
+        System.out.printf("Canonical / plain:            %.2f%n", (double) canonicalBytes / plainBytes);
+    }
+
+    /*
+     * Field values of a synthetic roster shaped like the mock server's data: id, name, salary, age, title, email.
+     */
+    private static List<String[]> generate(int size, long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        List<String[]> rows = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            String first = FIRST_NAMES[random.nextInt(FIRST_NAMES.length)];
+            String last = LAST_NAMES[random.nextInt(LAST_NAMES.length)];
+            rows.add(new String[] {
+                UUID.randomUUID().toString(),
+                first + " " + last,
+                String.valueOf(random.nextInt(30000, 500000)),
+                String.valueOf(random.nextInt(16, 70)),
+                TITLES[random.nextInt(TITLES.length)],
+                first.toLowerCase() + "." + last.toLowerCase() + i + "@" + DOMAINS[random.nextInt(DOMAINS.length)]
+            });
+        }
+        return rows;
+    }
+
+    /*
+     * A new instance per use, as each JSON parse produces.
+     */
+    private static String fresh(String value) {
+        return new String(value.toCharArray());
+    }
+
+    private static int salary(String[] fields) {
+        return Integer.parseInt(fields[2]);
+    }
+
+    private static int age(String[] fields) {
+        return Integer.parseInt(fields[3]);
+    }
+
+    private static double perRow(long bytes, int size) {
+        return size == 0 ? 0 : (double) bytes / size;
+    }
+
+    /**
+     * The employee record as it was before canonicalization.
+     */
+    private record PlainEmployee(
+            String id, String employeeName, int employeeSalary, int employeeAge, String employeeTitle, String email) {
+
+        static PlainEmployee parse(String[] fields) {
+            return new PlainEmployee(
+                    fresh(fields[0]),
+                    fresh(fields[1]),
+                    salary(fields),
+                    age(fields),
+                    fresh(fields[4]),
+                    fresh(fields[5]));
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.reliaquest.api.service.roster;
+
+import com.reliaquest.api.model.Employee;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Name search by lower-casing every name per query (previous implementation) versus a reused {@link NameMatcher} over
+ * pre-folded names. Run with {@code -prof gc}: {@code foldedCount} should report close to zero bytes per operation,
+ * and {@code foldedMatchRows} only its result array.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NameSearchBenchmark {
+
+    @Param({"100000", "1000000"})
+    private int size;
+
+    @Param({"ann", "Smith"})
+    private String fragment;
+
+    private List<Employee> employees;
+    private FoldedNames names;
+    private final NameMatcher matcher = new NameMatcher();
+
+    @Setup
+    public void setUp() {
+        employees = Rosters.generate(size, 42);
+        names = RosterColumns.of(employees).foldedNames();
+    }
+
+    @Benchmark
+    public List<Employee> streamSearch() {
+        return employees.stream()
+                .filter(emp -> emp.employeeName().toLowerCase().contains(fragment.toLowerCase()))
+                .collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public int[] foldedMatchRows() {
+        return matcher.reset(fragment).matchRows(names, 0, names.size());
+    }
+
+    @Benchmark
+    public int foldedCount() {
+        return matcher.reset(fragment).count(names, 0, names.size());
+    }
+}
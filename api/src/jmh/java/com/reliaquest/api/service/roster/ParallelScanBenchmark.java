@@ -0,0 +1,69 @@
+package com.reliaquest.api.service.roster;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Sequential versus fork-join scans across roster sizes, to locate the crossover behind
+ * {@code employee.parallel.threshold}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ParallelScanBenchmark {
+
+    @Param({"10000", "50000", "200000", "1000000", "4000000"})
+    private int size;
+
+    @Param({"sequential", "parallel"})
+    private String mode;
+
+    private RosterColumns columns;
+    private RosterParallelism parallelism;
+
+    @Setup
+    public void setUp() {
+        columns = RosterColumns.of(Rosters.generate(size, 42));
+        parallelism = "parallel".equals(mode)
+                ? new RosterParallelism(0, 0, 32768)
+                : new RosterParallelism(1, Integer.MAX_VALUE, 32768);
+    }
+
+    @TearDown
+    public void tearDown() {
+        parallelism.shutdown();
+    }
+
+    @Benchmark
+    public int highestSalary() {
+        return parallelism.reduce(columns.size(), columns::maxSalary, Math::max);
+    }
+
+    @Benchmark
+    public int[] topTen() {
+        return parallelism.reduce(
+                columns.size(),
+                (from, to) -> columns.topSalaryRows(10, from, to),
+                (left, right) -> columns.mergeTopSalaryRows(left, right, 10));
+    }
+
+    @Benchmark
+    public int[] nameSearch() {
+        return parallelism.reduce(
+                columns.size(), (from, to) -> columns.nameMatchRows("ann", from, to), RosterParallelism::concat);
+    }
+}
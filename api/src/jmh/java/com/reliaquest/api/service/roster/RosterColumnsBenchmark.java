@@ -0,0 +1,65 @@
+package com.reliaquest.api.service.roster;
+
+import com.reliaquest.api.model.Employee;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Highest salary and top-ten names over the record list (previous implementation) versus the columnar snapshot.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RosterColumnsBenchmark {
+
+    @Param({"10000", "1000000"})
+    private int size;
+
+    private List<Employee> employees;
+    private RosterColumns columns;
+
+    @Setup
+    public void setUp() {
+        employees = Rosters.generate(size, 42);
+        columns = RosterColumns.of(employees);
+    }
+
+    @Benchmark
+    public int highestSalaryFromList() {
+        return employees.stream().mapToInt(Employee::employeeSalary).max().orElse(0);
+    }
+
+    @Benchmark
+    public int highestSalaryFromColumns() {
+        return columns.maxSalary();
+    }
+
+    @Benchmark
+    public List<String> topTenFromList() {
+        return employees.stream()
+                .sorted(Comparator.comparingInt(Employee::employeeSalary).reversed())
+                .limit(10)
+                .map(Employee::employeeName)
+                .toList();
+    }
+
+    @Benchmark
+    public List<String> topTenFromColumns() {
+        return columns.topEarnerNames(10);
+    }
+}
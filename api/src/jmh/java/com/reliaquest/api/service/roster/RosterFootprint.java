@@ -0,0 +1,33 @@
+package com.reliaquest.api.service.roster;
+
+import com.reliaquest.api.model.Employee;
+import java.util.List;
+import org.openjdk.jol.info.GraphLayout;
+
+/**
+ * Prints the retained heap of a roster held as {@code List<Employee>} next to its {@link RosterColumns} form.
+ */
+public final class RosterFootprint {
+
+    private RosterFootprint() {}
+
+    public static void main(String[] args) {
+        int size = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+
+        List<Employee> list = Rosters.generate(size, 42);
+        long listBytes = GraphLayout.parseInstance(list).totalSize();
+
+        RosterColumns columns = RosterColumns.of(list);
+        list = null;
+        long columnBytes = GraphLayout.parseInstance(columns).totalSize();
+
+        System.out.printf("Employees:       %,d%n", size);
+        System.out.printf("List<Employee>:  %,d bytes (%.1f per employee)%n", listBytes, perRow(listBytes, size));
+        System.out.printf("RosterColumns:   %,d bytes (%.1f per employee)%n", columnBytes, perRow(columnBytes, size));
+        System.out.printf("Columns / list:  %.2f%n", (double) columnBytes / listBytes);
+    }
+
+    private static double perRow(long bytes, int size) {
+        return size == 0 ? 0 : (double) bytes / size;
+    }
+}
@@ -0,0 +1,55 @@
+package com.reliaquest.api.service.roster;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.model.EmployeeListResponse;
+import com.reliaquest.api.service.client.EmployeeListConverter;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Time from upstream bytes to queryable columns: data binding into records followed by a column pass (previous
+ * path) versus token-level parsing straight into columns. Run with {@code -prof gc} to compare allocation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = "-Xmx4g")
+public class RosterIngestBenchmark {
+
+    @Param({"10000", "1000000"})
+    private int size;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final JsonFactory jsonFactory = new JsonFactory();
+    private byte[] body;
+
+    @Setup
+    public void setUp() throws IOException {
+        body = objectMapper.writeValueAsBytes(new EmployeeListResponse(Rosters.generate(size, 42), "ok"));
+    }
+
+    @Benchmark
+    public RosterColumns bindThenBuildColumns() throws IOException {
+        return RosterColumns.of(objectMapper.readValue(body, EmployeeListResponse.class));
+    }
+
+    @Benchmark
+    public RosterColumns streamIntoColumns() throws IOException {
+        EmployeeListResponse response = EmployeeListConverter.readResponse(jsonFactory.createParser(body));
+        return ((RosterList) response.data()).columns();
+    }
+}
@@ -0,0 +1,49 @@
+package com.reliaquest.api.service.roster;
+
+import com.reliaquest.api.model.Employee;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.UUID;
+
+/**
+ * Synthetic rosters shaped like the mock server's data. Every employee gets its own string instances, as it would
+ * after JSON deserialization.
+ */
+final class Rosters {
+
+    private static final String[] FIRST_NAMES = {
+        "Alice", "Bob", "Charlie", "Diana", "Edward", "Fiona", "George", "Hannah", "Ivan",
+        "Julia", "Kevin", "Laura", "Michael", "Nina", "Oscar", "Paula", "Quentin", "Rachel",
+        "Samuel", "Tina", "Ulysses", "Vera", "Walter", "Xena", "Yusuf", "Zoe"
+    };
+    private static final String[] LAST_NAMES = {
+        "Anderson", "Brown", "Clark", "Davis", "Evans", "Fischer", "Garcia", "Harris",
+        "Ito", "Johnson", "Khan", "Lopez", "Miller", "Nguyen", "Olsen", "Patel",
+        "Quinn", "Rossi", "Smith", "Taylor", "Ueda", "Vargas", "Wilson", "Young"
+    };
+    private static final String[] TITLES = {
+        "Engineer", "Senior Engineer", "Staff Engineer", "Manager", "Director", "Designer", "Product Manager",
+        "Analyst", "Accountant", "Recruiter", "Sales Representative", "Support Specialist", "Consultant", "Architect",
+        "Data Scientist", "QA Engineer", "Technical Writer", "Administrator", "Marketing Specialist", "Legal Counsel"
+    };
+
+    private Rosters() {}
+
+    static List<Employee> generate(int size, long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        List<Employee> employees = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            String name = FIRST_NAMES[random.nextInt(FIRST_NAMES.length)] + " "
+                    + LAST_NAMES[random.nextInt(LAST_NAMES.length)];
+            employees.add(new Employee(
+                    UUID.randomUUID().toString(),
+                    name,
+                    random.nextInt(30000, 500000),
+                    random.nextInt(16, 70),
+                    new String(TITLES[random.nextInt(TITLES.length)]),
+                    "user" + i + "@company.com"));
+        }
+        return employees;
+    }
+}
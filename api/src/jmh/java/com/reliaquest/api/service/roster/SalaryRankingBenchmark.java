@@ -0,0 +1,72 @@
+package com.reliaquest.api.service.roster;
+
+import com.reliaquest.api.model.Employee;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Top-N by salary: full sort of the record list (previous implementation), bounded-heap selection on a cold
+ * snapshot, and a slice of the salary index on an indexed one.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SalaryRankingBenchmark {
+
+    @Param({"10000", "1000000"})
+    private int size;
+
+    @Param({"10", "1000"})
+    private int n;
+
+    private List<Employee> employees;
+    private RosterColumns cold;
+    private RosterColumns indexed;
+
+    @Setup
+    public void setUp() {
+        employees = Rosters.generate(size, 42);
+        // Heap selection never builds the index, so this instance stays cold for the whole run.
+        cold = RosterColumns.of(employees);
+        indexed = RosterColumns.of(employees);
+        indexed.salaryRangeRows(0, 0);
+    }
+
+    @Benchmark
+    public List<Employee> topNBySort() {
+        return employees.stream()
+                .sorted(Comparator.comparingInt(Employee::employeeSalary).reversed())
+                .limit(n)
+                .toList();
+    }
+
+    @Benchmark
+    public int[] topNByHeap() {
+        return cold.topSalaryRows(n);
+    }
+
+    @Benchmark
+    public int[] topNFromIndex() {
+        return indexed.topSalaryRows(n);
+    }
+
+    @Benchmark
+    public int[] rangeFromIndex() {
+        return indexed.salaryRangeRows(50000, 60000);
+    }
+}
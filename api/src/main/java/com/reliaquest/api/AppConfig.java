@@ -1,5 +1,6 @@
 package com.reliaquest.api;
 
+import com.reliaquest.api.service.client.EmployeeListConverter;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.client.RestTemplate;
@@ -9,6 +10,9 @@ public class AppConfig {
 
     @Bean
     public RestTemplate restTemplate() {
-        return new RestTemplate();
+        RestTemplate restTemplate = new RestTemplate();
+        // Rosters are parsed straight into columns; everything else keeps the default Jackson binding.
+        restTemplate.getMessageConverters().add(0, new EmployeeListConverter());
+        return restTemplate;
     }
 }
@@ -15,7 +15,12 @@ public class LoggingAspect {
 
     private static final Logger logger = LoggerFactory.getLogger(LoggingAspect.class);
 
-    @Pointcut("execution(* com.reliaquest.api..*(..))")
+    /*
+     * The request boundaries only: advising every bean in the application gave each one a proxy class to generate at
+     * startup.
+     */
+    @Pointcut("within(com.reliaquest.api.controller..*) || within(com.reliaquest.api.service.EmployeeService)"
+            + " || within(com.reliaquest.api.service.client.ServerClient)")
     public void loggableMethods() {}
 
     @Around("loggableMethods()")
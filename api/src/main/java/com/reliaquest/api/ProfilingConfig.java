@@ -0,0 +1,39 @@
+package com.reliaquest.api;
+
+import com.reliaquest.api.profiling.FlightRecordingEndpoint;
+import com.reliaquest.api.profiling.RecordingCacheManager;
+import com.reliaquest.api.profiling.UpstreamRetryListener;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.retry.RetryListener;
+
+/**
+ * Custom Java Flight Recorder events ({@code com.reliaquest.api.*}) for upstream calls, retries and rate limiting,
+ * cache loads and evictions, roster queries and response serialization. They cost next to nothing unless a recording
+ * enables them; one can be started with {@link FlightRecordingEndpoint} or {@code jcmd <pid> JFR.start}.
+ */
+@Configuration
+public class ProfilingConfig {
+
+    /**
+     * Wraps whichever cache manager is in use, the in-process one or the two-level one.
+     */
+    @Bean
+    public static BeanPostProcessor recordingCacheManagerPostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                return bean instanceof CacheManager cacheManager && !(bean instanceof RecordingCacheManager)
+                        ? new RecordingCacheManager(cacheManager)
+                        : bean;
+            }
+        };
+    }
+
+    @Bean
+    public RetryListener upstreamRetryListener() {
+        return new UpstreamRetryListener();
+    }
+}
@@ -0,0 +1,41 @@
+package com.reliaquest.api;
+
+import com.reliaquest.api.service.cache.InMemorySharedCacheStore;
+import com.reliaquest.api.service.cache.ReplicaLeadership;
+import com.reliaquest.api.service.cache.SharedCacheStore;
+import com.reliaquest.api.service.cache.TwoLevelCacheManager;
+import java.time.Duration;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Two-level caching across replicas, enabled by {@code employee.cache.shared.enabled}. Otherwise Spring Boot's
+ * in-process cache manager is used as before.
+ */
+@Configuration
+@ConditionalOnProperty(name = "employee.cache.shared.enabled", havingValue = "true")
+public class SharedCacheConfig {
+
+    /**
+     * The in-JVM stand-in, unless a networked store is defined.
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public SharedCacheStore sharedCacheStore() {
+        return InMemorySharedCacheStore.jvmWide();
+    }
+
+    @Bean
+    public CacheManager cacheManager(
+            SharedCacheStore sharedCacheStore,
+            ReplicaLeadership replicaLeadership,
+            @Value("${employee.cache.shared.load-lease-ms:30000}") long loadLeaseMs,
+            @Value("${employee.cache.shared.load-poll-ms:50}") long loadPollMs) {
+        return new TwoLevelCacheManager(
+                sharedCacheStore, replicaLeadership.replicaId(), Duration.ofMillis(loadLeaseMs), loadPollMs);
+    }
+}
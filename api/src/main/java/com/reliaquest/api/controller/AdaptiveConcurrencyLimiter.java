@@ -0,0 +1,120 @@
+package com.reliaquest.api.controller;
+
+import java.util.function.LongSupplier;
+
+/**
+ * A concurrency limit that follows latency instead of being configured: it grows while requests complete about as
+ * fast as usual and shrinks once they queue up, so excess requests can be rejected right away rather than waiting.
+ *
+ * @implNote Gradient based: a slow moving average of latency is the baseline and a fast one the current latency. Each
+ * sample moves the limit towards {@code limit * gradient + sqrt(limit)}, where the gradient is
+ * {@code tolerance * baseline / current} capped to [0.5, 1]; the square root lets it probe upwards while latency holds.
+ * A dropped request (the upstream failing or rate limiting) cuts the limit by {@code backoffRatio} instead, so
+ * together the limit increases additively and decreases multiplicatively. Samples taken while less than half the
+ * limit was in use say nothing about the limit and only update the averages.
+ */
+final class AdaptiveConcurrencyLimiter {
+
+    private static final double SMOOTHING = 0.2;
+    private static final double CURRENT_WEIGHT = 0.1;
+    private static final double BASELINE_WEIGHT = 0.002;
+    private static final double MIN_GRADIENT = 0.5;
+
+    private final String name;
+    private final int minLimit;
+    private final int maxLimit;
+    private final double tolerance;
+    private final double backoffRatio;
+    private final LongSupplier nanoClock;
+
+    private double limit;
+    private int inFlight;
+    private double currentNanos;
+    private double baselineNanos;
+
+    AdaptiveConcurrencyLimiter(
+            String name,
+            int initialLimit,
+            int minLimit,
+            int maxLimit,
+            double tolerance,
+            double backoffRatio,
+            LongSupplier nanoClock) {
+        this.name = name;
+        this.minLimit = Math.max(1, minLimit);
+        this.maxLimit = Math.max(this.minLimit, maxLimit);
+        this.tolerance = Math.max(1, tolerance);
+        this.backoffRatio = backoffRatio;
+        this.nanoClock = nanoClock;
+        this.limit = Math.min(this.maxLimit, Math.max(this.minLimit, initialLimit));
+    }
+
+    String name() {
+        return name;
+    }
+
+    synchronized int limit() {
+        return (int) limit;
+    }
+
+    synchronized int inFlight() {
+        return inFlight;
+    }
+
+    /**
+     * @return a permit to release once the request completed, or null if the limit is reached
+     */
+    synchronized Permit tryAcquire() {
+        if (inFlight >= (int) limit) {
+            return null;
+        }
+        inFlight++;
+        return new Permit(nanoClock.getAsLong(), inFlight);
+    }
+
+    private synchronized void onSample(long latencyNanos, int inFlightAtStart, boolean dropped) {
+        inFlight--;
+        if (dropped) {
+            limit = Math.max(minLimit, limit * backoffRatio);
+            return;
+        }
+        currentNanos = currentNanos == 0 ? latencyNanos : currentNanos + (latencyNanos - currentNanos) * CURRENT_WEIGHT;
+        baselineNanos =
+                baselineNanos == 0 ? latencyNanos : baselineNanos + (latencyNanos - baselineNanos) * BASELINE_WEIGHT;
+        // After a sustained slowdown the baseline would keep the gradient at 1 too long once latency recovers.
+        baselineNanos = Math.min(baselineNanos, currentNanos * 2);
+        if (inFlightAtStart < limit / 2) {
+            return;
+        }
+        double gradient = Math.max(MIN_GRADIENT, Math.min(1, tolerance * baselineNanos / Math.max(1, currentNanos)));
+        double target = limit * gradient + Math.sqrt(limit);
+        limit = Math.max(minLimit, Math.min(maxLimit, limit * (1 - SMOOTHING) + target * SMOOTHING));
+    }
+
+    final class Permit {
+
+        private final long startNanos;
+        private final int inFlightAtStart;
+        private boolean released;
+
+        private Permit(long startNanos, int inFlightAtStart) {
+            this.startNanos = startNanos;
+            this.inFlightAtStart = inFlightAtStart;
+        }
+
+        AdaptiveConcurrencyLimiter limiter() {
+            return AdaptiveConcurrencyLimiter.this;
+        }
+
+        /**
+         * @param dropped whether the request failed in a way that suggests overload
+         */
+        void release(boolean dropped) {
+            if (released) {
+                return;
+            }
+            released = true;
+            onSample(nanoClock.getAsLong() - startNanos, inFlightAtStart, dropped);
+        }
+    }
+}
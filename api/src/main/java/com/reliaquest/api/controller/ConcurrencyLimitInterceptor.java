@@ -0,0 +1,173 @@
+package com.reliaquest.api.controller;
+
+import com.reliaquest.api.profiling.RequestShedEvent;
+import com.reliaquest.api.service.client.UpstreamCircuitBreaker;
+import com.reliaquest.api.service.roster.RosterSnapshot;
+import com.reliaquest.api.service.roster.RosterSnapshots;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * Bounds the requests in flight on the employee endpoints with two {@link AdaptiveConcurrencyLimiter adaptive
+ * limits}: one for reads the caches can serve and one for requests that call the upstream. A request over its limit
+ * is answered 503 with {@code Retry-After} at once, so an upstream lockout piling requests up in retries cannot take
+ * every container thread and slow down reads that never needed the upstream.
+ *
+ * @implNote Reads count as cache-servable if the roster is cached (the last known one while the circuit is open), or
+ * for by-id reads, if the employee is. Upstream-bound requests answered 429, 503 or 504, or failing outright, count as
+ * dropped and shrink their limit.
+ */
+@Slf4j
+@Component
+public class ConcurrencyLimitInterceptor implements HandlerInterceptor {
+
+    private static final String PERMIT_ATTRIBUTE = ConcurrencyLimitInterceptor.class.getName() + ".permit";
+    private static final String ID_VARIABLE = "id";
+    private static final long RETRY_AFTER_SECONDS = 1;
+
+    private static final Set<Class<?>> LIMITED_CONTROLLERS = Set.of(
+            EmployeeController.class,
+            EmployeeQueryController.class,
+            EmployeeSalaryController.class,
+            EmployeeAnalyticsController.class);
+
+    private final boolean enabled;
+    private final AdaptiveConcurrencyLimiter cachedLimiter;
+    private final AdaptiveConcurrencyLimiter upstreamLimiter;
+    private final RosterSnapshots rosterSnapshots;
+    private final UpstreamCircuitBreaker circuitBreaker;
+
+    @Autowired
+    public ConcurrencyLimitInterceptor(
+            @Value("${employee.limits.enabled:true}") boolean enabled,
+            @Value("${employee.limits.tolerance:2.0}") double tolerance,
+            @Value("${employee.limits.backoff-ratio:0.9}") double backoffRatio,
+            @Value("${employee.limits.cached.initial:100}") int cachedInitial,
+            @Value("${employee.limits.cached.min:20}") int cachedMin,
+            @Value("${employee.limits.cached.max:150}") int cachedMax,
+            @Value("${employee.limits.upstream.initial:20}") int upstreamInitial,
+            @Value("${employee.limits.upstream.min:2}") int upstreamMin,
+            @Value("${employee.limits.upstream.max:40}") int upstreamMax,
+            RosterSnapshots rosterSnapshots,
+            UpstreamCircuitBreaker circuitBreaker) {
+        this(
+                enabled,
+                new AdaptiveConcurrencyLimiter(
+                        "cached", cachedInitial, cachedMin, cachedMax, tolerance, backoffRatio, System::nanoTime),
+                new AdaptiveConcurrencyLimiter(
+                        "upstream",
+                        upstreamInitial,
+                        upstreamMin,
+                        upstreamMax,
+                        tolerance,
+                        backoffRatio,
+                        System::nanoTime),
+                rosterSnapshots,
+                circuitBreaker);
+    }
+
+    ConcurrencyLimitInterceptor(
+            boolean enabled,
+            AdaptiveConcurrencyLimiter cachedLimiter,
+            AdaptiveConcurrencyLimiter upstreamLimiter,
+            RosterSnapshots rosterSnapshots,
+            UpstreamCircuitBreaker circuitBreaker) {
+        this.enabled = enabled;
+        this.cachedLimiter = cachedLimiter;
+        this.upstreamLimiter = upstreamLimiter;
+        this.rosterSnapshots = rosterSnapshots;
+        this.circuitBreaker = circuitBreaker;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler)
+            throws IOException {
+        if (!enabled
+                || !(handler instanceof HandlerMethod method)
+                || !LIMITED_CONTROLLERS.contains(method.getBeanType())) {
+            return true;
+        }
+        AdaptiveConcurrencyLimiter limiter = isServableFromCache(request) ? cachedLimiter : upstreamLimiter;
+        AdaptiveConcurrencyLimiter.Permit permit = limiter.tryAcquire();
+        if (permit == null) {
+            shed(limiter, request, response);
+            return false;
+        }
+        request.setAttribute(PERMIT_ATTRIBUTE, permit);
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(
+            HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        if (request.getAttribute(PERMIT_ATTRIBUTE) instanceof AdaptiveConcurrencyLimiter.Permit permit) {
+            // Only the upstream budget backs off; a cached read answered 503 says nothing about upstream overload.
+            boolean upstream = permit.limiter() == upstreamLimiter;
+            permit.release(upstream && (ex != null || isOverloaded(response.getStatus())));
+        }
+    }
+
+    private boolean isServableFromCache(HttpServletRequest request) {
+        if (!HttpMethod.GET.matches(request.getMethod())) {
+            return false;
+        }
+        boolean circuitOpen = circuitBreaker.state() == UpstreamCircuitBreaker.State.OPEN;
+        Optional<RosterSnapshot> roster = circuitOpen ? rosterSnapshots.lastKnown() : rosterSnapshots.loaded();
+        String id = pathVariable(request, ID_VARIABLE);
+        if (id == null) {
+            return roster.isPresent();
+        }
+        return circuitOpen
+                ? roster.map(snapshot -> snapshot.byId().containsKey(id)).orElse(false)
+                : rosterSnapshots.isEmployeeCached(id);
+    }
+
+    private static void shed(
+            AdaptiveConcurrencyLimiter limiter, HttpServletRequest request, HttpServletResponse response)
+            throws IOException {
+        RequestShedEvent event = new RequestShedEvent();
+        event.budget = limiter.name();
+        event.limit = limiter.limit();
+        event.inFlight = limiter.inFlight();
+        event.path = request.getRequestURI();
+        event.commit();
+        log.debug(
+                "Shed {} {}: {} limit of {} reached",
+                request.getMethod(),
+                request.getRequestURI(),
+                limiter.name(),
+                limiter.limit());
+
+        response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(RETRY_AFTER_SECONDS));
+        response.setContentType(MediaType.TEXT_PLAIN_VALUE);
+        response.getWriter().write("Too many concurrent requests, retry in " + RETRY_AFTER_SECONDS + " s");
+    }
+
+    @SuppressWarnings("unchecked")
+    private static String pathVariable(HttpServletRequest request, String name) {
+        Object variables = request.getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE);
+        return variables instanceof Map<?, ?> map ? ((Map<String, String>) map).get(name) : null;
+    }
+
+    private static boolean isOverloaded(int status) {
+        return status == HttpStatus.TOO_MANY_REQUESTS.value()
+                || status == HttpStatus.SERVICE_UNAVAILABLE.value()
+                || status == HttpStatus.GATEWAY_TIMEOUT.value();
+    }
+}
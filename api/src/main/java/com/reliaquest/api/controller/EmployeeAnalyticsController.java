@@ -0,0 +1,41 @@
+package com.reliaquest.api.controller;
+
+import com.reliaquest.api.model.AgeAnalytics;
+import com.reliaquest.api.model.SalaryAnalytics;
+import com.reliaquest.api.model.TitleSalaryAnalytics;
+import com.reliaquest.api.service.EmployeeService;
+import java.util.List;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * Roster analytics served from incrementally maintained aggregates, so dashboards no longer need to download the
+ * full employee list.
+ */
+@RestController
+@RequestMapping("/employee/analytics")
+public class EmployeeAnalyticsController {
+
+    private final EmployeeService employeeService;
+
+    @Autowired
+    public EmployeeAnalyticsController(EmployeeService employeeService) {
+        this.employeeService = employeeService;
+    }
+
+    @GetMapping("/salary")
+    public ResponseEntity<SalaryAnalytics> getSalaryAnalytics() {
+        return ResponseEntity.ok(employeeService.getSalaryAnalytics());
+    }
+
+    @GetMapping("/salary/byTitle")
+    public ResponseEntity<List<TitleSalaryAnalytics>> getSalaryAnalyticsByTitle() {
+        return ResponseEntity.ok(employeeService.getSalaryAnalyticsByTitle());
+    }
+
+    @GetMapping("/age")
+    public ResponseEntity<AgeAnalytics> getAgeAnalytics() {
+        return ResponseEntity.ok(employeeService.getAgeAnalytics());
+    }
+}
@@ -2,10 +2,15 @@ package com.reliaquest.api.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.EmployeeLookupRequest;
 import com.reliaquest.api.service.EmployeeService;
+import com.reliaquest.api.service.client.ServerClient;
+import com.reliaquest.api.service.roster.DuplicateEmployeeException;
+import com.reliaquest.api.service.roster.RosterSnapshot;
 import java.util.List;
 import java.util.Map;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -18,15 +23,22 @@ public class EmployeeController implements IEmployeeController {
 
     private final ObjectMapper objectMapper;
 
+    private final ListResponseCache listResponseCache;
+
     @Autowired
-    public EmployeeController(EmployeeService employeeService, ObjectMapper objectMapper) {
+    public EmployeeController(
+            EmployeeService employeeService, ObjectMapper objectMapper, ListResponseCache listResponseCache) {
         this.employeeService = employeeService;
         this.objectMapper = objectMapper;
+        this.listResponseCache = listResponseCache;
     }
 
+    /*
+     * Served pre-serialized (and pre-compressed) per roster snapshot, with an ETag for conditional requests.
+     */
     @Override
     public ResponseEntity<List<Employee>> getAllEmployees() {
-        return ResponseEntity.ok(employeeService.getAllEmployees());
+        return listResponseCache.respond("employees", employeeService.getRosterSnapshot(), RosterSnapshot::employees);
     }
 
     @Override
@@ -40,6 +52,22 @@ public class EmployeeController implements IEmployeeController {
         return ResponseEntity.ok(employeeService.getEmployeeById(id));
     }
 
+    /*
+     * Bulk counterpart of getEmployeeById: one response with a status per distinct id, so a partial failure upstream
+     * does not fail the ids that could be resolved.
+     */
+    @PostMapping(path = "/lookup", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<?> getEmployeesByIds(@RequestBody EmployeeLookupRequest request) {
+        if (request.ids() == null || request.ids().isEmpty()) {
+            return ResponseEntity.badRequest().body("ids must not be empty");
+        }
+        // One upstream batch at most, which bounds how long a lookup can take.
+        if (request.ids().size() > ServerClient.MAX_LOOKUP_IDS) {
+            return ResponseEntity.badRequest().body("At most " + ServerClient.MAX_LOOKUP_IDS + " ids per request");
+        }
+        return ResponseEntity.ok(employeeService.getEmployeesByIds(request.ids()));
+    }
+
     @Override
     public ResponseEntity<Integer> getHighestSalaryOfEmployees() {
         return ResponseEntity.ok(employeeService.getHighestSalary());
@@ -47,7 +75,10 @@ public class EmployeeController implements IEmployeeController {
 
     @Override
     public ResponseEntity<List<String>> getTopTenHighestEarningEmployeeNames() {
-        return ResponseEntity.ok(employeeService.getTopTenHighestEarningEmployeeNames());
+        return listResponseCache.respond(
+                "topTenHighestEarningEmployeeNames",
+                employeeService.getRosterSnapshot(),
+                employeeService::getTopTenHighestEarningEmployeeNames);
     }
 
     @Override
@@ -67,8 +98,11 @@ public class EmployeeController implements IEmployeeController {
             return ResponseEntity.badRequest().body("Unsupported input type: must be Employee or JSON object");
         }
 
-        Employee created = employeeService.createEmployee(employee);
-        return ResponseEntity.ok(created);
+        try {
+            return ResponseEntity.ok(employeeService.createEmployee(employee));
+        } catch (DuplicateEmployeeException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(e.getMessage());
+        }
     }
 
     @Override
@@ -0,0 +1,87 @@
+package com.reliaquest.api.controller;
+
+import com.reliaquest.api.service.client.UpstreamCircuitBreaker;
+import com.reliaquest.api.service.client.UpstreamUnavailableException;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.MethodParameter;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpResponse;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * Answers 503 with {@code Retry-After} when a request needs the upstream while its circuit is open, and marks reads
+ * served meanwhile (from the caches or the last known roster) as stale: {@code Warning: 110} and an {@code Age} of
+ * the seconds since the upstream last answered.
+ *
+ * @implNote Ordered ahead of {@link ListResponseCache}, which writes the body (and with it the headers) itself.
+ */
+@Slf4j
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RestControllerAdvice(
+        assignableTypes = {
+            EmployeeController.class,
+            EmployeeQueryController.class,
+            EmployeeSalaryController.class,
+            EmployeeAnalyticsController.class
+        })
+public class EmployeeControllerAdvice implements ResponseBodyAdvice<Object> {
+
+    static final String STALE_WARNING = "110 - \"Response is Stale\"";
+
+    private final UpstreamCircuitBreaker circuitBreaker;
+
+    @Autowired
+    public EmployeeControllerAdvice(UpstreamCircuitBreaker circuitBreaker) {
+        this.circuitBreaker = circuitBreaker;
+    }
+
+    @ExceptionHandler
+    public ResponseEntity<String> handleUpstreamUnavailable(UpstreamUnavailableException ex) {
+        log.debug("Rejected while the upstream circuit is open: {}", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.retryAfterSeconds()))
+                .body(ex.getMessage());
+    }
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(
+            Object body,
+            MethodParameter returnType,
+            MediaType selectedContentType,
+            Class<? extends HttpMessageConverter<?>> selectedConverterType,
+            ServerHttpRequest request,
+            ServerHttpResponse response) {
+        if (request.getMethod() == HttpMethod.GET
+                && isSuccessful(response)
+                && circuitBreaker.state() != UpstreamCircuitBreaker.State.CLOSED) {
+            long ageSeconds = TimeUnit.MILLISECONDS.toSeconds(circuitBreaker.millisSinceLastSuccess());
+            response.getHeaders().set(HttpHeaders.WARNING, STALE_WARNING);
+            response.getHeaders().set(HttpHeaders.AGE, String.valueOf(ageSeconds));
+        }
+        return body;
+    }
+
+    private static boolean isSuccessful(ServerHttpResponse response) {
+        return !(response instanceof ServletServerHttpResponse servlet)
+                || HttpStatusCode.valueOf(servlet.getServletResponse().getStatus()).is2xxSuccessful();
+    }
+}
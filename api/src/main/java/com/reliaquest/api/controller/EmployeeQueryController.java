@@ -0,0 +1,32 @@
+package com.reliaquest.api.controller;
+
+import com.reliaquest.api.model.EmployeeQuery;
+import com.reliaquest.api.model.EmployeeQueryResponse;
+import com.reliaquest.api.service.EmployeeService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * Multi-field roster query, e.g.
+ * {@code /employee/query?title=engineer&minAge=30&emailDomain=company.com&explain=true}. Predicates combine with AND;
+ * {@code explain=true} adds the chosen plan to the response.
+ */
+@RestController
+@RequestMapping("/employee/query")
+public class EmployeeQueryController {
+
+    private final EmployeeService employeeService;
+
+    @Autowired
+    public EmployeeQueryController(EmployeeService employeeService) {
+        this.employeeService = employeeService;
+    }
+
+    @GetMapping
+    public ResponseEntity<EmployeeQueryResponse> queryEmployees(
+            EmployeeQuery query, @RequestParam(defaultValue = "false") boolean explain) {
+        EmployeeQueryResponse response = employeeService.queryEmployees(query);
+        return ResponseEntity.ok(explain ? response : new EmployeeQueryResponse(response.data(), null));
+    }
+}
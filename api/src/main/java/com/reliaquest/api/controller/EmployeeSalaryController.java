@@ -0,0 +1,48 @@
+package com.reliaquest.api.controller;
+
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.service.EmployeeService;
+import java.util.List;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * Salary-ordered roster queries: top-N, bottom-N and salary ranges, selected from the roster snapshot's columns.
+ */
+@RestController
+@RequestMapping("/employee/salary")
+public class EmployeeSalaryController {
+
+    private final EmployeeService employeeService;
+
+    @Autowired
+    public EmployeeSalaryController(EmployeeService employeeService) {
+        this.employeeService = employeeService;
+    }
+
+    @GetMapping("/top")
+    public ResponseEntity<List<Employee>> getTopEarners(@RequestParam(defaultValue = "10") int n) {
+        if (n < 0) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(employeeService.getTopEarners(n));
+    }
+
+    @GetMapping("/bottom")
+    public ResponseEntity<List<Employee>> getBottomEarners(@RequestParam(defaultValue = "10") int n) {
+        if (n < 0) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(employeeService.getBottomEarners(n));
+    }
+
+    @GetMapping("/range")
+    public ResponseEntity<List<Employee>> getEmployeesBySalaryRange(
+            @RequestParam(defaultValue = "0") int min, @RequestParam(defaultValue = "" + Integer.MAX_VALUE) int max) {
+        if (min > max) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(employeeService.getEmployeesBySalaryRange(min, max));
+    }
+}
@@ -0,0 +1,63 @@
+package com.reliaquest.api.controller;
+
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.WriteOperation;
+import com.reliaquest.api.service.write.AsyncEmployeeWriter;
+import com.reliaquest.api.service.write.IdempotencyKeyConflictException;
+import java.net.URI;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * Write-behind counterparts of createEmployee and deleteEmployeeById: writes are acknowledged with 202 and an
+ * operation to poll once journaled, instead of after the upstream call.
+ *
+ * <p>Sending the same {@code Idempotency-Key} again returns the original operation rather than queueing a second write.
+ */
+@RestController
+@RequestMapping("/employee/async")
+public class EmployeeWriteController {
+
+    static final String IDEMPOTENCY_KEY = "Idempotency-Key";
+
+    private final AsyncEmployeeWriter asyncEmployeeWriter;
+
+    @Autowired
+    public EmployeeWriteController(AsyncEmployeeWriter asyncEmployeeWriter) {
+        this.asyncEmployeeWriter = asyncEmployeeWriter;
+    }
+
+    @PostMapping(consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<?> createEmployee(
+            @RequestHeader(name = IDEMPOTENCY_KEY, required = false) String idempotencyKey,
+            @RequestBody Employee employee) {
+        return accepted(() -> asyncEmployeeWriter.submitCreate(idempotencyKey, employee));
+    }
+
+    @DeleteMapping("/{id:[0-9a-fA-F\\-]{36}}")
+    public ResponseEntity<?> deleteEmployeeById(
+            @RequestHeader(name = IDEMPOTENCY_KEY, required = false) String idempotencyKey, @PathVariable String id) {
+        return accepted(() -> asyncEmployeeWriter.submitDelete(idempotencyKey, id));
+    }
+
+    @GetMapping("/operations/{operationId}")
+    public ResponseEntity<WriteOperation> getOperation(@PathVariable String operationId) {
+        return ResponseEntity.of(asyncEmployeeWriter.findOperation(operationId));
+    }
+
+    private static ResponseEntity<?> accepted(Supplier<WriteOperation> submission) {
+        WriteOperation operation;
+        try {
+            operation = submission.get();
+        } catch (IdempotencyKeyConflictException e) {
+            return ResponseEntity.status(HttpStatus.UNPROCESSABLE_ENTITY).body(e.getMessage());
+        }
+        return ResponseEntity.accepted()
+                .location(URI.create("/employee/async/operations/" + operation.id()))
+                .body(operation);
+    }
+}
@@ -0,0 +1,225 @@
+package com.reliaquest.api.controller;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.profiling.ResponseSerializationEvent;
+import com.reliaquest.api.service.roster.RosterSnapshot;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.zip.GZIPOutputStream;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.MethodParameter;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.AbstractJackson2HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.util.DigestUtils;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * Holds the serialized (plain and gzip-compressed) bodies of list-shaped responses for the current roster snapshot,
+ * so repeated reads skip both Jackson and compression, and answers conditional requests with 304.
+ *
+ * @implNote Bodies are keyed by the snapshot they were rendered from, and the roster snapshots hand out the same
+ * snapshot until the roster changes. ETags name the upstream roster version, or a digest of the body while the
+ * version is unknown. Gzip bytes are a distinct representation with their own tag, but either tag validates.
+ * Controllers keep returning the typed list; {@link #respond} remembers which serialized body belongs to the current
+ * request and, as the last response body advice, this class writes those bytes in place of the JSON converter.
+ */
+@ControllerAdvice(assignableTypes = EmployeeController.class)
+@Order(Ordered.LOWEST_PRECEDENCE)
+public class ListResponseCache implements ResponseBodyAdvice<Object> {
+
+    private static final String GZIP = "gzip";
+    private static final String GZIP_SUFFIX = "-gzip";
+    private static final String WEAK_PREFIX = "W/";
+    private static final String SERIALIZED_ATTRIBUTE = ListResponseCache.class.getName() + ".serialized";
+
+    private final ObjectMapper objectMapper;
+
+    private final Map<String, SerializedList> current = new ConcurrentHashMap<>();
+
+    @Autowired
+    public ListResponseCache(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Answers the current request with the body {@code render} produces for {@code snapshot}, rendering it only if
+     * this response was not yet cached for that snapshot. The entity carries the rendered list; its serialized bytes
+     * are written by {@link #beforeBodyWrite}.
+     *
+     * @param name distinguishes the cached response from those of other endpoints
+     */
+    public <T> ResponseEntity<T> respond(String name, RosterSnapshot snapshot, Function<RosterSnapshot, T> render) {
+        SerializedList serialized = get(name, snapshot, render);
+        String acceptEncoding = null;
+        String ifNoneMatch = null;
+        if (RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes) {
+            acceptEncoding = attributes.getRequest().getHeader(HttpHeaders.ACCEPT_ENCODING);
+            ifNoneMatch = attributes.getRequest().getHeader(HttpHeaders.IF_NONE_MATCH);
+            attributes.setAttribute(SERIALIZED_ATTRIBUTE, serialized, RequestAttributes.SCOPE_REQUEST);
+        }
+        return respond(serialized, acceptEncoding, ifNoneMatch);
+    }
+
+    <T> ResponseEntity<T> respond(
+            String name,
+            RosterSnapshot snapshot,
+            Function<RosterSnapshot, T> render,
+            String acceptEncoding,
+            String ifNoneMatch) {
+        return respond(get(name, snapshot, render), acceptEncoding, ifNoneMatch);
+    }
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return AbstractJackson2HttpMessageConverter.class.isAssignableFrom(converterType);
+    }
+
+    /**
+     * Writes the serialized bytes of a body returned through {@link #respond}, in the encoding it chose, and leaves
+     * any other body to the converter.
+     */
+    @Override
+    public Object beforeBodyWrite(
+            Object body,
+            MethodParameter returnType,
+            MediaType selectedContentType,
+            Class<? extends HttpMessageConverter<?>> selectedConverterType,
+            ServerHttpRequest request,
+            ServerHttpResponse response) {
+        SerializedList serialized = request instanceof ServletServerHttpRequest servletRequest
+                ? (SerializedList) servletRequest.getServletRequest().getAttribute(SERIALIZED_ATTRIBUTE)
+                : null;
+        if (body == null || serialized == null || serialized.body() != body) {
+            return body;
+        }
+        byte[] bytes = GZIP.equals(response.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING))
+                ? serialized.gzip()
+                : serialized.json();
+        response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+        response.getHeaders().setContentLength(bytes.length);
+        try {
+            response.getBody().write(bytes);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        // Nothing left for the converter to write.
+        return null;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> ResponseEntity<T> respond(SerializedList serialized, String acceptEncoding, String ifNoneMatch) {
+        boolean gzip = acceptsGzip(acceptEncoding);
+        String eTag = gzip ? serialized.gzipETag() : serialized.eTag();
+        if (serialized.matches(ifNoneMatch)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(eTag)
+                    .varyBy(HttpHeaders.ACCEPT_ENCODING)
+                    .build();
+        }
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .varyBy(HttpHeaders.ACCEPT_ENCODING)
+                .eTag(eTag);
+        if (gzip) {
+            // Written already encoded, which also keeps the container from compressing it again.
+            response.header(HttpHeaders.CONTENT_ENCODING, GZIP);
+        }
+        return response.body((T) serialized.body());
+    }
+
+    SerializedList get(String name, RosterSnapshot snapshot, Function<RosterSnapshot, ?> render) {
+        SerializedList cached = current.get(name);
+        if (cached != null && cached.snapshot() == snapshot) {
+            return cached;
+        }
+        ResponseSerializationEvent event = new ResponseSerializationEvent();
+        event.begin();
+        SerializedList serialized = serialize(snapshot, render.apply(snapshot));
+        event.response = name;
+        event.jsonBytes = serialized.json().length;
+        event.gzipBytes = serialized.gzip().length;
+        event.commit();
+        // Concurrent readers may render the same snapshot; the last one in wins, which is equally current.
+        current.put(name, serialized);
+        return serialized;
+    }
+
+    private SerializedList serialize(RosterSnapshot snapshot, Object body) {
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(body);
+            String tag = snapshot.version() != null
+                    ? snapshot.version().eventId()
+                    : "d-" + DigestUtils.md5DigestAsHex(json);
+            return new SerializedList(snapshot, body, tag, json, gzip(json));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize list response", e);
+        }
+    }
+
+    private static byte[] gzip(byte[] bytes) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(512, bytes.length / 4));
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(bytes);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    private static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        return Arrays.stream(acceptEncoding.split(","))
+                .map(String::trim)
+                .anyMatch(coding -> coding.regionMatches(true, 0, GZIP, 0, GZIP.length())
+                        && !coding.replace(" ", "").matches("(?i)gzip;q=0(\\.0*)?"));
+    }
+
+    /**
+     * @param body the rendered object the bytes were serialized from
+     * @param tag unquoted entity tag of the plain representation
+     */
+    record SerializedList(RosterSnapshot snapshot, Object body, String tag, byte[] json, byte[] gzip) {
+
+        String eTag() {
+            return "\"" + tag + "\"";
+        }
+
+        String gzipETag() {
+            return "\"" + tag + GZIP_SUFFIX + "\"";
+        }
+
+        boolean matches(String ifNoneMatch) {
+            if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+                return false;
+            }
+            String plain = eTag();
+            String gzip = gzipETag();
+            return Arrays.stream(ifNoneMatch.split(","))
+                    .map(String::trim)
+                    .map(eTag -> eTag.startsWith(WEAK_PREFIX) ? eTag.substring(WEAK_PREFIX.length()) : eTag)
+                    .anyMatch(eTag -> eTag.equals("*") || eTag.equals(plain) || eTag.equals(gzip));
+        }
+    }
+}
@@ -0,0 +1,8 @@
+package com.reliaquest.api.model;
+
+import java.util.Map;
+
+/**
+ * @param histogram employee counts per ten-year band, keyed as {@code 20-29}
+ */
+public record AgeAnalytics(long count, double average, int min, int max, Map<String, Long> histogram) {}
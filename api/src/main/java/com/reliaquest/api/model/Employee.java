@@ -1,11 +1,155 @@
 package com.reliaquest.api.model;
 
+import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import java.util.Arrays;
+import java.util.Objects;
 
-public record Employee(
-        String id,
-        @JsonProperty("employee_name") String employeeName,
-        @JsonProperty("employee_salary") int employeeSalary,
-        @JsonProperty("employee_age") int employeeAge,
-        @JsonProperty("employee_title") String employeeTitle,
-        @JsonProperty("employee_email") String employeeEmail) {}
+/**
+ * An employee as served by this API. Immutable, with the accessors, equality and string form of a record.
+ *
+ * @implNote Deserialization goes through the {@link EmployeeStrings} dictionaries: the title is canonical and the
+ * email is held as its encoded local part and canonical domain, decoded on each {@link #employeeEmail()} call.
+ * Columnar rosters hand their encoded emails over with {@link #withEncodedEmail} so both share one copy.
+ */
+@JsonPropertyOrder({"id", "employee_name", "employee_salary", "employee_age", "employee_title", "employee_email"})
+public final class Employee {
+
+    private final String id;
+    private final String employeeName;
+    private final int employeeSalary;
+    private final int employeeAge;
+    private final String employeeTitle;
+    private final byte[] emailLocalPart;
+    private final String emailDomain;
+
+    @JsonCreator
+    public Employee(
+            @JsonProperty("id") String id,
+            @JsonProperty("employee_name") String employeeName,
+            @JsonProperty("employee_salary") int employeeSalary,
+            @JsonProperty("employee_age") int employeeAge,
+            @JsonProperty("employee_title") String employeeTitle,
+            @JsonProperty("employee_email") String employeeEmail) {
+        this(
+                id,
+                employeeName,
+                employeeSalary,
+                employeeAge,
+                EmployeeStrings.title(employeeTitle),
+                EmployeeStrings.emailLocalPart(employeeEmail),
+                EmployeeStrings.emailDomain(employeeEmail));
+    }
+
+    private Employee(
+            String id,
+            String employeeName,
+            int employeeSalary,
+            int employeeAge,
+            String employeeTitle,
+            byte[] emailLocalPart,
+            String emailDomain) {
+        this.id = id;
+        this.employeeName = employeeName;
+        this.employeeSalary = employeeSalary;
+        this.employeeAge = employeeAge;
+        this.employeeTitle = employeeTitle;
+        this.emailLocalPart = emailLocalPart;
+        this.emailDomain = emailDomain;
+    }
+
+    /**
+     * Creates an employee around an email already split by {@link EmployeeStrings}, sharing rather than copying it.
+     * The local part must not be modified afterwards.
+     */
+    public static Employee withEncodedEmail(
+            String id,
+            String employeeName,
+            int employeeSalary,
+            int employeeAge,
+            String employeeTitle,
+            byte[] emailLocalPart,
+            String emailDomain) {
+        return new Employee(
+                id,
+                employeeName,
+                employeeSalary,
+                employeeAge,
+                EmployeeStrings.title(employeeTitle),
+                emailLocalPart,
+                emailDomain);
+    }
+
+    @JsonProperty("id")
+    public String id() {
+        return id;
+    }
+
+    @JsonProperty("employee_name")
+    public String employeeName() {
+        return employeeName;
+    }
+
+    @JsonProperty("employee_salary")
+    public int employeeSalary() {
+        return employeeSalary;
+    }
+
+    @JsonProperty("employee_age")
+    public int employeeAge() {
+        return employeeAge;
+    }
+
+    @JsonProperty("employee_title")
+    public String employeeTitle() {
+        return employeeTitle;
+    }
+
+    @JsonProperty("employee_email")
+    public String employeeEmail() {
+        return EmployeeStrings.email(emailLocalPart, emailDomain);
+    }
+
+    /**
+     * @return the encoded local part of the email, shared with this employee; must not be modified
+     */
+    public byte[] emailLocalPart() {
+        return emailLocalPart;
+    }
+
+    /**
+     * @return the canonical email domain, or null if the email has none
+     */
+    public String emailDomain() {
+        return emailDomain;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        return o instanceof Employee other
+                && employeeSalary == other.employeeSalary
+                && employeeAge == other.employeeAge
+                && Objects.equals(id, other.id)
+                && Objects.equals(employeeName, other.employeeName)
+                && Objects.equals(employeeTitle, other.employeeTitle)
+                && Arrays.equals(emailLocalPart, other.emailLocalPart)
+                && Objects.equals(emailDomain, other.emailDomain);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = Objects.hash(id, employeeName, employeeSalary, employeeAge, employeeTitle, emailDomain);
+        return 31 * result + Arrays.hashCode(emailLocalPart);
+    }
+
+    @Override
+    public String toString() {
+        return "Employee[id=" + id + ", employeeName=" + employeeName + ", employeeSalary=" + employeeSalary
+                + ", employeeAge=" + employeeAge + ", employeeTitle=" + employeeTitle + ", employeeEmail="
+                + employeeEmail() + "]";
+    }
+}
@@ -0,0 +1,9 @@
+package com.reliaquest.api.model;
+
+public record EmployeeChange(long sequence, Type type, Employee employee) {
+
+    public enum Type {
+        CREATED,
+        DELETED
+    }
+}
@@ -0,0 +1,5 @@
+package com.reliaquest.api.model;
+
+import java.util.List;
+
+public record EmployeeChanges(String epoch, long since, long latest, boolean reset, List<EmployeeChange> changes) {}
@@ -0,0 +1,3 @@
+package com.reliaquest.api.model;
+
+public record EmployeeChangesResponse(EmployeeChanges data, String status) {}
@@ -0,0 +1,26 @@
+package com.reliaquest.api.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * Outcome of looking up one id in a bulk request; {@code employee} is only present when {@code status} is FOUND.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record EmployeeLookup(String id, Status status, Employee employee) {
+
+    public enum Status {
+        FOUND,
+        NOT_FOUND,
+        INVALID_ID,
+        /** The upstream could not be reached for this id; retrying later may succeed. */
+        UNAVAILABLE
+    }
+
+    public static EmployeeLookup found(Employee employee) {
+        return new EmployeeLookup(employee.id(), Status.FOUND, employee);
+    }
+
+    public static EmployeeLookup of(String id, Status status) {
+        return new EmployeeLookup(id, status, null);
+    }
+}
@@ -0,0 +1,5 @@
+package com.reliaquest.api.model;
+
+import java.util.List;
+
+public record EmployeeLookupResponse(List<EmployeeLookup> data, String status) {}
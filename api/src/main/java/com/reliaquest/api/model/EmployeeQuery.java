@@ -0,0 +1,36 @@
+package com.reliaquest.api.model;
+
+/**
+ * Combinable roster filters; absent (null or blank) fields do not constrain the result.
+ *
+ * @param name case-insensitive substring of the employee name
+ * @param title case-insensitive exact title
+ * @param emailDomain case-insensitive domain after the {@code @} of the email
+ */
+public record EmployeeQuery(
+        String name,
+        String title,
+        Integer minAge,
+        Integer maxAge,
+        Integer minSalary,
+        Integer maxSalary,
+        String emailDomain) {
+
+    public EmployeeQuery {
+        name = blankToNull(name);
+        title = blankToNull(title);
+        emailDomain = blankToNull(emailDomain);
+    }
+
+    public boolean hasAgeRange() {
+        return minAge != null || maxAge != null;
+    }
+
+    public boolean hasSalaryRange() {
+        return minSalary != null || maxSalary != null;
+    }
+
+    private static String blankToNull(String value) {
+        return value == null || value.isBlank() ? null : value;
+    }
+}
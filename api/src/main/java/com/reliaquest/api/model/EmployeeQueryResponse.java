@@ -0,0 +1,10 @@
+package com.reliaquest.api.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import java.util.List;
+
+/**
+ * @param plan explain output, omitted unless requested
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record EmployeeQueryResponse(List<Employee> data, QueryPlan plan) {}
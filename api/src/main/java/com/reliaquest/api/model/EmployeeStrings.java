@@ -0,0 +1,84 @@
+package com.reliaquest.api.model;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Canonical instances of the text employee records repeat, applied as records are deserialized, so rosters, by-id
+ * reads and change events share one copy of each title and email domain instead of every response bringing its own.
+ * Emails are split into the UTF-8 bytes of the local part and a canonical domain, which for the usual ASCII address
+ * costs one byte array instead of a string and its array.
+ *
+ * @implNote Titles and domains come from small vocabularies and are kept in process-wide dictionaries. Each holds at
+ * most {@link #MAX_ENTRIES} values; past that, new values are used as they are rather than retained forever.
+ */
+public final class EmployeeStrings {
+
+    static final int MAX_ENTRIES = 1 << 16;
+
+    private static final byte[] EMPTY = new byte[0];
+
+    private static final Map<String, String> TITLES = new ConcurrentHashMap<>();
+    private static final Map<String, String> DOMAINS = new ConcurrentHashMap<>();
+
+    private EmployeeStrings() {}
+
+    /**
+     * @return the canonical instance equal to {@code title}, or {@code title} itself once the dictionary is full
+     */
+    public static String title(String title) {
+        return canonical(TITLES, title);
+    }
+
+    /**
+     * @return the canonical domain (the text after the last {@code @}) of an email, or null if it has none
+     */
+    public static String emailDomain(String email) {
+        if (email == null) {
+            return null;
+        }
+        int at = email.lastIndexOf('@');
+        return at < 0 ? null : canonical(DOMAINS, email.substring(at + 1));
+    }
+
+    /**
+     * @return the UTF-8 bytes of the email up to its last {@code @} (all of it if there is none), or null for no email
+     */
+    public static byte[] emailLocalPart(String email) {
+        if (email == null) {
+            return null;
+        }
+        if (email.isEmpty()) {
+            return EMPTY;
+        }
+        int at = email.lastIndexOf('@');
+        return (at < 0 ? email : email.substring(0, at)).getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Reverses {@link #emailLocalPart} and {@link #emailDomain}.
+     */
+    public static String email(byte[] localPart, String domain) {
+        if (localPart == null) {
+            return null;
+        }
+        String local = new String(localPart, StandardCharsets.UTF_8);
+        return domain == null ? local : local + '@' + domain;
+    }
+
+    private static String canonical(Map<String, String> dictionary, String value) {
+        if (value == null) {
+            return null;
+        }
+        String canonical = dictionary.get(value);
+        if (canonical != null) {
+            return canonical;
+        }
+        if (dictionary.size() >= MAX_ENTRIES) {
+            return value;
+        }
+        canonical = dictionary.putIfAbsent(value, value);
+        return canonical == null ? value : canonical;
+    }
+}
@@ -0,0 +1,21 @@
+package com.reliaquest.api.model;
+
+import java.util.List;
+
+/**
+ * Explain output for an {@link EmployeeQuery}.
+ *
+ * @param strategy {@code INDEX} when an index supplied the candidate rows, {@code SCAN} otherwise
+ * @param driver the index that supplied the candidates, e.g. {@code title hash}, or {@code roster} for a scan
+ * @param estimatedRows the planner's candidate estimate for the driver
+ * @param examinedRows candidate rows checked against every predicate
+ * @param considered every applicable index with its estimate, in the order they were costed
+ */
+public record QueryPlan(
+        String strategy,
+        String driver,
+        int estimatedRows,
+        int examinedRows,
+        int matchedRows,
+        List<String> considered,
+        long elapsedMicros) {}
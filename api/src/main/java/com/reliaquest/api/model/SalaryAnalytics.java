@@ -0,0 +1,9 @@
+package com.reliaquest.api.model;
+
+import java.util.Map;
+
+/**
+ * @param percentiles approximate salary percentiles keyed as {@code p50}, {@code p90}, ...
+ */
+public record SalaryAnalytics(
+        long count, long total, double average, int min, int max, Map<String, Integer> percentiles) {}
@@ -0,0 +1,3 @@
+package com.reliaquest.api.model;
+
+public record TitleSalaryAnalytics(String title, long count, long total, double average) {}
@@ -0,0 +1,73 @@
+package com.reliaquest.api.model;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import java.time.Instant;
+import java.util.Objects;
+
+/**
+ * A create or delete accepted for asynchronous execution against the upstream.
+ *
+ * @param employee for CREATE, the requested employee until it succeeds and the created one afterwards
+ * @param employeeId for DELETE, the employee to delete; for CREATE, the created employee's id once known
+ * @param error why the operation FAILED
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record WriteOperation(
+        String id,
+        Type type,
+        String idempotencyKey,
+        Status status,
+        Employee employee,
+        String employeeId,
+        String error,
+        Instant submittedAt,
+        Instant completedAt) {
+
+    public enum Type {
+        CREATE,
+        DELETE
+    }
+
+    public enum Status {
+        PENDING,
+        IN_PROGRESS,
+        SUCCEEDED,
+        FAILED
+    }
+
+    @JsonIgnore
+    public boolean isCompleted() {
+        return status == Status.SUCCEEDED || status == Status.FAILED;
+    }
+
+    public WriteOperation inProgress() {
+        return new WriteOperation(
+                id, type, idempotencyKey, Status.IN_PROGRESS, employee, employeeId, null, submittedAt, null);
+    }
+
+    public WriteOperation succeeded(Employee result, String resultId, Instant at) {
+        return new WriteOperation(id, type, idempotencyKey, Status.SUCCEEDED, result, resultId, null, submittedAt, at);
+    }
+
+    public WriteOperation failed(String reason, Instant at) {
+        return new WriteOperation(
+                id, type, idempotencyKey, Status.FAILED, employee, employeeId, reason, submittedAt, at);
+    }
+
+    /**
+     * @return true if {@code other} asks for the same write, so a repeated idempotency key can be answered with this
+     *     operation
+     */
+    public boolean sameRequestAs(WriteOperation other) {
+        return type == other.type
+                && (type == Type.DELETE ? employeeId.equals(other.employeeId) : sameInput(employee, other.employee));
+    }
+
+    private static boolean sameInput(Employee left, Employee right) {
+        return Objects.equals(left.employeeName(), right.employeeName())
+                && left.employeeSalary() == right.employeeSalary()
+                && left.employeeAge() == right.employeeAge()
+                && Objects.equals(left.employeeTitle(), right.employeeTitle());
+    }
+}
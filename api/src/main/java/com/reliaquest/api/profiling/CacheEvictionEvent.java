@@ -0,0 +1,21 @@
+package com.reliaquest.api.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("com.reliaquest.api.CacheEviction")
+@Label("Cache Eviction")
+@Category({"Employee API", "Cache"})
+@Description("An entry, or a whole cache, was evicted")
+public final class CacheEvictionEvent extends Event {
+
+    @Label("Cache")
+    public String cache;
+
+    @Label("Key")
+    @Description("Evicted key, or * when the whole cache was cleared")
+    public String key;
+}
@@ -0,0 +1,29 @@
+package com.reliaquest.api.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Spans a cache miss until the loaded value is stored, so its duration is the time the caller waited for the load.
+ */
+@Name("com.reliaquest.api.CacheLoad")
+@Label("Cache Load")
+@Category({"Employee API", "Cache"})
+@Description("A cache miss and the load that filled it")
+@StackTrace(false)
+public final class CacheLoadEvent extends Event {
+
+    @Label("Cache")
+    public String cache;
+
+    @Label("Key")
+    public String key;
+
+    @Label("Loaded")
+    @Description("False if the load failed or stored nothing")
+    public boolean loaded;
+}
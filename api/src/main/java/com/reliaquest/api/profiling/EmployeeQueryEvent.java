@@ -0,0 +1,26 @@
+package com.reliaquest.api.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * A query answered from the roster snapshot, including the roster read (and any upstream load) it started with.
+ */
+@Name("com.reliaquest.api.EmployeeQuery")
+@Label("Employee Query")
+@Category({"Employee API", "Query"})
+@Description("A roster query of the employee service")
+@StackTrace(false)
+public final class EmployeeQueryEvent extends Event {
+
+    @Label("Operation")
+    public String operation;
+
+    @Label("Result Size")
+    @Description("Number of results, or -1 for a single value")
+    public int resultSize;
+}
@@ -0,0 +1,149 @@
+package com.reliaquest.api.profiling;
+
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.text.ParseException;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.autoconfigure.web.server.ConditionalOnManagementPort;
+import org.springframework.boot.actuate.autoconfigure.web.server.ManagementPortType;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.boot.actuate.endpoint.web.annotation.WebEndpoint;
+import org.springframework.core.io.InputStreamResource;
+import org.springframework.core.io.Resource;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+/**
+ * Starts, stops and dumps an in-process Java Flight Recorder recording, so hot paths can be profiled in place:
+ * <ul>
+ *   <li>{@code POST /actuator/flightrecording} starts a recording (replacing the previous one), optionally with
+ *   {@code {"settings": "default", "maxAgeSeconds": 600}}; {@code profile} settings are used by default.
+ *   <li>{@code GET /actuator/flightrecording} downloads what has been recorded so far as a {@code .jfr} file, for JDK
+ *   Mission Control or {@code jfr print}.
+ *   <li>{@code DELETE /actuator/flightrecording} stops the recording; it can still be downloaded until the next start.
+ * </ul>
+ * Besides the JDK's own events, recordings include this application's {@code com.reliaquest.api.*} events.
+ *
+ * <p>The endpoint only exists when actuator runs on its own {@code management.server.port}, which should be bound to
+ * a private address, and it still has to be added to {@code management.endpoints.web.exposure.include}. Recordings
+ * leave out the JVM's system properties, environment variables and command line, which may carry secrets.
+ *
+ * @implNote Recordings are kept in memory and on disk by the JVM, bounded by {@code employee.profiling.max-age-ms}
+ * (or a shorter age given per start) and {@code employee.profiling.max-size-mb}.
+ */
+@Slf4j
+@Component
+@ConditionalOnManagementPort(ManagementPortType.DIFFERENT)
+@WebEndpoint(id = "flightrecording")
+public class FlightRecordingEndpoint {
+
+    private static final String DEFAULT_SETTINGS = "profile";
+    private static final List<String> SENSITIVE_EVENTS =
+            List.of("jdk.InitialSystemProperty", "jdk.InitialEnvironmentVariable", "jdk.JVMInformation");
+
+    private final Duration maxAge;
+    private final long maxSizeBytes;
+
+    private Recording recording;
+
+    @Autowired
+    public FlightRecordingEndpoint(
+            @Value("${employee.profiling.max-age-ms:600000}") long maxAgeMs,
+            @Value("${employee.profiling.max-size-mb:64}") long maxSizeMb) {
+        this.maxAge = Duration.ofMillis(maxAgeMs);
+        this.maxSizeBytes = maxSizeMb * 1024 * 1024;
+    }
+
+    @WriteOperation
+    public synchronized WebEndpointResponse<Map<String, Object>> start(
+            @Nullable String settings, @Nullable Long maxAgeSeconds) {
+        if (maxAgeSeconds != null && maxAgeSeconds <= 0) {
+            return new WebEndpointResponse<>(
+                    Map.of("error", "maxAgeSeconds must be positive"), WebEndpointResponse.STATUS_BAD_REQUEST);
+        }
+        Configuration configuration;
+        try {
+            configuration = Configuration.getConfiguration(settings == null ? DEFAULT_SETTINGS : settings);
+        } catch (ParseException | IOException e) {
+            return new WebEndpointResponse<>(
+                    Map.of("error", "Unknown recording settings " + settings), WebEndpointResponse.STATUS_BAD_REQUEST);
+        }
+        closeRecording();
+        Duration age = maxAgeSeconds == null || maxAgeSeconds > maxAge.toSeconds()
+                ? maxAge
+                : Duration.ofSeconds(maxAgeSeconds);
+        Recording started = new Recording(configuration);
+        SENSITIVE_EVENTS.forEach(started::disable);
+        started.setName("employee-api");
+        started.setToDisk(true);
+        started.setMaxAge(age);
+        started.setMaxSize(maxSizeBytes);
+        started.start();
+        recording = started;
+        log.info("Started flight recording {} with {} settings", started.getId(), configuration.getName());
+        return new WebEndpointResponse<>(status(started));
+    }
+
+    /*
+     * Dumped to a temporary file that is deleted once the response has been streamed from it.
+     */
+    @ReadOperation
+    public synchronized WebEndpointResponse<Resource> dump() throws IOException {
+        if (recording == null) {
+            return new WebEndpointResponse<>(WebEndpointResponse.STATUS_NOT_FOUND);
+        }
+        Path file = Files.createTempFile("employee-api-", ".jfr");
+        try {
+            recording.dump(file);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(file);
+            throw e;
+        }
+        return new WebEndpointResponse<>(
+                new InputStreamResource(Files.newInputStream(file, StandardOpenOption.DELETE_ON_CLOSE)));
+    }
+
+    @DeleteOperation
+    public synchronized WebEndpointResponse<Map<String, Object>> stop() {
+        if (recording == null || recording.getState() != RecordingState.RUNNING) {
+            return new WebEndpointResponse<>(WebEndpointResponse.STATUS_NOT_FOUND);
+        }
+        recording.stop();
+        log.info("Stopped flight recording {}", recording.getId());
+        return new WebEndpointResponse<>(status(recording));
+    }
+
+    @PreDestroy
+    public synchronized void closeRecording() {
+        if (recording != null) {
+            recording.close();
+            recording = null;
+        }
+    }
+
+    private static Map<String, Object> status(Recording recording) {
+        Map<String, Object> status = new LinkedHashMap<>();
+        status.put("id", recording.getId());
+        status.put("state", recording.getState().name());
+        status.put("startTime", String.valueOf(recording.getStartTime()));
+        status.put("stopTime", String.valueOf(recording.getStopTime()));
+        status.put("maxAge", String.valueOf(recording.getMaxAge()));
+        status.put("size", recording.getSize());
+        return status;
+    }
+}
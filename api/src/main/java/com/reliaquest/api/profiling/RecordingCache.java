@@ -0,0 +1,137 @@
+package com.reliaquest.api.profiling;
+
+import java.util.concurrent.Callable;
+import org.springframework.cache.Cache;
+
+/**
+ * Records {@link CacheLoadEvent}s and {@link CacheEvictionEvent}s around a cache.
+ *
+ * @implNote A synchronized load is timed around its value loader. Otherwise Spring's caching aspect looks a key up,
+ * invokes the cached method on a miss and stores its result from the same thread, so a miss starts a load event that
+ * the next put of that key on the thread completes.
+ */
+final class RecordingCache implements Cache {
+
+    private static final String ALL_KEYS = "*";
+
+    private final Cache delegate;
+    private final ThreadLocal<PendingLoad> pending = new ThreadLocal<>();
+
+    RecordingCache(Cache delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public String getName() {
+        return delegate.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return delegate.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        ValueWrapper value = delegate.get(key);
+        if (value == null) {
+            startLoad(key);
+        }
+        return value;
+    }
+
+    @Override
+    public <T> T get(Object key, Class<T> type) {
+        return delegate.get(key, type);
+    }
+
+    @Override
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        return delegate.get(key, () -> {
+            CacheLoadEvent event = new CacheLoadEvent();
+            event.begin();
+            try {
+                T value = valueLoader.call();
+                event.loaded = true;
+                return value;
+            } finally {
+                event.cache = getName();
+                event.key = String.valueOf(key);
+                event.commit();
+            }
+        });
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        delegate.put(key, value);
+        PendingLoad load = pending.get();
+        if (load != null) {
+            pending.remove();
+            if (load.key().equals(key)) {
+                load.event().loaded = true;
+                load.event().commit();
+            }
+        }
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        return delegate.putIfAbsent(key, value);
+    }
+
+    @Override
+    public void evict(Object key) {
+        delegate.evict(key);
+        recordEviction(String.valueOf(key));
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        boolean evicted = delegate.evictIfPresent(key);
+        if (evicted) {
+            recordEviction(String.valueOf(key));
+        }
+        return evicted;
+    }
+
+    @Override
+    public void clear() {
+        delegate.clear();
+        recordEviction(ALL_KEYS);
+    }
+
+    @Override
+    public boolean invalidate() {
+        boolean invalidated = delegate.invalidate();
+        recordEviction(ALL_KEYS);
+        return invalidated;
+    }
+
+    Cache delegate() {
+        return delegate;
+    }
+
+    private void startLoad(Object key) {
+        CacheLoadEvent event = new CacheLoadEvent();
+        if (!event.isEnabled()) {
+            return;
+        }
+        event.cache = getName();
+        event.key = String.valueOf(key);
+        event.begin();
+        // Replaces a load that never completed, e.g. because the cached method threw.
+        pending.set(new PendingLoad(key, event));
+    }
+
+    private void recordEviction(String key) {
+        CacheEvictionEvent event = new CacheEvictionEvent();
+        if (event.shouldCommit()) {
+            event.cache = getName();
+            event.key = key;
+            event.commit();
+        }
+    }
+
+    private record PendingLoad(Object key, CacheLoadEvent event) {}
+}
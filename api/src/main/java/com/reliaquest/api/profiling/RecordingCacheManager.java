@@ -0,0 +1,52 @@
+package com.reliaquest.api.profiling;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+/**
+ * Wraps every cache of another manager in a {@link RecordingCache}. Closing it closes the wrapped manager, if it is
+ * closeable.
+ */
+public final class RecordingCacheManager implements CacheManager, AutoCloseable {
+
+    private final CacheManager delegate;
+    private final Map<String, RecordingCache> caches = new ConcurrentHashMap<>();
+
+    public RecordingCacheManager(CacheManager delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        Cache cache = delegate.getCache(name);
+        if (cache == null) {
+            return null;
+        }
+        RecordingCache recording = caches.get(name);
+        if (recording == null || recording.delegate() != cache) {
+            // First use, or the manager replaced the cache (e.g. when reconfigured).
+            recording = new RecordingCache(cache);
+            caches.put(name, recording);
+        }
+        return recording;
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return delegate.getCacheNames();
+    }
+
+    public CacheManager delegate() {
+        return delegate;
+    }
+
+    @Override
+    public void close() throws Exception {
+        if (delegate instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+}
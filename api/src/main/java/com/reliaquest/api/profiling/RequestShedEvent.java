@@ -0,0 +1,28 @@
+package com.reliaquest.api.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.reliaquest.api.RequestShed")
+@Label("Request Shed")
+@Category({"Employee API", "Web"})
+@Description("A request rejected with 503 because its concurrency budget was exhausted")
+@StackTrace(false)
+public final class RequestShedEvent extends Event {
+
+    @Label("Budget")
+    public String budget;
+
+    @Label("Limit")
+    public int limit;
+
+    @Label("In Flight")
+    public int inFlight;
+
+    @Label("Path")
+    public String path;
+}
@@ -0,0 +1,28 @@
+package com.reliaquest.api.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.reliaquest.api.ResponseSerialization")
+@Label("Response Serialization")
+@Category({"Employee API", "Web"})
+@Description("A list response rendered to JSON and compressed for caching")
+@StackTrace(false)
+public final class ResponseSerializationEvent extends Event {
+
+    @Label("Response")
+    public String response;
+
+    @Label("JSON Size")
+    @DataAmount
+    public long jsonBytes;
+
+    @Label("Gzip Size")
+    @DataAmount
+    public long gzipBytes;
+}
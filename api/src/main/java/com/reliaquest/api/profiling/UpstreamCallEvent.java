@@ -0,0 +1,30 @@
+package com.reliaquest.api.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * One HTTP exchange with the mock server; hedged reads record one event per attempt.
+ */
+@Name("com.reliaquest.api.UpstreamCall")
+@Label("Upstream Call")
+@Category({"Employee API", "Upstream"})
+@Description("An HTTP exchange with the upstream employee server")
+@StackTrace(false)
+public final class UpstreamCallEvent extends Event {
+
+    @Label("Operation")
+    public String operation;
+
+    @Label("Status")
+    @Description("HTTP status of the response, or 0 if none was received")
+    public int status;
+
+    @Label("Failure")
+    @Description("Exception the exchange failed with, if any")
+    public String failure;
+}
@@ -0,0 +1,23 @@
+package com.reliaquest.api.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.reliaquest.api.UpstreamRateLimited")
+@Label("Upstream Rate Limited")
+@Category({"Employee API", "Upstream"})
+@Description("The upstream answered 429 Too Many Requests")
+@StackTrace(false)
+public final class UpstreamRateLimitedEvent extends Event {
+
+    @Label("Operation")
+    public String operation;
+
+    @Label("Retry After")
+    @Description("Retry-After header of the response, if present")
+    public String retryAfter;
+}
@@ -0,0 +1,26 @@
+package com.reliaquest.api.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.reliaquest.api.UpstreamRetry")
+@Label("Upstream Retry")
+@Category({"Employee API", "Upstream"})
+@Description("An attempt of a retryable upstream operation failed")
+@StackTrace(false)
+public final class UpstreamRetryEvent extends Event {
+
+    @Label("Operation")
+    public String operation;
+
+    @Label("Attempt")
+    @Description("Number of the attempt that failed, starting at 1")
+    public int attempt;
+
+    @Label("Failure")
+    public String failure;
+}
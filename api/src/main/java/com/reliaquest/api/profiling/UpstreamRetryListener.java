@@ -0,0 +1,34 @@
+package com.reliaquest.api.profiling;
+
+import org.springframework.retry.RetryCallback;
+import org.springframework.retry.RetryContext;
+import org.springframework.retry.RetryListener;
+
+/**
+ * Records an {@link UpstreamRetryEvent} for every failed attempt of a {@code @Retryable} operation. As a bean it is
+ * applied to all of them.
+ */
+public class UpstreamRetryListener implements RetryListener {
+
+    @Override
+    public <T, E extends Throwable> void onError(
+            RetryContext context, RetryCallback<T, E> callback, Throwable throwable) {
+        UpstreamRetryEvent event = new UpstreamRetryEvent();
+        if (event.shouldCommit()) {
+            event.operation = operationName(context);
+            event.attempt = context.getRetryCount();
+            event.failure = throwable.getClass().getSimpleName() + ": " + throwable.getMessage();
+            event.commit();
+        }
+    }
+
+    /*
+     * Retry interceptors name the context after the method's generic signature; the method name is enough here.
+     */
+    static String operationName(RetryContext context) {
+        String name = String.valueOf(context.getAttribute(RetryContext.NAME));
+        int parameters = name.indexOf('(');
+        String qualified = parameters < 0 ? name : name.substring(0, parameters);
+        return qualified.substring(qualified.lastIndexOf('.') + 1);
+    }
+}
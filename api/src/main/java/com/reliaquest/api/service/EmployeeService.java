@@ -1,59 +1,336 @@
 package com.reliaquest.api.service;
 
+import com.reliaquest.api.model.AgeAnalytics;
 import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.EmployeeLookup;
+import com.reliaquest.api.model.EmployeeQuery;
+import com.reliaquest.api.model.EmployeeQueryResponse;
+import com.reliaquest.api.model.SalaryAnalytics;
+import com.reliaquest.api.model.TitleSalaryAnalytics;
+import com.reliaquest.api.profiling.EmployeeQueryEvent;
 import com.reliaquest.api.service.client.ServerClient;
+import com.reliaquest.api.service.client.UpstreamUnavailableException;
+import com.reliaquest.api.service.query.EmployeeQueryPlanner;
+import com.reliaquest.api.service.roster.DuplicateEmployeeException;
+import com.reliaquest.api.service.roster.EmployeeDuplicates;
+import com.reliaquest.api.service.roster.FoldedNames;
+import com.reliaquest.api.service.roster.NameMatcher;
+import com.reliaquest.api.service.roster.RosterAggregates;
+import com.reliaquest.api.service.roster.RosterColumns;
+import com.reliaquest.api.service.roster.RosterIdentities;
+import com.reliaquest.api.service.roster.RosterParallelism;
+import com.reliaquest.api.service.roster.RosterSnapshot;
+import com.reliaquest.api.service.roster.RosterSnapshots;
+import com.reliaquest.api.service.roster.SearchResultCache;
 import java.util.*;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
+@Slf4j
 @Service
 public class EmployeeService {
 
+    private static final int[] REPORTED_PERCENTILES = {25, 50, 75, 90, 99};
+    private static final int AGE_BAND_WIDTH = 10;
+    private static final int TOP_EARNERS = 10;
+    private static final Pattern EMPLOYEE_ID = Pattern.compile("[0-9a-fA-F\\-]{36}");
+
+    // Matchers keep their (bounded) buffers between searches; scans run on request and fork-join threads alike.
+    private static final ThreadLocal<NameMatcher> NAME_MATCHERS = ThreadLocal.withInitial(NameMatcher::new);
+
     private final ServerClient serverClient;
 
+    private final RosterSnapshots rosterSnapshots;
+
+    private final RosterParallelism rosterParallelism;
+
+    private final SearchResultCache searchResultCache;
+
+    private final EmployeeDuplicates employeeDuplicates;
+
     @Autowired
-    public EmployeeService(ServerClient serverClient) {
+    public EmployeeService(
+            ServerClient serverClient,
+            RosterSnapshots rosterSnapshots,
+            RosterParallelism rosterParallelism,
+            SearchResultCache searchResultCache,
+            EmployeeDuplicates employeeDuplicates) {
         this.serverClient = serverClient;
+        this.rosterSnapshots = rosterSnapshots;
+        this.rosterParallelism = rosterParallelism;
+        this.searchResultCache = searchResultCache;
+        this.employeeDuplicates = employeeDuplicates;
     }
 
+    /**
+     * While the upstream circuit is open and the roster is not cached, the last known roster is served instead.
+     */
     public List<Employee> getAllEmployees() {
-        return serverClient.fetchAllEmployees();
+        try {
+            return serverClient.fetchAllEmployees();
+        } catch (UpstreamUnavailableException e) {
+            return rosterSnapshots.lastKnown().orElseThrow(() -> e).employees();
+        }
+    }
+
+    /**
+     * @return the snapshot of the roster {@link #getAllEmployees()} currently returns
+     */
+    public RosterSnapshot getRosterSnapshot() {
+        return snapshot();
     }
 
     public List<Employee> searchEmployeesByName(String name) {
-        return getAllEmployees().stream()
-                .filter(emp -> emp.employeeName().toLowerCase().contains(name.toLowerCase()))
-                .collect(Collectors.toList());
+        EmployeeQueryEvent event = beginQuery();
+        RosterSnapshot snapshot = snapshot();
+        return endQuery(
+                event,
+                "searchEmployeesByName",
+                searchResultCache.get(snapshot, name, () -> scanNames(snapshot.columns(), name)));
     }
 
+    /**
+     * Falls back to the last known roster like {@link #getAllEmployees()}.
+     */
     public Employee getEmployeeById(String id) {
-        return serverClient.fetchEmployeeById(id);
+        try {
+            return serverClient.fetchEmployeeById(id);
+        } catch (UpstreamUnavailableException e) {
+            return rosterSnapshots
+                    .lastKnown()
+                    .map(snapshot -> snapshot.byId().get(id))
+                    .orElseThrow(() -> e);
+        }
+    }
+
+    /**
+     * Resolves ids from the roster snapshot and id cache first; the rest are fetched upstream in batches of
+     * {@link ServerClient#MAX_LOOKUP_IDS}. A batch that fails after retries marks its ids UNAVAILABLE instead of
+     * failing the whole lookup.
+     *
+     * @return one outcome per distinct id, in request order
+     */
+    public List<EmployeeLookup> getEmployeesByIds(List<String> ids) {
+        List<String> distinctIds = ids.stream().distinct().toList();
+        Map<String, EmployeeLookup> lookups = new HashMap<>();
+        List<String> wellFormed = new ArrayList<>();
+        for (String id : distinctIds) {
+            if (id == null || !EMPLOYEE_ID.matcher(id).matches()) {
+                lookups.put(id, EmployeeLookup.of(id, EmployeeLookup.Status.INVALID_ID));
+            } else {
+                wellFormed.add(id);
+            }
+        }
+
+        Map<String, Employee> cached = rosterSnapshots.cachedEmployees(wellFormed);
+        List<String> misses = new ArrayList<>();
+        for (String id : wellFormed) {
+            Employee employee = cached.get(id);
+            if (employee != null) {
+                lookups.put(id, EmployeeLookup.found(employee));
+            } else {
+                misses.add(id);
+            }
+        }
+
+        for (int from = 0; from < misses.size(); from += ServerClient.MAX_LOOKUP_IDS) {
+            List<String> batch = misses.subList(from, Math.min(from + ServerClient.MAX_LOOKUP_IDS, misses.size()));
+            try {
+                for (EmployeeLookup lookup : serverClient.fetchEmployeesByIds(batch)) {
+                    lookups.put(lookup.id(), lookup);
+                    if (lookup.status() == EmployeeLookup.Status.FOUND) {
+                        rosterSnapshots.cacheEmployee(lookup.employee());
+                    }
+                }
+            } catch (RuntimeException ex) {
+                log.warn("Upstream lookup of {} id(s) failed: {}", batch.size(), ex.getMessage());
+            }
+            for (String id : batch) {
+                lookups.putIfAbsent(id, EmployeeLookup.of(id, EmployeeLookup.Status.UNAVAILABLE));
+            }
+        }
+        return distinctIds.stream().map(lookups::get).toList();
     }
 
     public int getHighestSalary() {
-        return getAllEmployees().stream()
-                .mapToInt(Employee::employeeSalary)
-                .max()
-                .orElse(0);
+        EmployeeQueryEvent event = beginQuery();
+        RosterColumns columns = snapshot().columns();
+        return endQuery(
+                event, "getHighestSalary", rosterParallelism.reduce(columns.size(), columns::maxSalary, Math::max));
     }
 
     public List<String> getTopTenHighestEarningEmployeeNames() {
-        return getAllEmployees().stream()
-                .sorted(Comparator.comparingInt(Employee::employeeSalary).reversed())
-                .limit(10)
-                .map(Employee::employeeName)
+        return getTopTenHighestEarningEmployeeNames(snapshot());
+    }
+
+    public List<String> getTopTenHighestEarningEmployeeNames(RosterSnapshot snapshot) {
+        EmployeeQueryEvent event = beginQuery();
+        RosterColumns columns = snapshot.columns();
+        int[] rows = rosterParallelism.reduce(
+                columns.size(),
+                (from, to) -> columns.topSalaryRows(TOP_EARNERS, from, to),
+                (left, right) -> columns.mergeTopSalaryRows(left, right, TOP_EARNERS));
+        return endQuery(event, "getTopTenHighestEarningEmployeeNames", columns.names(rows));
+    }
+
+    public List<Employee> getTopEarners(int n) {
+        EmployeeQueryEvent event = beginQuery();
+        RosterColumns columns = snapshot().columns();
+        return endQuery(event, "getTopEarners", columns.employees(columns.topSalaryRows(n)));
+    }
+
+    public List<Employee> getBottomEarners(int n) {
+        EmployeeQueryEvent event = beginQuery();
+        RosterColumns columns = snapshot().columns();
+        return endQuery(event, "getBottomEarners", columns.employees(columns.bottomSalaryRows(n)));
+    }
+
+    public List<Employee> getEmployeesBySalaryRange(int minSalary, int maxSalary) {
+        EmployeeQueryEvent event = beginQuery();
+        RosterColumns columns = snapshot().columns();
+        return endQuery(
+                event, "getEmployeesBySalaryRange", columns.employees(columns.salaryRangeRows(minSalary, maxSalary)));
+    }
+
+    public EmployeeQueryResponse queryEmployees(EmployeeQuery query) {
+        EmployeeQueryEvent event = beginQuery();
+        return endQuery(event, "queryEmployees", EmployeeQueryPlanner.execute(snapshot(), query));
+    }
+
+    public SalaryAnalytics getSalaryAnalytics() {
+        EmployeeQueryEvent event = beginQuery();
+        RosterAggregates aggregates = snapshot().aggregates();
+        Map<String, Integer> percentiles = new LinkedHashMap<>();
+        for (int percentile : REPORTED_PERCENTILES) {
+            percentiles.put("p" + percentile, aggregates.salaryPercentile(percentile));
+        }
+        SalaryAnalytics analytics = new SalaryAnalytics(
+                aggregates.count(),
+                aggregates.salaryTotal(),
+                aggregates.averageSalary(),
+                aggregates.minSalary(),
+                aggregates.maxSalary(),
+                percentiles);
+        return endQuery(event, "getSalaryAnalytics", analytics);
+    }
+
+    public List<TitleSalaryAnalytics> getSalaryAnalyticsByTitle() {
+        EmployeeQueryEvent event = beginQuery();
+        List<TitleSalaryAnalytics> byTitle = snapshot().aggregates().byTitle().entrySet().stream()
+                .map(entry -> new TitleSalaryAnalytics(
+                        entry.getKey(),
+                        entry.getValue().count(),
+                        entry.getValue().salaryTotal(),
+                        entry.getValue().averageSalary()))
+                .sorted(Comparator.comparing(TitleSalaryAnalytics::title))
                 .collect(Collectors.toList());
+        return endQuery(event, "getSalaryAnalyticsByTitle", byTitle);
     }
 
+    public AgeAnalytics getAgeAnalytics() {
+        EmployeeQueryEvent event = beginQuery();
+        RosterAggregates aggregates = snapshot().aggregates();
+        Map<String, Long> histogram = new LinkedHashMap<>();
+        if (aggregates.count() > 0) {
+            int firstBand = aggregates.minAge() / AGE_BAND_WIDTH * AGE_BAND_WIDTH;
+            for (int band = firstBand; band <= aggregates.maxAge(); band += AGE_BAND_WIDTH) {
+                histogram.put(
+                        band + "-" + (band + AGE_BAND_WIDTH - 1), aggregates.countByAge(band, band + AGE_BAND_WIDTH));
+            }
+        }
+        AgeAnalytics analytics = new AgeAnalytics(
+                aggregates.count(), aggregates.averageAge(), aggregates.minAge(), aggregates.maxAge(), histogram);
+        return endQuery(event, "getAgeAnalytics", analytics);
+    }
+
+    /**
+     * Creates the employee unless it duplicates one already on the roster (same name, title and age, or same email)
+     * or one being created concurrently.
+     *
+     * @throws DuplicateEmployeeException if rejected as a duplicate; with the RETURN_EXISTING policy an existing
+     *     match is returned instead
+     */
     public Employee createEmployee(Employee employee) {
-        // TODO: Handle duplicates
-        return serverClient.createEmployee(employee);
+        if (employeeDuplicates.policy() == EmployeeDuplicates.Policy.OFF) {
+            return serverClient.createEmployee(employee);
+        }
+        EmployeeDuplicates.Claim claim;
+        try {
+            claim = employeeDuplicates.claim(snapshot(), employee);
+        } catch (DuplicateEmployeeException e) {
+            if (e.existing() != null && employeeDuplicates.policy() == EmployeeDuplicates.Policy.RETURN_EXISTING) {
+                return e.existing();
+            }
+            throw e;
+        }
+        try {
+            Employee created = serverClient.createEmployee(employee);
+            claim.complete(created);
+            return created;
+        } catch (RuntimeException e) {
+            claim.release();
+            throw e;
+        }
+    }
+
+    /**
+     * Looks the employee up on a roster reloaded past the cache, for writes whose outcome was lost (a create in flight
+     * when the instance stopped), so they are not applied twice.
+     *
+     * @return the employee on the upstream roster with the candidate's identity or email, if any
+     */
+    public Optional<Employee> findOnUpstreamRoster(Employee candidate) {
+        return RosterIdentities.of(serverClient.reloadAllEmployees()).find(candidate);
     }
 
     public String deleteEmployeeById(String id) {
         Employee target = getEmployeeById(id);
         serverClient.deleteEmployee(target);
+        employeeDuplicates.forget(target);
         return target.employeeName();
     }
+
+    private List<Employee> scanNames(RosterColumns columns, String name) {
+        FoldedNames names = columns.foldedNames();
+        int[] rows = rosterParallelism.reduce(
+                columns.size(),
+                (from, to) -> NAME_MATCHERS.get().reset(name).matchRows(names, from, to),
+                RosterParallelism::concat);
+        return columns.employees(rows);
+    }
+
+    private static EmployeeQueryEvent beginQuery() {
+        EmployeeQueryEvent event = new EmployeeQueryEvent();
+        event.begin();
+        return event;
+    }
+
+    /*
+     * Commits the query's event (if a recording wants it) and passes its result through. Failed queries are not
+     * recorded.
+     */
+    private static <T> T endQuery(EmployeeQueryEvent event, String operation, T result) {
+        if (event.shouldCommit()) {
+            event.operation = operation;
+            if (result instanceof Collection<?> collection) {
+                event.resultSize = collection.size();
+            } else if (result instanceof EmployeeQueryResponse response) {
+                event.resultSize = response.data().size();
+            } else {
+                event.resultSize = -1;
+            }
+            event.commit();
+        }
+        return result;
+    }
+
+    /*
+     * Derived views are memoized per roster list, so they are only rebuilt when the cached roster changes.
+     */
+    private RosterSnapshot snapshot() {
+        return rosterSnapshots.resolve(getAllEmployees());
+    }
 }
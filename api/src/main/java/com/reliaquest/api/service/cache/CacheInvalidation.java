@@ -0,0 +1,9 @@
+package com.reliaquest.api.service.cache;
+
+/**
+ * Tells other replicas to drop their local copy of a shared cache entry.
+ *
+ * @param origin replica that changed the entry
+ * @param key the changed entry, or null if the whole cache was cleared
+ */
+public record CacheInvalidation(String origin, String cacheName, Object key) {}
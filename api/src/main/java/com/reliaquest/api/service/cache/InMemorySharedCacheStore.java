@@ -0,0 +1,99 @@
+package com.reliaquest.api.service.cache;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * A {@link SharedCacheStore} held in memory, for several application contexts in one JVM (tests, or a single-node
+ * setup) to share as if they were separate replicas. Values are shared by reference, so they must be immutable.
+ */
+@Slf4j
+public class InMemorySharedCacheStore implements SharedCacheStore {
+
+    private static final InMemorySharedCacheStore JVM_WIDE = new InMemorySharedCacheStore();
+
+    private record Lease(String owner, long expiresAt) {}
+
+    private final Map<String, Map<Object, Object>> caches = new ConcurrentHashMap<>();
+    private final List<Consumer<CacheInvalidation>> subscribers = new CopyOnWriteArrayList<>();
+    private final Map<String, Lease> leases = new ConcurrentHashMap<>();
+    private final LongSupplier nanoClock;
+
+    public InMemorySharedCacheStore() {
+        this(System::nanoTime);
+    }
+
+    InMemorySharedCacheStore(LongSupplier nanoClock) {
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * @return the store shared by every application context in this JVM
+     */
+    public static InMemorySharedCacheStore jvmWide() {
+        return JVM_WIDE;
+    }
+
+    @Override
+    public Object get(String cacheName, Object key) {
+        Map<Object, Object> entries = caches.get(cacheName);
+        return entries == null ? null : entries.get(key);
+    }
+
+    @Override
+    public void put(String cacheName, Object key, Object value) {
+        caches.computeIfAbsent(cacheName, name -> new ConcurrentHashMap<>()).put(key, value);
+    }
+
+    @Override
+    public void evict(String cacheName, Object key) {
+        Map<Object, Object> entries = caches.get(cacheName);
+        if (entries != null) {
+            entries.remove(key);
+        }
+    }
+
+    @Override
+    public void clear(String cacheName) {
+        caches.remove(cacheName);
+    }
+
+    @Override
+    public void publish(CacheInvalidation invalidation) {
+        for (Consumer<CacheInvalidation> subscriber : subscribers) {
+            try {
+                subscriber.accept(invalidation);
+            } catch (RuntimeException e) {
+                log.warn("Cache invalidation subscriber failed on {}: {}", invalidation, e.getMessage());
+            }
+        }
+    }
+
+    @Override
+    public AutoCloseable subscribe(Consumer<CacheInvalidation> listener) {
+        subscribers.add(listener);
+        return () -> subscribers.remove(listener);
+    }
+
+    @Override
+    public boolean tryLease(String name, String owner, Duration ttl) {
+        long now = nanoClock.getAsLong();
+        Lease lease = leases.compute(name, (key, current) -> current == null
+                        || current.owner().equals(owner)
+                        || current.expiresAt() - now <= 0
+                ? new Lease(owner, now + ttl.toNanos())
+                : current);
+        return lease.owner().equals(owner);
+    }
+
+    @Override
+    public void releaseLease(String name, String owner) {
+        leases.computeIfPresent(name, (key, current) -> current.owner().equals(owner) ? null : current);
+    }
+}
@@ -0,0 +1,123 @@
+package com.reliaquest.api.service.cache;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Component;
+
+/**
+ * Elects the one replica that keeps the shared roster current, through a lease in the {@link SharedCacheStore} that
+ * the leader renews and the others keep trying to take. Without a shared tier every replica leads itself.
+ *
+ * @implNote The lease is renewed on a thread of its own rather than the shared scheduler, where a change feed long
+ * poll could hold it past the lease's expiry.
+ */
+@Slf4j
+@Component
+@Lazy(false)
+public class ReplicaLeadership {
+
+    static final String SYNC_LEASE = "employee-sync";
+
+    /**
+     * Published when this replica becomes the leader.
+     */
+    public record Acquired(String replicaId) {}
+
+    private final SharedCacheStore shared;
+    private final ApplicationEventPublisher events;
+    private final String replicaId;
+    private final Duration leaseTtl;
+    private final long leaseRenewMs;
+
+    private volatile boolean leader;
+    private ScheduledExecutorService renewer;
+
+    @Autowired
+    public ReplicaLeadership(
+            ObjectProvider<SharedCacheStore> shared,
+            ApplicationEventPublisher events,
+            @Value("${employee.cache.shared.replica-id:}") String replicaId,
+            @Value("${employee.cache.shared.lease-ttl-ms:15000}") long leaseTtlMs,
+            @Value("${employee.cache.shared.lease-renew-ms:5000}") long leaseRenewMs) {
+        this(shared.getIfAvailable(), events, replicaId, leaseTtlMs, leaseRenewMs);
+    }
+
+    ReplicaLeadership(
+            SharedCacheStore shared,
+            ApplicationEventPublisher events,
+            String replicaId,
+            long leaseTtlMs,
+            long leaseRenewMs) {
+        this.shared = shared;
+        this.events = events;
+        this.replicaId = replicaId == null || replicaId.isBlank() ? UUID.randomUUID().toString() : replicaId;
+        this.leaseTtl = Duration.ofMillis(leaseTtlMs);
+        this.leaseRenewMs = leaseRenewMs;
+    }
+
+    @PostConstruct
+    public void start() {
+        if (shared == null) {
+            return;
+        }
+        renewer = Executors.newSingleThreadScheduledExecutor(task -> {
+            Thread thread = new Thread(task, "replica-leadership");
+            thread.setDaemon(true);
+            return thread;
+        });
+        renewer.scheduleWithFixedDelay(this::renewQuietly, 0, leaseRenewMs, TimeUnit.MILLISECONDS);
+    }
+
+    public String replicaId() {
+        return replicaId;
+    }
+
+    public boolean isLeader() {
+        return shared == null || leader;
+    }
+
+    public void renew() {
+        if (shared == null) {
+            return;
+        }
+        boolean wasLeader = leader;
+        leader = shared.tryLease(SYNC_LEASE, replicaId, leaseTtl);
+        if (leader && !wasLeader) {
+            log.info("Replica {} now keeps the shared roster current.", replicaId);
+            events.publishEvent(new Acquired(replicaId));
+        } else if (wasLeader && !leader) {
+            log.info("Replica {} lost the roster sync lease.", replicaId);
+        }
+    }
+
+    @PreDestroy
+    public void resign() {
+        if (renewer != null) {
+            renewer.shutdownNow();
+        }
+        if (shared != null && leader) {
+            leader = false;
+            shared.releaseLease(SYNC_LEASE, replicaId);
+        }
+    }
+
+    private void renewQuietly() {
+        try {
+            renew();
+        } catch (RuntimeException e) {
+            // A scheduled task that throws is not run again.
+            log.warn("Renewing the roster sync lease failed: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.reliaquest.api.service.cache;
+
+import java.time.Duration;
+import java.util.function.Consumer;
+
+/**
+ * The tier of a {@link TwoLevelCacheManager} shared by every api replica: entries, an invalidation channel and named
+ * leases. {@link InMemorySharedCacheStore} stands in for it within one JVM; a networked store (e.g. Redis, with
+ * values serialized as JSON and invalidations on pub/sub) implements the same contract for a real deployment.
+ */
+public interface SharedCacheStore {
+
+    /**
+     * @return the entry's value, or null if the shared tier has none
+     */
+    Object get(String cacheName, Object key);
+
+    void put(String cacheName, Object key, Object value);
+
+    void evict(String cacheName, Object key);
+
+    void clear(String cacheName);
+
+    /**
+     * Delivers an invalidation to every subscriber, including the publisher's own.
+     */
+    void publish(CacheInvalidation invalidation);
+
+    /**
+     * @return a handle that ends the subscription when closed
+     */
+    AutoCloseable subscribe(Consumer<CacheInvalidation> listener);
+
+    /**
+     * Acquires the named lease for {@code owner}, or extends it if {@code owner} already holds it.
+     *
+     * @return false if another owner holds an unexpired lease
+     */
+    boolean tryLease(String name, String owner, Duration ttl);
+
+    /**
+     * Releases the named lease if {@code owner} holds it.
+     */
+    void releaseLease(String name, String owner);
+}
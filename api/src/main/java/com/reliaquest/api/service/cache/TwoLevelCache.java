@@ -0,0 +1,154 @@
+package com.reliaquest.api.service.cache;
+
+import java.time.Duration;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.NullValue;
+import org.springframework.cache.support.SimpleValueWrapper;
+
+/**
+ * A replica's local cache in front of the {@link SharedCacheStore}. Reads fall through to the shared tier and keep a
+ * local copy; writes go to both tiers and tell the other replicas to drop their copies.
+ *
+ * @implNote A synchronized load ({@code @Cacheable(sync = true)}) that misses both tiers holds a shared lease on the
+ * entry while it calls the loader, so one replica refreshes it and the others wait for the result to appear in the
+ * shared tier. If the loading replica dies, its lease expires and another one takes over.
+ */
+public class TwoLevelCache implements Cache {
+
+    private final Cache local;
+    private final SharedCacheStore shared;
+    private final String replicaId;
+    private final Duration loadLease;
+    private final long loadPollMs;
+
+    // Bumped whenever the local tier is invalidated, so a copy read from the shared tier concurrently is not kept.
+    private final AtomicLong invalidations = new AtomicLong();
+
+    TwoLevelCache(Cache local, SharedCacheStore shared, String replicaId, Duration loadLease, long loadPollMs) {
+        this.local = local;
+        this.shared = shared;
+        this.replicaId = replicaId;
+        this.loadLease = loadLease;
+        this.loadPollMs = loadPollMs;
+    }
+
+    @Override
+    public String getName() {
+        return local.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return local.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        ValueWrapper cached = local.get(key);
+        if (cached != null) {
+            return cached;
+        }
+        long seen = invalidations.get();
+        Object stored = shared.get(getName(), key);
+        if (stored == null) {
+            return null;
+        }
+        Object value = stored == NullValue.INSTANCE ? null : stored;
+        local.put(key, value);
+        if (invalidations.get() != seen) {
+            local.evict(key);
+        }
+        return new SimpleValueWrapper(value);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper cached = get(key);
+        Object value = cached == null ? null : cached.get();
+        if (value != null && type != null && !type.isInstance(value)) {
+            throw new IllegalStateException(
+                    "Cached value is not of required type [" + type.getName() + "]: " + value);
+        }
+        return (T) value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public synchronized <T> T get(Object key, Callable<T> valueLoader) {
+        ValueWrapper cached = get(key);
+        if (cached != null) {
+            return (T) cached.get();
+        }
+        String lease = "load:" + getName() + ":" + key;
+        while (true) {
+            if (shared.tryLease(lease, replicaId, loadLease)) {
+                try {
+                    // Another replica may have finished loading between the miss and the lease.
+                    cached = get(key);
+                    if (cached != null) {
+                        return (T) cached.get();
+                    }
+                    T value = load(key, valueLoader);
+                    put(key, value);
+                    return value;
+                } finally {
+                    shared.releaseLease(lease, replicaId);
+                }
+            }
+            try {
+                Thread.sleep(loadPollMs);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new ValueRetrievalException(key, valueLoader, e);
+            }
+            cached = get(key);
+            if (cached != null) {
+                return (T) cached.get();
+            }
+        }
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        local.put(key, value);
+        shared.put(getName(), key, value == null ? NullValue.INSTANCE : value);
+        shared.publish(new CacheInvalidation(replicaId, getName(), key));
+    }
+
+    @Override
+    public void evict(Object key) {
+        local.evict(key);
+        shared.evict(getName(), key);
+        shared.publish(new CacheInvalidation(replicaId, getName(), key));
+    }
+
+    @Override
+    public void clear() {
+        local.clear();
+        shared.clear(getName());
+        shared.publish(new CacheInvalidation(replicaId, getName(), null));
+    }
+
+    /**
+     * Drops the local copy of an entry (or of every entry, for a null key) changed by another replica.
+     */
+    void invalidateLocal(Object key) {
+        invalidations.incrementAndGet();
+        if (key == null) {
+            local.clear();
+        } else {
+            local.evict(key);
+        }
+    }
+
+    private static <T> T load(Object key, Callable<T> valueLoader) {
+        try {
+            return valueLoader.call();
+        } catch (Exception e) {
+            throw new ValueRetrievalException(key, valueLoader, e);
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.reliaquest.api.service.cache;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+/**
+ * Serves each cache as a {@link TwoLevelCache}: this replica's in-process cache in front of a {@link SharedCacheStore}
+ * shared by all replicas. Invalidations published by other replicas drop the affected local entries.
+ */
+@Slf4j
+public class TwoLevelCacheManager implements CacheManager, AutoCloseable {
+
+    private final ConcurrentMapCacheManager local = new ConcurrentMapCacheManager();
+    private final SharedCacheStore shared;
+    private final String replicaId;
+    private final Duration loadLease;
+    private final long loadPollMs;
+    private final Map<String, TwoLevelCache> caches = new ConcurrentHashMap<>();
+    private final AutoCloseable subscription;
+
+    public TwoLevelCacheManager(SharedCacheStore shared, String replicaId, Duration loadLease, long loadPollMs) {
+        this.shared = shared;
+        this.replicaId = replicaId;
+        this.loadLease = loadLease;
+        this.loadPollMs = loadPollMs;
+        this.subscription = shared.subscribe(this::onInvalidation);
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        return caches.computeIfAbsent(name, cacheName ->
+                new TwoLevelCache(local.getCache(cacheName), shared, replicaId, loadLease, loadPollMs));
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return local.getCacheNames();
+    }
+
+    @Override
+    public void close() throws Exception {
+        subscription.close();
+    }
+
+    void onInvalidation(CacheInvalidation invalidation) {
+        if (replicaId.equals(invalidation.origin())) {
+            return;
+        }
+        TwoLevelCache cache = caches.get(invalidation.cacheName());
+        if (cache != null) {
+            log.debug("Replica {} changed {}[{}], dropping the local copy.",
+                    invalidation.origin(), invalidation.cacheName(), invalidation.key());
+            cache.invalidateLocal(invalidation.key());
+        }
+    }
+}
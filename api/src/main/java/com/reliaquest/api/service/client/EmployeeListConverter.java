@@ -0,0 +1,116 @@
+package com.reliaquest.api.service.client;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.reliaquest.api.model.EmployeeListResponse;
+import com.reliaquest.api.service.roster.RosterColumns;
+import com.reliaquest.api.service.roster.RosterList;
+import java.io.IOException;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+
+/**
+ * Reads an upstream {@link EmployeeListResponse} token by token, appending each employee straight to a
+ * {@link RosterColumns.Builder}. The response's data is a {@link RosterList} over the finished columns, so the roster
+ * snapshot needs no second pass and employees share the columns' interned names, canonical titles and encoded emails
+ * instead of each holding its own copies.
+ *
+ * @implNote Registered ahead of the default Jackson converter; read-only.
+ */
+public class EmployeeListConverter extends AbstractHttpMessageConverter<EmployeeListResponse> {
+
+    private static final int EXPECTED_ROSTER_SIZE = 1024;
+
+    private final JsonFactory jsonFactory = new JsonFactory();
+
+    public EmployeeListConverter() {
+        super(MediaType.APPLICATION_JSON, new MediaType("application", "*+json"));
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return EmployeeListResponse.class == clazz;
+    }
+
+    @Override
+    protected boolean canWrite(MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    protected EmployeeListResponse readInternal(
+            Class<? extends EmployeeListResponse> clazz, HttpInputMessage inputMessage) throws IOException {
+        try (JsonParser parser = jsonFactory.createParser(inputMessage.getBody())) {
+            return readResponse(parser);
+        } catch (JsonProcessingException ex) {
+            throw new HttpMessageNotReadableException(
+                    "Malformed employee list: " + ex.getOriginalMessage(), ex, inputMessage);
+        }
+    }
+
+    @Override
+    protected void writeInternal(EmployeeListResponse response, HttpOutputMessage outputMessage) {
+        throw new UnsupportedOperationException("EmployeeListConverter is read-only");
+    }
+
+    /**
+     * Reads one {@code {"data": [...], "status": ...}} object; unknown fields are skipped.
+     */
+    public static EmployeeListResponse readResponse(JsonParser parser) throws IOException {
+        expect(parser, parser.nextToken(), JsonToken.START_OBJECT);
+        RosterList data = null;
+        String status = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+            switch (field) {
+                case "data" -> data = value == JsonToken.VALUE_NULL ? null : readEmployees(parser);
+                case "status" -> status = parser.getValueAsString();
+                default -> parser.skipChildren();
+            }
+        }
+        return new EmployeeListResponse(data, status);
+    }
+
+    private static RosterList readEmployees(JsonParser parser) throws IOException {
+        expect(parser, parser.currentToken(), JsonToken.START_ARRAY);
+        RosterColumns.Builder builder = RosterColumns.builder(EXPECTED_ROSTER_SIZE);
+        JsonToken token;
+        while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+            expect(parser, token, JsonToken.START_OBJECT);
+            String id = null;
+            String name = null;
+            int salary = 0;
+            int age = 0;
+            String title = null;
+            String email = null;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                parser.nextToken();
+                switch (field) {
+                    case "id" -> id = parser.getValueAsString();
+                    case "employee_name" -> name = parser.getValueAsString();
+                    case "employee_salary" -> salary = parser.getValueAsInt();
+                    case "employee_age" -> age = parser.getValueAsInt();
+                    case "employee_title" -> title = parser.getValueAsString();
+                    case "employee_email" -> email = parser.getValueAsString();
+                    default -> parser.skipChildren();
+                }
+            }
+            builder.add(id, name, salary, age, title, email);
+        }
+        return RosterList.of(builder.build());
+    }
+
+    private static void expect(JsonParser parser, JsonToken actual, JsonToken expected) throws JsonProcessingException {
+        if (actual != expected) {
+            throw new JsonParseException(parser, "Expected " + expected + " but found " + actual);
+        }
+    }
+}
@@ -0,0 +1,312 @@
+package com.reliaquest.api.service.client;
+
+import jakarta.annotation.PreDestroy;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestClientException;
+
+/**
+ * Hedges idempotent upstream reads: if an attempt has not answered within the {@code employee.hedging.percentile}
+ * latency of recent attempts of the same operation, a second one is sent and whichever succeeds first is used.
+ *
+ * @implNote Hedges are paid for from a budget that every read adds {@code employee.hedging.budget-percent} of a hedge
+ * to (up to {@code max-burst}), so hedging adds at most that share of upstream requests. A 429 from either attempt
+ * suspends hedging for {@code rate-limit-pause-ms}. Attempts run on at most {@code max-threads} threads: a read that
+ * finds them all busy runs on the calling thread and is not hedged, and a hedge that finds them busy is not sent. The
+ * caller waits at most {@code attempt-timeout-ms} in all; then, or once one attempt wins, the others are cancelled by
+ * interrupting them. A blocking read an attempt is already in only ends with its response, which is dropped, so a
+ * stuck upstream can hold pool threads but never the caller.
+ */
+@Slf4j
+@Component
+public class RequestHedger {
+
+    private static final int WINDOW_SIZE = 256;
+    private static final int MIN_SAMPLES = 20;
+    private static final int RECOMPUTE_EVERY = 16;
+
+    private final boolean enabled;
+    private final double percentile;
+    private final long minDelayNanos;
+    private final long maxDelayNanos;
+    private final double budgetPerRead;
+    private final double maxBurst;
+    private final long rateLimitPauseNanos;
+    private final long attemptTimeoutNanos;
+    private final LongSupplier nanoClock;
+    private final ThreadPoolExecutor executor;
+
+    private final Map<String, LatencyWindow> windows = new ConcurrentHashMap<>();
+    private double budget;
+    private volatile long pausedUntil;
+
+    @Autowired
+    public RequestHedger(
+            @Value("${employee.hedging.enabled:false}") boolean enabled,
+            @Value("${employee.hedging.percentile:95}") double percentile,
+            @Value("${employee.hedging.min-delay-ms:10}") long minDelayMs,
+            @Value("${employee.hedging.max-delay-ms:2000}") long maxDelayMs,
+            @Value("${employee.hedging.budget-percent:5}") double budgetPercent,
+            @Value("${employee.hedging.max-burst:5}") int maxBurst,
+            @Value("${employee.hedging.rate-limit-pause-ms:30000}") long rateLimitPauseMs,
+            @Value("${employee.hedging.max-threads:32}") int maxThreads,
+            @Value("${employee.hedging.attempt-timeout-ms:30000}") long attemptTimeoutMs) {
+        this(
+                enabled,
+                percentile,
+                minDelayMs,
+                maxDelayMs,
+                budgetPercent,
+                maxBurst,
+                rateLimitPauseMs,
+                maxThreads,
+                attemptTimeoutMs,
+                System::nanoTime);
+        if (enabled) {
+            log.info("Hedging upstream reads after their p{} latency, within {}% extra requests",
+                    percentile, budgetPercent);
+        }
+    }
+
+    RequestHedger(
+            boolean enabled,
+            double percentile,
+            long minDelayMs,
+            long maxDelayMs,
+            double budgetPercent,
+            int maxBurst,
+            long rateLimitPauseMs,
+            int maxThreads,
+            long attemptTimeoutMs,
+            LongSupplier nanoClock) {
+        this.enabled = enabled;
+        this.percentile = percentile;
+        this.minDelayNanos = TimeUnit.MILLISECONDS.toNanos(minDelayMs);
+        this.maxDelayNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(minDelayMs, maxDelayMs));
+        this.budgetPerRead = budgetPercent / 100;
+        this.maxBurst = Math.max(1, maxBurst);
+        this.rateLimitPauseNanos = TimeUnit.MILLISECONDS.toNanos(rateLimitPauseMs);
+        this.attemptTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(attemptTimeoutMs);
+        this.nanoClock = nanoClock;
+        this.pausedUntil = nanoClock.getAsLong();
+        // No queue: an attempt either gets a thread at once or is not run on the pool.
+        this.executor = enabled
+                ? new ThreadPoolExecutor(
+                        0,
+                        Math.max(1, maxThreads),
+                        60,
+                        TimeUnit.SECONDS,
+                        new SynchronousQueue<>(),
+                        RequestHedger::newThread)
+                : null;
+    }
+
+    static RequestHedger disabled() {
+        return new RequestHedger(false, 95, 10, 2000, 0, 1, 0, 1, 30_000, System::nanoTime);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Runs an idempotent upstream read, hedged if enabled. Failures surface as the attempt threw them, so callers
+     * (and their retries) see the same exceptions as without hedging.
+     *
+     * @param operation name the latency percentile is tracked under
+     */
+    public <T> T execute(String operation, Supplier<T> read) {
+        if (!enabled) {
+            return read.get();
+        }
+        LatencyWindow window = windows.computeIfAbsent(operation, name -> new LatencyWindow());
+        earnBudget();
+        long deadline = nanoClock.getAsLong() + attemptTimeoutNanos;
+
+        Attempt<T> primary = submit(window, read);
+        if (primary == null) {
+            log.debug("No thread free to hedge {}; reading on the calling thread", operation);
+            return read.get();
+        }
+        try {
+            return primary.result().get(window.hedgeDelayNanos(), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            // Slow; hedge below if the budget allows.
+        } catch (ExecutionException e) {
+            throw rethrow(e.getCause());
+        } catch (InterruptedException e) {
+            primary.cancel();
+            Thread.currentThread().interrupt();
+            throw new RestClientException("Interrupted waiting for the upstream", e);
+        }
+        if (!spendBudget()) {
+            return await(primary.result(), deadline, primary);
+        }
+
+        Attempt<T> hedge = submit(window, read);
+        if (hedge == null) {
+            refundBudget();
+            return await(primary.result(), deadline, primary);
+        }
+        log.debug("Hedging {} after {} ms", operation, TimeUnit.NANOSECONDS.toMillis(window.hedgeDelayNanos()));
+        CompletableFuture<T> first = new CompletableFuture<>();
+        AtomicInteger failures = new AtomicInteger();
+        for (Attempt<T> attempt : List.of(primary, hedge)) {
+            attempt.result().whenComplete((value, failure) -> {
+                if (failure == null) {
+                    first.complete(value);
+                } else if (failures.incrementAndGet() == 2) {
+                    first.completeExceptionally(failure);
+                }
+            });
+        }
+        try {
+            return await(first, deadline, primary, hedge);
+        } finally {
+            primary.cancel();
+            hedge.cancel();
+        }
+    }
+
+    /**
+     * @return how long an attempt of {@code operation} may take before it is hedged
+     */
+    long hedgeDelayNanos(String operation) {
+        LatencyWindow window = windows.get(operation);
+        return window == null ? maxDelayNanos : window.hedgeDelayNanos();
+    }
+
+    /*
+     * @return the running attempt, or null if every pool thread is busy
+     */
+    private <T> Attempt<T> submit(LatencyWindow window, Supplier<T> read) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        Future<?> task;
+        try {
+            task = executor.submit(() -> {
+                long started = nanoClock.getAsLong();
+                try {
+                    T value = read.get();
+                    window.record(nanoClock.getAsLong() - started);
+                    result.complete(value);
+                } catch (HttpClientErrorException.TooManyRequests e) {
+                    pausedUntil = nanoClock.getAsLong() + rateLimitPauseNanos;
+                    result.completeExceptionally(e);
+                } catch (Throwable e) {
+                    result.completeExceptionally(e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            return null;
+        }
+        return new Attempt<>(result, task);
+    }
+
+    @SafeVarargs
+    private <T> T await(CompletableFuture<T> result, long deadline, Attempt<T>... attempts) {
+        try {
+            return result.get(deadline - nanoClock.getAsLong(), TimeUnit.NANOSECONDS);
+        } catch (ExecutionException e) {
+            throw rethrow(e.getCause());
+        } catch (TimeoutException e) {
+            for (Attempt<T> attempt : attempts) {
+                attempt.cancel();
+            }
+            throw new ResourceAccessException(
+                    "No upstream answer within " + TimeUnit.NANOSECONDS.toMillis(attemptTimeoutNanos) + " ms");
+        } catch (InterruptedException e) {
+            for (Attempt<T> attempt : attempts) {
+                attempt.cancel();
+            }
+            Thread.currentThread().interrupt();
+            throw new RestClientException("Interrupted waiting for the upstream", e);
+        }
+    }
+
+    private synchronized void earnBudget() {
+        budget = Math.min(maxBurst, budget + budgetPerRead);
+    }
+
+    private synchronized boolean spendBudget() {
+        if (nanoClock.getAsLong() - pausedUntil < 0 || budget < 1) {
+            return false;
+        }
+        budget -= 1;
+        return true;
+    }
+
+    private synchronized void refundBudget() {
+        budget = Math.min(maxBurst, budget + 1);
+    }
+
+    private static RuntimeException rethrow(Throwable failure) {
+        if (failure instanceof RuntimeException runtime) {
+            return runtime;
+        }
+        if (failure instanceof Error error) {
+            throw error;
+        }
+        return new IllegalStateException(failure);
+    }
+
+    private static Thread newThread(Runnable runnable) {
+        Thread thread = new Thread(runnable, "upstream-read");
+        thread.setDaemon(true);
+        return thread;
+    }
+
+    private record Attempt<T>(CompletableFuture<T> result, Future<?> task) {
+
+        void cancel() {
+            task.cancel(true);
+        }
+    }
+
+    /**
+     * Latencies of the most recent successful attempts of one operation.
+     */
+    private final class LatencyWindow {
+
+        private final long[] samples = new long[WINDOW_SIZE];
+        private int count;
+        private volatile long hedgeDelayNanos = maxDelayNanos;
+
+        synchronized void record(long latencyNanos) {
+            samples[count % WINDOW_SIZE] = latencyNanos;
+            count++;
+            if (count >= MIN_SAMPLES && count % RECOMPUTE_EVERY == 0) {
+                long[] sorted = Arrays.copyOf(samples, Math.min(count, WINDOW_SIZE));
+                Arrays.sort(sorted);
+                int index = (int) Math.ceil(percentile / 100 * sorted.length) - 1;
+                long delay = sorted[Math.max(0, Math.min(index, sorted.length - 1))];
+                hedgeDelayNanos = Math.max(minDelayNanos, Math.min(maxDelayNanos, delay));
+            }
+        }
+
+        long hedgeDelayNanos() {
+            return hedgeDelayNanos;
+        }
+    }
+}
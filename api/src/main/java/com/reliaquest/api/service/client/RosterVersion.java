@@ -0,0 +1,58 @@
+package com.reliaquest.api.service.client;
+
+import java.util.Optional;
+
+/**
+ * Version of the upstream roster, as encoded in the mock server's roster ETag ({@code "<epoch>-<sequence>"}).
+ *
+ * @param epoch identifies the upstream run; sequences of different epochs are unrelated
+ * @param sequence sequence of the latest change included in the roster
+ */
+public record RosterVersion(String epoch, long sequence) {
+
+    private static final String WEAK_PREFIX = "W/";
+    private static final String GZIP_SUFFIX = "-gzip";
+
+    public static Optional<RosterVersion> fromETag(String eTag) {
+        if (eTag == null) {
+            return Optional.empty();
+        }
+        String tag = eTag.startsWith(WEAK_PREFIX) ? eTag.substring(WEAK_PREFIX.length()) : eTag;
+        tag = tag.replace("\"", "");
+        if (tag.endsWith(GZIP_SUFFIX)) {
+            tag = tag.substring(0, tag.length() - GZIP_SUFFIX.length());
+        }
+        return parse(tag);
+    }
+
+    /**
+     * Parses the unquoted {@code <epoch>-<sequence>} form, which the upstream also uses as event id.
+     */
+    public static Optional<RosterVersion> parse(String value) {
+        if (value == null) {
+            return Optional.empty();
+        }
+        int separator = value.lastIndexOf('-');
+        if (separator <= 0) {
+            return Optional.empty();
+        }
+        try {
+            long sequence = Long.parseLong(value.substring(separator + 1));
+            return Optional.of(new RosterVersion(value.substring(0, separator), sequence));
+        } catch (NumberFormatException e) {
+            return Optional.empty();
+        }
+    }
+
+    public RosterVersion advanceTo(long sequence) {
+        return new RosterVersion(epoch, sequence);
+    }
+
+    public String eTag() {
+        return "\"" + eventId() + "\"";
+    }
+
+    public String eventId() {
+        return epoch + "-" + sequence;
+    }
+}
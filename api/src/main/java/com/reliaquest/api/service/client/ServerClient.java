@@ -1,9 +1,22 @@
 package com.reliaquest.api.service.client;
 
 import com.reliaquest.api.model.*;
+import com.reliaquest.api.profiling.UpstreamCallEvent;
+import com.reliaquest.api.profiling.UpstreamRateLimitedEvent;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
+import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.CachePut;
@@ -12,6 +25,8 @@ import org.springframework.http.*;
 import org.springframework.retry.annotation.Backoff;
 import org.springframework.retry.annotation.Retryable;
 import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RestClientResponseException;
 import org.springframework.web.client.RestTemplate;
 
 @Component
@@ -19,36 +34,189 @@ public class ServerClient {
 
     private static final String BASE_URL = "http://localhost:8112/api/v1/employee";
     private static final int RETRYABLE_MAX_ATTEMPTS = 9;
+    // A lookup answers a waiting client, so it gives up after 1.5 s of backoff rather than retrying for minutes.
+    private static final int LOOKUP_MAX_ATTEMPTS = 3;
+    private static final String LAST_EVENT_ID = "Last-Event-ID";
+
+    /** Most ids the upstream resolves in one lookup request. */
+    public static final int MAX_LOOKUP_IDS = 500;
 
     private final RestTemplate restTemplate;
+    private final RequestHedger requestHedger;
+    private final UpstreamCircuitBreaker circuitBreaker;
+
+    /*
+     * Last roster received together with its ETag; used to revalidate instead of re-downloading.
+     */
+    private final AtomicReference<RosterValidator> lastRoster = new AtomicReference<>();
 
     @Autowired
-    public ServerClient(RestTemplate restTemplate) {
+    public ServerClient(
+            RestTemplate restTemplate, RequestHedger requestHedger, UpstreamCircuitBreaker circuitBreaker) {
         this.restTemplate = restTemplate;
+        this.requestHedger = requestHedger;
+        this.circuitBreaker = circuitBreaker;
     }
 
-    @Retryable(maxAttempts = RETRYABLE_MAX_ATTEMPTS, backoff = @Backoff(delay = 1000, multiplier = 2))
-    @Cacheable("employees")
+    @Retryable(
+            maxAttempts = RETRYABLE_MAX_ATTEMPTS,
+            backoff = @Backoff(delay = 1000, multiplier = 2),
+            noRetryFor = UpstreamUnavailableException.class)
+    @Cacheable(value = "employees", sync = true)
     public List<Employee> fetchAllEmployees() {
-        ResponseEntity<EmployeeListResponse> response =
-                restTemplate.exchange(BASE_URL, HttpMethod.GET, null, EmployeeListResponse.class);
-        return Optional.ofNullable(response.getBody())
+        return loadAllEmployees();
+    }
+
+    /**
+     * Loads the roster from the upstream past the {@code employees} cache, so its version is known to this client. Not
+     * retried; callers keep serving the cached roster if it fails.
+     */
+    public List<Employee> reloadAllEmployees() {
+        return loadAllEmployees();
+    }
+
+    private List<Employee> loadAllEmployees() {
+        RosterValidator validator = lastRoster.get();
+        ResponseEntity<EmployeeListResponse> response = circuitBreaker.call(() -> requestHedger.execute(
+                "fetchAllEmployees",
+                () -> upstream(
+                        "fetchAllEmployees",
+                        () -> restTemplate.exchange(
+                                BASE_URL, HttpMethod.GET, conditional(validator), EmployeeListResponse.class))));
+        if (validator != null && isNotModified(response)) {
+            return validator.employees();
+        }
+
+        List<Employee> employees = Optional.ofNullable(response.getBody())
                 .map(EmployeeListResponse::data)
                 .orElse(List.of());
+        String eTag = response.getHeaders().getETag();
+        lastRoster.set(eTag == null ? null : new RosterValidator(eTag, employees));
+        return employees;
+    }
+
+    /**
+     * @return the upstream version of a list previously returned by {@link #fetchAllEmployees()} (or handed to
+     * {@link #remember}), if it is still the latest one this client knows of.
+     */
+    public Optional<RosterVersion> versionOf(List<Employee> employees) {
+        RosterValidator validator = lastRoster.get();
+        if (validator == null || validator.employees() != employees) {
+            return Optional.empty();
+        }
+        return RosterVersion.fromETag(validator.eTag());
+    }
+
+    /**
+     * Records a roster that was brought up to date locally, so later refreshes revalidate against it.
+     */
+    public void remember(RosterVersion version, List<Employee> employees) {
+        lastRoster.set(new RosterValidator(version.eTag(), employees));
+    }
+
+    /**
+     * Not retried and not guarded by the circuit breaker; callers poll the change feed continuously, with their own
+     * backoff.
+     *
+     * @param waitMs how long the upstream may hold the request open waiting for a change
+     */
+    public EmployeeChanges fetchChanges(long since, long waitMs) {
+        String url = BASE_URL + "/changes?since=" + since + "&waitMs=" + waitMs;
+        ResponseEntity<EmployeeChangesResponse> response = upstream(
+                "fetchChanges", () -> restTemplate.exchange(url, HttpMethod.GET, null, EmployeeChangesResponse.class));
+        return Optional.ofNullable(response.getBody())
+                .map(EmployeeChangesResponse::data)
+                .orElse(null);
+    }
+
+    /**
+     * Streams upstream roster events, resuming after {@code resumeFrom}, until the stream ends or the handler returns
+     * false. Blocks the calling thread; not retried or guarded by the circuit breaker, callers reconnect.
+     */
+    public void streamEvents(RosterVersion resumeFrom, Predicate<UpstreamEvent> handler) {
+        restTemplate.execute(
+                BASE_URL + "/events",
+                HttpMethod.GET,
+                request -> {
+                    request.getHeaders().setAccept(List.of(MediaType.TEXT_EVENT_STREAM));
+                    request.getHeaders().set(LAST_EVENT_ID, resumeFrom.eventId());
+                },
+                response -> {
+                    InputStream body = response.getBody();
+                    try {
+                        readEvents(body, handler);
+                    } finally {
+                        // Closing first keeps the response from draining an endless stream.
+                        body.close();
+                    }
+                    return null;
+                });
     }
 
-    @Retryable(maxAttempts = RETRYABLE_MAX_ATTEMPTS, backoff = @Backoff(delay = 1000, multiplier = 2))
+    /**
+     * @throws HttpClientErrorException.NotFound if the upstream does not know the id; not retried, since retrying
+     *     cannot make the employee appear
+     */
+    @Retryable(
+            maxAttempts = RETRYABLE_MAX_ATTEMPTS,
+            backoff = @Backoff(delay = 1000, multiplier = 2),
+            noRetryFor = {UpstreamUnavailableException.class, HttpClientErrorException.NotFound.class})
     @Cacheable(value = "employeeById", key = "#id")
     public Employee fetchEmployeeById(String id) {
         String url = BASE_URL + "/" + id;
-        ResponseEntity<EmployeeResponse> response =
-                restTemplate.exchange(url, HttpMethod.GET, null, EmployeeResponse.class);
+        // Only revalidate ids we hold a representation for; the roster tag covers every employee in it.
+        RosterValidator validator = lastRoster.get();
+        Employee known = validator == null ? null : validator.byId().get(id);
+        HttpEntity<Void> request = known == null ? null : conditional(validator);
+        ResponseEntity<EmployeeResponse> response = circuitBreaker.call(() -> requestHedger.execute(
+                "fetchEmployeeById",
+                () -> upstream(
+                        "fetchEmployeeById",
+                        () -> restTemplate.exchange(url, HttpMethod.GET, request, EmployeeResponse.class))));
+        if (known != null && isNotModified(response)) {
+            return known;
+        }
         return Optional.ofNullable(response.getBody())
                 .map(EmployeeResponse::data)
+                .map(employee -> canonical(lastRoster.get(), employee))
                 .orElseThrow(() -> new NoSuchElementException("Employee not found"));
     }
 
-    @Retryable(maxAttempts = RETRYABLE_MAX_ATTEMPTS, backoff = @Backoff(delay = 1000, multiplier = 2))
+    /**
+     * Resolves up to {@link #MAX_LOOKUP_IDS} ids in a single upstream request, one outcome per id in request order.
+     * Retried fewer times than the other reads, so one lookup waits seconds rather than minutes for a failing upstream.
+     */
+    @Retryable(
+            maxAttempts = LOOKUP_MAX_ATTEMPTS,
+            backoff = @Backoff(delay = 500, multiplier = 2),
+            noRetryFor = UpstreamUnavailableException.class)
+    public List<EmployeeLookup> fetchEmployeesByIds(List<String> ids) {
+        if (ids.size() > MAX_LOOKUP_IDS) {
+            throw new IllegalArgumentException("At most " + MAX_LOOKUP_IDS + " ids per lookup, got " + ids.size());
+        }
+        HttpEntity<EmployeeLookupRequest> request = new HttpEntity<>(new EmployeeLookupRequest(ids));
+        ResponseEntity<EmployeeLookupResponse> response = circuitBreaker.call(() -> upstream(
+                "fetchEmployeesByIds",
+                () -> restTemplate.exchange(
+                        BASE_URL + "/lookup", HttpMethod.POST, request, EmployeeLookupResponse.class)));
+        List<EmployeeLookup> lookups = Optional.ofNullable(response.getBody())
+                .map(EmployeeLookupResponse::data)
+                .orElseThrow(() -> new RuntimeException("Employee lookup failed"));
+        RosterValidator roster = lastRoster.get();
+        if (roster == null) {
+            return lookups;
+        }
+        return lookups.stream()
+                .map(lookup -> lookup.employee() == null
+                        ? lookup
+                        : new EmployeeLookup(lookup.id(), lookup.status(), canonical(roster, lookup.employee())))
+                .toList();
+    }
+
+    @Retryable(
+            maxAttempts = RETRYABLE_MAX_ATTEMPTS,
+            backoff = @Backoff(delay = 1000, multiplier = 2),
+            noRetryFor = UpstreamUnavailableException.class)
     @CachePut(value = "employeeById", key = "#result.id")
     public Employee createEmployee(Employee employee) {
         CreateMockEmployeeInput input = new CreateMockEmployeeInput(
@@ -56,15 +224,19 @@ public class ServerClient {
                 employee.employeeAge(), employee.employeeTitle());
 
         HttpEntity<CreateMockEmployeeInput> request = new HttpEntity<>(input);
-        ResponseEntity<EmployeeResponse> response =
-                restTemplate.exchange(BASE_URL, HttpMethod.POST, request, EmployeeResponse.class);
+        ResponseEntity<EmployeeResponse> response = circuitBreaker.call(() -> upstream(
+                "createEmployee",
+                () -> restTemplate.exchange(BASE_URL, HttpMethod.POST, request, EmployeeResponse.class)));
 
         return Optional.ofNullable(response.getBody())
                 .map(EmployeeResponse::data)
                 .orElseThrow(() -> new RuntimeException("Employee creation failed"));
     }
 
-    @Retryable(maxAttempts = RETRYABLE_MAX_ATTEMPTS, backoff = @Backoff(delay = 1000, multiplier = 2))
+    @Retryable(
+            maxAttempts = RETRYABLE_MAX_ATTEMPTS,
+            backoff = @Backoff(delay = 1000, multiplier = 2),
+            noRetryFor = {UpstreamUnavailableException.class, HttpClientErrorException.NotFound.class})
     @CacheEvict(value = "employeeById", key = "#employee.id")
     public void deleteEmployee(Employee employee) {
         DeleteMockEmployeeInput input = new DeleteMockEmployeeInput(employee.employeeName());
@@ -73,6 +245,115 @@ public class ServerClient {
         headers.setContentType(MediaType.APPLICATION_JSON);
         HttpEntity<DeleteMockEmployeeInput> request = new HttpEntity<>(input, headers);
 
-        restTemplate.exchange(BASE_URL, HttpMethod.DELETE, request, String.class);
+        circuitBreaker.call(() -> upstream(
+                "deleteEmployee",
+                () -> restTemplate.exchange(BASE_URL, HttpMethod.DELETE, request, String.class)));
+    }
+
+    /*
+     * Records the exchange as an UpstreamCallEvent, and a 429 also as an UpstreamRateLimitedEvent.
+     */
+    private static <T> ResponseEntity<T> upstream(String operation, Supplier<ResponseEntity<T>> exchange) {
+        UpstreamCallEvent event = new UpstreamCallEvent();
+        event.begin();
+        try {
+            ResponseEntity<T> response = exchange.get();
+            event.status = response.getStatusCode().value();
+            return response;
+        } catch (RestClientResponseException e) {
+            event.status = e.getStatusCode().value();
+            event.failure = e.getClass().getSimpleName();
+            if (e instanceof HttpClientErrorException.TooManyRequests) {
+                UpstreamRateLimitedEvent rateLimited = new UpstreamRateLimitedEvent();
+                rateLimited.operation = operation;
+                rateLimited.retryAfter = e.getResponseHeaders() == null
+                        ? null
+                        : e.getResponseHeaders().getFirst(HttpHeaders.RETRY_AFTER);
+                rateLimited.commit();
+            }
+            throw e;
+        } catch (RuntimeException e) {
+            event.failure = e.getClass().getSimpleName();
+            throw e;
+        } finally {
+            event.operation = operation;
+            event.commit();
+        }
+    }
+
+    private static void readEvents(InputStream body, Predicate<UpstreamEvent> handler) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8));
+        String id = null;
+        String name = null;
+        StringBuilder data = new StringBuilder();
+        String line;
+        while ((line = reader.readLine()) != null) {
+            if (line.isEmpty()) {
+                if (!data.isEmpty() && !handler.test(new UpstreamEvent(id, name, data.toString()))) {
+                    return;
+                }
+                name = null;
+                data.setLength(0);
+                continue;
+            }
+            if (line.startsWith(":")) {
+                continue;
+            }
+            int colon = line.indexOf(':');
+            String field = colon < 0 ? line : line.substring(0, colon);
+            String value = colon < 0 ? "" : line.substring(colon + 1);
+            if (value.startsWith(" ")) {
+                value = value.substring(1);
+            }
+            switch (field) {
+                case "id" -> id = value;
+                case "event" -> name = value;
+                case "data" -> {
+                    if (!data.isEmpty()) {
+                        data.append('\n');
+                    }
+                    data.append(value);
+                }
+                default -> {}
+            }
+        }
+    }
+
+    /*
+     * The roster's own instance of an employee that has not changed since, so the id cache and the roster share one
+     * record instead of each holding a copy.
+     */
+    private static Employee canonical(RosterValidator roster, Employee employee) {
+        if (roster == null || employee.id() == null) {
+            return employee;
+        }
+        Employee known = roster.byId().get(employee.id());
+        return employee.equals(known) ? known : employee;
+    }
+
+    private static HttpEntity<Void> conditional(RosterValidator validator) {
+        if (validator == null) {
+            return null;
+        }
+        HttpHeaders headers = new HttpHeaders();
+        headers.setIfNoneMatch(validator.eTag());
+        return new HttpEntity<>(headers);
+    }
+
+    private static boolean isNotModified(ResponseEntity<?> response) {
+        return response.getStatusCode().isSameCodeAs(HttpStatus.NOT_MODIFIED);
+    }
+
+    private record RosterValidator(String eTag, List<Employee> employees, Map<String, Employee> byId) {
+
+        RosterValidator(String eTag, List<Employee> employees) {
+            this(
+                    eTag,
+                    employees,
+                    employees.stream()
+                            .filter(employee -> employee.id() != null)
+                            .collect(Collectors.toUnmodifiableMap(
+                                    Employee::id, Function.identity(), (first, second) -> first)));
+        }
     }
 }
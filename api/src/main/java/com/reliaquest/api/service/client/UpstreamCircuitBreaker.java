@@ -0,0 +1,152 @@
+package com.reliaquest.api.service.client;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+
+/**
+ * Stops calling the upstream after {@code employee.circuit.failure-threshold} consecutive failures (429s, 5xx
+ * responses or I/O errors), so requests fail in milliseconds instead of retrying through a lockout.
+ *
+ * @implNote After {@code open-ms} the circuit half-opens and lets {@code half-open-probes} requests through: the
+ * first success closes it, a failure opens it for another {@code open-ms}. Other responses, such as 404s, show the
+ * upstream is answering and count as successes.
+ */
+@Slf4j
+@Component
+public class UpstreamCircuitBreaker {
+
+    public enum State {
+        CLOSED,
+        OPEN,
+        HALF_OPEN
+    }
+
+    private final boolean enabled;
+    private final int failureThreshold;
+    private final long openMs;
+    private final int halfOpenProbes;
+    private final LongSupplier clock;
+
+    private State state = State.CLOSED;
+    private int consecutiveFailures;
+    private int probesInFlight;
+    private long openUntil;
+    private volatile long lastSuccessAt;
+
+    @Autowired
+    public UpstreamCircuitBreaker(
+            @Value("${employee.circuit.enabled:true}") boolean enabled,
+            @Value("${employee.circuit.failure-threshold:5}") int failureThreshold,
+            @Value("${employee.circuit.open-ms:30000}") long openMs,
+            @Value("${employee.circuit.half-open-probes:1}") int halfOpenProbes) {
+        this(enabled, failureThreshold, openMs, halfOpenProbes, System::currentTimeMillis);
+    }
+
+    UpstreamCircuitBreaker(
+            boolean enabled, int failureThreshold, long openMs, int halfOpenProbes, LongSupplier clock) {
+        this.enabled = enabled;
+        this.failureThreshold = Math.max(1, failureThreshold);
+        this.openMs = openMs;
+        this.halfOpenProbes = Math.max(1, halfOpenProbes);
+        this.clock = clock;
+        this.lastSuccessAt = clock.getAsLong();
+    }
+
+    /**
+     * Runs an upstream call if the circuit allows it and records its outcome.
+     *
+     * @throws UpstreamUnavailableException without calling upstream while the circuit is open
+     */
+    public <T> T call(Supplier<T> call) {
+        if (!enabled) {
+            return call.get();
+        }
+        boolean probe = acquire();
+        T result;
+        try {
+            result = call.get();
+        } catch (RuntimeException e) {
+            if (isFailure(e)) {
+                onFailure(probe, e);
+            } else {
+                onSuccess(probe);
+            }
+            throw e;
+        }
+        onSuccess(probe);
+        return result;
+    }
+
+    public synchronized State state() {
+        return state;
+    }
+
+    /**
+     * @return milliseconds since the upstream last answered, i.e. the most data served meanwhile can lag behind
+     */
+    public long millisSinceLastSuccess() {
+        return Math.max(0, clock.getAsLong() - lastSuccessAt);
+    }
+
+    /*
+     * Returns whether the call is a half-open probe.
+     */
+    private synchronized boolean acquire() {
+        if (state == State.OPEN) {
+            long remaining = openUntil - clock.getAsLong();
+            if (remaining > 0) {
+                throw new UpstreamUnavailableException(TimeUnit.MILLISECONDS.toSeconds(remaining + 999));
+            }
+            log.info("Upstream circuit half-open, probing.");
+            state = State.HALF_OPEN;
+            probesInFlight = 0;
+        }
+        if (state == State.HALF_OPEN) {
+            if (probesInFlight >= halfOpenProbes) {
+                throw new UpstreamUnavailableException(1);
+            }
+            probesInFlight++;
+            return true;
+        }
+        return false;
+    }
+
+    private synchronized void onSuccess(boolean probe) {
+        lastSuccessAt = clock.getAsLong();
+        consecutiveFailures = 0;
+        if (probe) {
+            probesInFlight--;
+        }
+        if (state != State.CLOSED) {
+            log.info("Upstream answered, circuit closed.");
+            state = State.CLOSED;
+        }
+    }
+
+    private synchronized void onFailure(boolean probe, RuntimeException failure) {
+        if (probe) {
+            probesInFlight--;
+        }
+        consecutiveFailures++;
+        if (state == State.HALF_OPEN || (state == State.CLOSED && consecutiveFailures >= failureThreshold)) {
+            log.warn("Upstream circuit open for {} ms after {} failure(s), last: {}",
+                    openMs, consecutiveFailures, failure.getMessage());
+            state = State.OPEN;
+            openUntil = clock.getAsLong() + openMs;
+        }
+    }
+
+    private static boolean isFailure(RuntimeException e) {
+        return e instanceof HttpClientErrorException.TooManyRequests
+                || e instanceof HttpServerErrorException
+                || e instanceof ResourceAccessException;
+    }
+}
@@ -0,0 +1,10 @@
+package com.reliaquest.api.service.client;
+
+/**
+ * A Server-Sent Event received from the upstream.
+ *
+ * @param id last event id seen on the stream (ids persist across events without one)
+ * @param name event type, or null for the default type
+ * @param data event payload, with multi-line data joined by newlines
+ */
+public record UpstreamEvent(String id, String name, String data) {}
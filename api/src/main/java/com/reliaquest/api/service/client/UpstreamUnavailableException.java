@@ -0,0 +1,23 @@
+package com.reliaquest.api.service.client;
+
+import org.springframework.web.client.RestClientException;
+
+/**
+ * Thrown instead of calling the upstream while {@link UpstreamCircuitBreaker} is open.
+ */
+public class UpstreamUnavailableException extends RestClientException {
+
+    private final long retryAfterSeconds;
+
+    public UpstreamUnavailableException(long retryAfterSeconds) {
+        super("Upstream unavailable, retry in " + retryAfterSeconds + " s");
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    /**
+     * @return seconds until the circuit lets a probe request through
+     */
+    public long retryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
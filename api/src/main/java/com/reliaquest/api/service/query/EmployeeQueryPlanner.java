@@ -0,0 +1,161 @@
+package com.reliaquest.api.service.query;
+
+import com.reliaquest.api.model.EmployeeQuery;
+import com.reliaquest.api.model.EmployeeQueryResponse;
+import com.reliaquest.api.model.QueryPlan;
+import com.reliaquest.api.service.roster.NameMatcher;
+import com.reliaquest.api.service.roster.RosterColumns;
+import com.reliaquest.api.service.roster.RosterIndexes;
+import com.reliaquest.api.service.roster.RosterSnapshot;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Executes an {@link EmployeeQuery} against a roster snapshot. Every predicate with an applicable index is costed by
+ * the number of candidate rows it would yield; the cheapest drives the query and every predicate is then checked on
+ * its candidates. Without an applicable index the whole roster is scanned.
+ *
+ * @implNote Estimates are exact for the hash and sorted indexes and an upper bound for the name trigram index, so
+ * the cheapest driver is chosen without materializing the others' rows. Results keep roster order.
+ */
+public final class EmployeeQueryPlanner {
+
+    private EmployeeQueryPlanner() {}
+
+    public static EmployeeQueryResponse execute(RosterSnapshot snapshot, EmployeeQuery query) {
+        long started = System.nanoTime();
+        RosterColumns columns = snapshot.columns();
+        List<AccessPath> paths = accessPaths(snapshot, query);
+
+        AccessPath driver = null;
+        for (AccessPath path : paths) {
+            if (driver == null || path.estimate() < driver.estimate()) {
+                driver = path;
+            }
+        }
+        int[] candidates = driver == null ? null : driver.rows().get();
+        int examined = candidates == null ? columns.size() : candidates.length;
+
+        NameMatcher nameMatcher = query.name() == null ? null : new NameMatcher().reset(query.name());
+        DomainFilter emailDomain = query.emailDomain() == null ? null : new DomainFilter(query.emailDomain());
+        int[] matches = new int[examined];
+        int matched = 0;
+        for (int i = 0; i < examined; i++) {
+            int row = candidates == null ? i : candidates[i];
+            if (matches(columns, row, query, nameMatcher, emailDomain)) {
+                matches[matched++] = row;
+            }
+        }
+        matches = Arrays.copyOf(matches, matched);
+        // Range indexes yield rows in value order.
+        Arrays.sort(matches);
+
+        QueryPlan plan = new QueryPlan(
+                driver == null ? "SCAN" : "INDEX",
+                driver == null ? "roster" : driver.name(),
+                driver == null ? columns.size() : driver.estimate(),
+                examined,
+                matched,
+                paths.stream().map(path -> path.name() + " ~" + path.estimate()).toList(),
+                (System.nanoTime() - started) / 1000);
+        return new EmployeeQueryResponse(columns.employees(matches), plan);
+    }
+
+    private static List<AccessPath> accessPaths(RosterSnapshot snapshot, EmployeeQuery query) {
+        RosterColumns columns = snapshot.columns();
+        List<AccessPath> paths = new ArrayList<>();
+        if (query.title() != null) {
+            int[] rows = snapshot.indexes().titleRows(query.title());
+            paths.add(new AccessPath("title hash", rows.length, () -> rows));
+        }
+        if (query.emailDomain() != null) {
+            int[] rows = snapshot.indexes().emailDomainRows(query.emailDomain());
+            paths.add(new AccessPath("emailDomain hash", rows.length, () -> rows));
+        }
+        if (query.hasSalaryRange()) {
+            int min = lowerBound(query.minSalary());
+            int max = upperBound(query.maxSalary());
+            paths.add(new AccessPath(
+                    "salary sorted", columns.salaryRangeCount(min, max), () -> columns.salaryRangeRows(min, max)));
+        }
+        if (query.hasAgeRange()) {
+            int min = lowerBound(query.minAge());
+            int max = upperBound(query.maxAge());
+            paths.add(new AccessPath(
+                    "age sorted", columns.ageRangeCount(min, max), () -> columns.ageRangeRows(min, max)));
+        }
+        if (query.name() != null) {
+            RosterIndexes indexes = snapshot.indexes();
+            int estimate = indexes.nameCandidateEstimate(query.name());
+            if (estimate >= 0) {
+                paths.add(new AccessPath(
+                        "name " + RosterIndexes.GRAM_LENGTH + "-gram",
+                        estimate,
+                        () -> indexes.nameCandidateRows(query.name())));
+            }
+        }
+        return paths;
+    }
+
+    private static boolean matches(
+            RosterColumns columns, int row, EmployeeQuery query, NameMatcher nameMatcher, DomainFilter emailDomain) {
+        if (query.title() != null
+                && (columns.title(row) == null || !columns.title(row).equalsIgnoreCase(query.title()))) {
+            return false;
+        }
+        if (emailDomain != null && !emailDomain.matches(columns.emailDomain(row))) {
+            return false;
+        }
+        if (query.hasSalaryRange() && !within(columns.salary(row), query.minSalary(), query.maxSalary())) {
+            return false;
+        }
+        if (query.hasAgeRange() && !within(columns.age(row), query.minAge(), query.maxAge())) {
+            return false;
+        }
+        return nameMatcher == null || nameMatcher.matches(columns.foldedNames(), row);
+    }
+
+    private static boolean within(int value, Integer min, Integer max) {
+        return value >= lowerBound(min) && value <= upperBound(max);
+    }
+
+    private static int lowerBound(Integer min) {
+        return min == null ? Integer.MIN_VALUE : min;
+    }
+
+    private static int upperBound(Integer max) {
+        return max == null ? Integer.MAX_VALUE : max;
+    }
+
+    private record AccessPath(String name, int estimate, Supplier<int[]> rows) {}
+
+    /*
+     * Compares email domains case-insensitively, folding each distinct domain once per query rather than once per row;
+     * the roster holds few distinct domains, shared as canonical instances.
+     */
+    private static final class DomainFilter {
+
+        private final String folded;
+        private final Map<String, Boolean> matchesByDomain = new HashMap<>();
+
+        DomainFilter(String domain) {
+            this.folded = RosterIndexes.fold(domain);
+        }
+
+        boolean matches(String domain) {
+            if (domain == null) {
+                return false;
+            }
+            Boolean matches = matchesByDomain.get(domain);
+            if (matches == null) {
+                matches = folded.equals(RosterIndexes.fold(domain));
+                matchesByDomain.put(domain, matches);
+            }
+            return matches;
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.reliaquest.api.service.roster;
+
+import com.reliaquest.api.model.Employee;
+
+/**
+ * Thrown when a create matches an existing employee, or races a concurrent create of the same employee.
+ */
+public class DuplicateEmployeeException extends RuntimeException {
+
+    private final transient Employee existing;
+
+    public DuplicateEmployeeException(Employee existing) {
+        super(existing == null
+                ? "A create for the same employee is already in progress"
+                : "Employee already exists with id " + existing.id());
+        this.existing = existing;
+    }
+
+    /**
+     * @return the matching employee, or null if the match is a create still in progress
+     */
+    public Employee existing() {
+        return existing;
+    }
+}
@@ -0,0 +1,61 @@
+package com.reliaquest.api.service.roster;
+
+import com.reliaquest.api.model.EmployeeChanges;
+import com.reliaquest.api.service.cache.ReplicaLeadership;
+import com.reliaquest.api.service.client.ServerClient;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClientException;
+
+/**
+ * Keeps the cached roster current by long-polling the upstream change feed, so freshness costs one request per batch
+ * of changes instead of a full roster download.
+ */
+@Slf4j
+@Component
+@Lazy(false)
+@ConditionalOnProperty(name = "employee.sync.mode", havingValue = "poll")
+public class EmployeeChangePoller {
+
+    private final ServerClient serverClient;
+    private final RosterSnapshots rosterSnapshots;
+    private final ReplicaLeadership replicaLeadership;
+    private final long waitMs;
+
+    @Autowired
+    public EmployeeChangePoller(
+            ServerClient serverClient,
+            RosterSnapshots rosterSnapshots,
+            ReplicaLeadership replicaLeadership,
+            @Value("${employee.sync.wait-ms:25000}") long waitMs) {
+        this.serverClient = serverClient;
+        this.rosterSnapshots = rosterSnapshots;
+        this.replicaLeadership = replicaLeadership;
+        this.waitMs = waitMs;
+    }
+
+    @Scheduled(fixedDelayString = "${employee.sync.poll-delay-ms:1000}")
+    public void poll() {
+        if (!replicaLeadership.isLeader()) {
+            // Another replica keeps the shared roster current.
+            return;
+        }
+        // Nothing to keep current until a read has loaded the roster (with a version) into the cache.
+        rosterSnapshots.syncBase().ifPresent(snapshot -> {
+            try {
+                EmployeeChanges changes =
+                        serverClient.fetchChanges(snapshot.version().sequence(), waitMs);
+                if (changes != null) {
+                    rosterSnapshots.apply(snapshot, changes);
+                }
+            } catch (RestClientException e) {
+                log.debug("Polling upstream changes failed: {}", e.getMessage());
+            }
+        });
+    }
+}
@@ -0,0 +1,162 @@
+package com.reliaquest.api.service.roster;
+
+import com.reliaquest.api.model.Employee;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Detects duplicate creates against the roster snapshot's {@link RosterIdentities} plus creates made through this api
+ * that the snapshot does not show yet.
+ *
+ * @implNote A create first {@link #claim claims} its identity (and email, if given) with an atomic put, so of two
+ * concurrent creates for the same employee only one reaches the upstream. A completed claim keeps the created employee
+ * for {@code employee.duplicates.claim-ttl-ms}, long enough for the change feed to bring it into the snapshot; a
+ * failed create releases its claim. {@code employee.duplicates.policy} decides whether duplicates are rejected,
+ * answered with the existing employee, or not checked at all.
+ */
+@Component
+public class EmployeeDuplicates {
+
+    public enum Policy {
+        REJECT,
+        RETURN_EXISTING,
+        OFF
+    }
+
+    private final Policy policy;
+    private final long claimTtlMs;
+    private final LongSupplier clock;
+
+    private final Map<String, Claim> claims = new ConcurrentHashMap<>();
+
+    @Autowired
+    public EmployeeDuplicates(
+            @Value("${employee.duplicates.policy:reject}") String policy,
+            @Value("${employee.duplicates.claim-ttl-ms:60000}") long claimTtlMs) {
+        this(
+                Policy.valueOf(policy.strip().toUpperCase(Locale.ROOT).replace('-', '_')),
+                claimTtlMs,
+                System::currentTimeMillis);
+    }
+
+    EmployeeDuplicates(Policy policy, long claimTtlMs, LongSupplier clock) {
+        this.policy = policy;
+        this.claimTtlMs = claimTtlMs;
+        this.clock = clock;
+    }
+
+    public Policy policy() {
+        return policy;
+    }
+
+    /**
+     * Claims the candidate's identity for a create. The caller must {@link Claim#complete complete} or
+     * {@link Claim#release release} the claim once the upstream call returns.
+     *
+     * @throws DuplicateEmployeeException if the snapshot or a recent create already has the identity, or a concurrent
+     *     create holds it
+     */
+    public Claim claim(RosterSnapshot snapshot, Employee candidate) {
+        snapshot.identities().find(candidate).ifPresent(existing -> {
+            throw new DuplicateEmployeeException(existing);
+        });
+
+        long now = clock.getAsLong();
+        claims.values().removeIf(held -> held.isExpired(now));
+        Claim claim = new Claim();
+        for (String key : keys(candidate)) {
+            while (true) {
+                Claim holder = claims.putIfAbsent(key, claim);
+                if (holder == null) {
+                    claim.keys.add(key);
+                    break;
+                }
+                if (holder.isExpired(now)) {
+                    claims.remove(key, holder);
+                    continue;
+                }
+                claim.release();
+                throw new DuplicateEmployeeException(holder.created);
+            }
+        }
+        return claim;
+    }
+
+    /**
+     * Drops claims held for a deleted employee, so it can be created again before the claim expires.
+     */
+    public void forget(Employee deleted) {
+        for (String key : keys(deleted)) {
+            Claim holder = claims.get(key);
+            if (holder != null && holder.created != null && Objects.equals(holder.created.id(), deleted.id())) {
+                claims.remove(key, holder);
+            }
+        }
+    }
+
+    /**
+     * @return claims currently held, including expired ones not yet swept
+     */
+    public int size() {
+        return claims.size();
+    }
+
+    private static List<String> keys(Employee employee) {
+        List<String> keys = new ArrayList<>(2);
+        String identity = RosterIdentities.identityKey(employee);
+        if (identity != null) {
+            keys.add(identity);
+        }
+        String email = RosterIdentities.emailKey(employee);
+        if (email != null) {
+            keys.add("@" + email);
+        }
+        return keys;
+    }
+
+    public final class Claim {
+
+        private final List<String> keys = new ArrayList<>(2);
+        private volatile Employee created;
+        private volatile long expiresAt = Long.MAX_VALUE;
+
+        private Claim() {}
+
+        /**
+         * Keeps the claim, now answering with the created employee, until it expires.
+         */
+        public void complete(Employee created) {
+            if (created == null) {
+                release();
+                return;
+            }
+            this.created = created;
+            this.expiresAt = clock.getAsLong() + claimTtlMs;
+            String email = RosterIdentities.emailKey(created);
+            if (email != null && !keys.contains("@" + email)) {
+                // The upstream assigns emails; later creates giving the same one are duplicates too.
+                if (claims.putIfAbsent("@" + email, this) == null) {
+                    keys.add("@" + email);
+                }
+            }
+        }
+
+        public void release() {
+            for (String key : keys) {
+                claims.remove(key, this);
+            }
+        }
+
+        private boolean isExpired(long now) {
+            return now >= expiresAt;
+        }
+    }
+}
@@ -0,0 +1,176 @@
+package com.reliaquest.api.service.roster;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.model.EmployeeChange;
+import com.reliaquest.api.model.EmployeeChanges;
+import com.reliaquest.api.service.cache.ReplicaLeadership;
+import com.reliaquest.api.service.client.RosterVersion;
+import com.reliaquest.api.service.client.ServerClient;
+import com.reliaquest.api.service.client.UpstreamEvent;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClientException;
+
+/**
+ * Applies roster changes pushed by the upstream over Server-Sent Events to the {@code employees} and
+ * {@code employeeById} caches.
+ *
+ * @implNote Runs on its own daemon thread, subscribing from the version of the cached roster. An event that skips a
+ * sequence is treated as a gap and filled from the change feed; a {@code reset} event (or an event from another
+ * upstream epoch) invalidates the caches. Dropped connections are re-established with exponential backoff.
+ */
+@Slf4j
+@Component
+@Lazy(false)
+@ConditionalOnProperty(name = "employee.sync.mode", havingValue = "sse")
+public class EmployeeEventSubscriber {
+
+    static final String RESET_EVENT = "reset";
+
+    private final ServerClient serverClient;
+    private final RosterSnapshots rosterSnapshots;
+    private final ObjectMapper objectMapper;
+    private final ReplicaLeadership replicaLeadership;
+    private final long idleDelayMs;
+    private final long initialBackoffMs;
+    private final long maxBackoffMs;
+
+    private volatile boolean stopped;
+    private volatile RosterSnapshot current;
+    private Thread worker;
+
+    @Autowired
+    public EmployeeEventSubscriber(
+            ServerClient serverClient,
+            RosterSnapshots rosterSnapshots,
+            ObjectMapper objectMapper,
+            ReplicaLeadership replicaLeadership,
+            @Value("${employee.sync.idle-delay-ms:1000}") long idleDelayMs,
+            @Value("${employee.sync.initial-backoff-ms:1000}") long initialBackoffMs,
+            @Value("${employee.sync.max-backoff-ms:30000}") long maxBackoffMs) {
+        this.serverClient = serverClient;
+        this.rosterSnapshots = rosterSnapshots;
+        this.objectMapper = objectMapper;
+        this.replicaLeadership = replicaLeadership;
+        this.idleDelayMs = idleDelayMs;
+        this.initialBackoffMs = initialBackoffMs;
+        this.maxBackoffMs = maxBackoffMs;
+    }
+
+    @PostConstruct
+    public void start() {
+        worker = new Thread(this::run, "employee-event-subscriber");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    @PreDestroy
+    public void stop() {
+        stopped = true;
+        worker.interrupt();
+    }
+
+    private void run() {
+        long backoffMs = initialBackoffMs;
+        while (!stopped) {
+            // Nothing to keep current until a read has loaded the roster (with a version) into the cache, and with
+            // a shared cache tier only the leading replica follows the upstream.
+            Optional<RosterSnapshot> base =
+                    replicaLeadership.isLeader() ? rosterSnapshots.syncBase() : Optional.empty();
+            if (base.isEmpty()) {
+                pause(idleDelayMs);
+                continue;
+            }
+
+            resume(base.get());
+            try {
+                serverClient.streamEvents(current.version(), this::handle);
+                backoffMs = initialBackoffMs;
+            } catch (RestClientException e) {
+                log.debug("Upstream event stream failed, reconnecting in {} ms: {}", backoffMs, e.getMessage());
+                pause(backoffMs);
+                backoffMs = Math.min(backoffMs * 2, maxBackoffMs);
+            }
+        }
+    }
+
+    void resume(RosterSnapshot snapshot) {
+        current = snapshot;
+    }
+
+    /**
+     * @return false to end the stream, after which the subscription restarts from the cached roster, or idles if this
+     *     replica no longer leads
+     */
+    boolean handle(UpstreamEvent event) {
+        if (stopped) {
+            return false;
+        }
+        // Leadership can move while a stream is open; the new leader follows the upstream from then on.
+        if (!replicaLeadership.isLeader()) {
+            log.info("No longer the leading replica, closing the upstream event stream.");
+            return false;
+        }
+        RosterVersion version = current.version();
+        if (RESET_EVENT.equals(event.name())) {
+            log.info("Upstream cannot resume events after {}, invalidating caches.", version);
+            rosterSnapshots.invalidate();
+            return false;
+        }
+        String epoch = RosterVersion.parse(event.id()).map(RosterVersion::epoch).orElse(null);
+        if (!Objects.equals(version.epoch(), epoch)) {
+            log.info("Upstream epoch changed from {} to {}, invalidating caches.", version.epoch(), epoch);
+            rosterSnapshots.invalidate();
+            return false;
+        }
+
+        EmployeeChange change;
+        try {
+            change = objectMapper.readValue(event.data(), EmployeeChange.class);
+        } catch (JsonProcessingException e) {
+            log.warn("Ignoring malformed upstream event {}: {}", event.id(), e.getMessage());
+            return true;
+        }
+        long expected = version.sequence() + 1;
+        if (change.sequence() < expected) {
+            return true;
+        }
+
+        EmployeeChanges batch;
+        if (change.sequence() == expected) {
+            batch = new EmployeeChanges(version.epoch(), version.sequence(), change.sequence(), false, List.of(change));
+        } else {
+            log.info("Gap in upstream events ({} after {}), catching up from the feed.", change.sequence(), version);
+            batch = serverClient.fetchChanges(version.sequence(), 0);
+            if (batch == null) {
+                return false;
+            }
+        }
+        if (!rosterSnapshots.apply(current, batch)) {
+            return false;
+        }
+
+        Optional<RosterSnapshot> next = rosterSnapshots.loaded().filter(snapshot -> snapshot.version() != null);
+        next.ifPresent(this::resume);
+        return next.isPresent();
+    }
+
+    private void pause(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            stopped = true;
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.reliaquest.api.service.roster;
+
+/**
+ * Lower-cased copy of a roster's names, packed into one {@code char[]} with per-row offsets. Built once per snapshot
+ * so searches compare against it directly instead of lower-casing every name on every query.
+ *
+ * @implNote Folding is per {@code char} ({@link Character#toLowerCase(char)}), which keeps every folded name the
+ * length of the original; {@link NameMatcher} folds fragments the same way.
+ */
+public final class FoldedNames {
+
+    private final String[] names;
+    private final char[] chars;
+    private final int[] offsets;
+
+    private FoldedNames(String[] names, char[] chars, int[] offsets) {
+        this.names = names;
+        this.chars = chars;
+        this.offsets = offsets;
+    }
+
+    static FoldedNames of(String[] names) {
+        int[] offsets = new int[names.length + 1];
+        for (int row = 0; row < names.length; row++) {
+            offsets[row + 1] = offsets[row] + (names[row] == null ? 0 : names[row].length());
+        }
+        char[] chars = new char[offsets[names.length]];
+        for (int row = 0; row < names.length; row++) {
+            fold(names[row], chars, offsets[row]);
+        }
+        return new FoldedNames(names, chars, offsets);
+    }
+
+    /**
+     * Folded names for the next columns of a patch, copying the kept rows' folded names and folding only the added
+     * ones.
+     *
+     * @param names the next columns' names
+     */
+    FoldedNames apply(RowPatch patch, String[] names) {
+        int[] offsets = new int[names.length + 1];
+        for (int row = 0; row < size(); row++) {
+            int next = patch.newRow(row);
+            if (next >= 0) {
+                offsets[next + 1] = end(row) - start(row);
+            }
+        }
+        for (int row = patch.keptSize(); row < names.length; row++) {
+            offsets[row + 1] = names[row] == null ? 0 : names[row].length();
+        }
+        for (int row = 0; row < names.length; row++) {
+            offsets[row + 1] += offsets[row];
+        }
+        char[] chars = new char[offsets[names.length]];
+        for (int row = 0; row < size(); row++) {
+            int next = patch.newRow(row);
+            if (next >= 0) {
+                System.arraycopy(this.chars, start(row), chars, offsets[next], end(row) - start(row));
+            }
+        }
+        for (int row = patch.keptSize(); row < names.length; row++) {
+            fold(names[row], chars, offsets[row]);
+        }
+        return new FoldedNames(names, chars, offsets);
+    }
+
+    public static char fold(char c) {
+        return Character.toLowerCase(c);
+    }
+
+    private static void fold(String name, char[] chars, int offset) {
+        if (name != null) {
+            name.getChars(0, name.length(), chars, offset);
+            for (int i = offset; i < offset + name.length(); i++) {
+                chars[i] = fold(chars[i]);
+            }
+        }
+    }
+
+    public int size() {
+        return names.length;
+    }
+
+    boolean isNull(int row) {
+        return names[row] == null;
+    }
+
+    char[] chars() {
+        return chars;
+    }
+
+    int start(int row) {
+        return offsets[row];
+    }
+
+    int end(int row) {
+        return offsets[row + 1];
+    }
+}
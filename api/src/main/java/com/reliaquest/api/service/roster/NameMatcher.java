@@ -0,0 +1,96 @@
+package com.reliaquest.api.service.roster;
+
+import java.util.Arrays;
+
+/**
+ * Case-insensitive substring matcher over {@link FoldedNames}. Matching allocates nothing; a matcher keeps its
+ * fragment and row buffers between queries, so one instance per thread can be {@link #reset} and reused.
+ *
+ * @implNote Not thread-safe. Buffers grown past {@value #MAX_RETAINED_CHARS} chars or {@value #MAX_RETAINED_ROWS}
+ * rows serve only the query that needed them, so a thread-held matcher does not pin the largest result it ever saw.
+ */
+public final class NameMatcher {
+
+    static final int MAX_RETAINED_CHARS = 256;
+    static final int MAX_RETAINED_ROWS = 4096;
+
+    private static final int INITIAL_CHARS = 16;
+    private static final int INITIAL_ROWS = 64;
+
+    private char[] fragment = new char[INITIAL_CHARS];
+    private int length;
+    private int[] rows = new int[INITIAL_ROWS];
+
+    /**
+     * Sets the fragment to search for, folding it the way {@link FoldedNames} folds names.
+     */
+    public NameMatcher reset(CharSequence text) {
+        if (text.length() > fragment.length || fragment.length > MAX_RETAINED_CHARS) {
+            fragment = new char[Math.max(text.length(), INITIAL_CHARS)];
+        }
+        length = text.length();
+        for (int i = 0; i < length; i++) {
+            fragment[i] = FoldedNames.fold(text.charAt(i));
+        }
+        return this;
+    }
+
+    public boolean matches(FoldedNames names, int row) {
+        return !names.isNull(row) && indexIn(names.chars(), names.start(row), names.end(row)) >= 0;
+    }
+
+    public int count(FoldedNames names, int from, int to) {
+        int count = 0;
+        for (int row = from; row < to; row++) {
+            if (matches(names, row)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * @return the matching rows in {@code [from, to)}, in roster order; the only allocation is the returned array
+     */
+    public int[] matchRows(FoldedNames names, int from, int to) {
+        int count = 0;
+        for (int row = from; row < to; row++) {
+            if (matches(names, row)) {
+                if (count == rows.length) {
+                    rows = Arrays.copyOf(rows, count * 2);
+                }
+                rows[count++] = row;
+            }
+        }
+        int[] matched = Arrays.copyOf(rows, count);
+        if (rows.length > MAX_RETAINED_ROWS) {
+            rows = new int[INITIAL_ROWS];
+        }
+        return matched;
+    }
+
+    int retainedRows() {
+        return rows.length;
+    }
+
+    private int indexIn(char[] chars, int start, int end) {
+        if (length == 0) {
+            return start;
+        }
+        char first = fragment[0];
+        int last = end - length;
+        for (int i = start; i <= last; i++) {
+            if (chars[i] != first) {
+                continue;
+            }
+            int j = 1;
+            while (j < length && chars[i + j] == fragment[j]) {
+                j++;
+            }
+            if (j == length) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,263 @@
+package com.reliaquest.api.service.roster;
+
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.EmployeeChange;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Roster-wide aggregates that are carried forward through change batches instead of being recomputed. Applying a
+ * batch copies only fixed-size histograms and the per-title totals, so it costs the same for ten employees or ten
+ * million, and every query answers from these summaries in constant time with respect to the roster size.
+ *
+ * @implNote Minimum and maximum salary are exact. Removing the last employee holding either makes
+ * {@link #apply(List)} return null, telling the owner to rebuild from the roster once. Percentiles come from a salary
+ * histogram and are exact only to {@value #SALARY_BUCKET_WIDTH}.
+ */
+public final class RosterAggregates {
+
+    public static final int SALARY_BUCKET_WIDTH = 5_000;
+
+    // Buckets cover 0 to 1,000,000; the last bucket also holds anything above.
+    private static final int SALARY_BUCKETS = 200;
+    private static final int AGE_SLOTS = 128;
+
+    private final long count;
+    private final long salaryTotal;
+    private final long ageTotal;
+    private final int minSalary;
+    private final int minSalaryCount;
+    private final int maxSalary;
+    private final int maxSalaryCount;
+    private final int[] salaryHistogram;
+    private final int[] ageHistogram;
+    private final Map<String, TitleTotals> byTitle;
+
+    private RosterAggregates(Builder builder) {
+        this.count = builder.count;
+        this.salaryTotal = builder.salaryTotal;
+        this.ageTotal = builder.ageTotal;
+        this.minSalary = builder.minSalary;
+        this.minSalaryCount = builder.minSalaryCount;
+        this.maxSalary = builder.maxSalary;
+        this.maxSalaryCount = builder.maxSalaryCount;
+        this.salaryHistogram = builder.salaryHistogram;
+        this.ageHistogram = builder.ageHistogram;
+        this.byTitle = Map.copyOf(builder.byTitle);
+    }
+
+    public static RosterAggregates of(RosterColumns columns) {
+        Builder builder = new Builder();
+        for (int row = 0; row < columns.size(); row++) {
+            builder.add(columns.salary(row), columns.age(row), columns.title(row));
+        }
+        return new RosterAggregates(builder);
+    }
+
+    /**
+     * @return aggregates reflecting the changes, or null if they can no longer be maintained incrementally
+     */
+    public RosterAggregates apply(List<EmployeeChange> changes) {
+        Builder builder = new Builder(this);
+        for (EmployeeChange change : changes) {
+            Employee employee = change.employee();
+            switch (change.type()) {
+                case CREATED -> builder.add(employee);
+                case DELETED -> {
+                    if (!builder.remove(employee)) {
+                        return null;
+                    }
+                }
+            }
+        }
+        return new RosterAggregates(builder);
+    }
+
+    public long count() {
+        return count;
+    }
+
+    public long salaryTotal() {
+        return salaryTotal;
+    }
+
+    public double averageSalary() {
+        return count == 0 ? 0 : (double) salaryTotal / count;
+    }
+
+    public double averageAge() {
+        return count == 0 ? 0 : (double) ageTotal / count;
+    }
+
+    public int minSalary() {
+        return count == 0 ? 0 : minSalary;
+    }
+
+    public int maxSalary() {
+        return count == 0 ? 0 : maxSalary;
+    }
+
+    /**
+     * @param percentile in (0, 100]
+     * @return upper bound of the histogram bucket holding the percentile, clamped to the exact salary range
+     */
+    public int salaryPercentile(double percentile) {
+        if (count == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100 * count));
+        long seen = 0;
+        for (int bucket = 0; bucket < salaryHistogram.length; bucket++) {
+            seen += salaryHistogram[bucket];
+            if (seen >= rank) {
+                long upperBound = (long) (bucket + 1) * SALARY_BUCKET_WIDTH - 1;
+                return (int) Math.max(minSalary, Math.min(maxSalary, upperBound));
+            }
+        }
+        return maxSalary;
+    }
+
+    public int minAge() {
+        for (int age = 0; age < ageHistogram.length; age++) {
+            if (ageHistogram[age] > 0) {
+                return age;
+            }
+        }
+        return 0;
+    }
+
+    public int maxAge() {
+        for (int age = ageHistogram.length - 1; age >= 0; age--) {
+            if (ageHistogram[age] > 0) {
+                return age;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * @return number of employees per age from {@code fromAge} (inclusive) to {@code toAge} (exclusive)
+     */
+    public long countByAge(int fromAge, int toAge) {
+        long total = 0;
+        for (int age = Math.max(fromAge, 0); age < Math.min(toAge, ageHistogram.length); age++) {
+            total += ageHistogram[age];
+        }
+        return total;
+    }
+
+    public Map<String, TitleTotals> byTitle() {
+        return byTitle;
+    }
+
+    public record TitleTotals(long count, long salaryTotal) {
+
+        public double averageSalary() {
+            return count == 0 ? 0 : (double) salaryTotal / count;
+        }
+    }
+
+    private static final class Builder {
+
+        private long count;
+        private long salaryTotal;
+        private long ageTotal;
+        private int minSalary = Integer.MAX_VALUE;
+        private int minSalaryCount;
+        private int maxSalary = Integer.MIN_VALUE;
+        private int maxSalaryCount;
+        private final int[] salaryHistogram;
+        private final int[] ageHistogram;
+        private final Map<String, TitleTotals> byTitle;
+
+        private Builder() {
+            salaryHistogram = new int[SALARY_BUCKETS];
+            ageHistogram = new int[AGE_SLOTS];
+            byTitle = new HashMap<>();
+        }
+
+        private Builder(RosterAggregates source) {
+            count = source.count;
+            salaryTotal = source.salaryTotal;
+            ageTotal = source.ageTotal;
+            minSalary = source.minSalary;
+            minSalaryCount = source.minSalaryCount;
+            maxSalary = source.maxSalary;
+            maxSalaryCount = source.maxSalaryCount;
+            salaryHistogram = Arrays.copyOf(source.salaryHistogram, source.salaryHistogram.length);
+            ageHistogram = Arrays.copyOf(source.ageHistogram, source.ageHistogram.length);
+            byTitle = new HashMap<>(source.byTitle);
+        }
+
+        private void add(int salary, int age, String title) {
+            count++;
+            salaryTotal += salary;
+            ageTotal += age;
+            if (salary < minSalary) {
+                minSalary = salary;
+                minSalaryCount = 1;
+            } else if (salary == minSalary) {
+                minSalaryCount++;
+            }
+            if (salary > maxSalary) {
+                maxSalary = salary;
+                maxSalaryCount = 1;
+            } else if (salary == maxSalary) {
+                maxSalaryCount++;
+            }
+            salaryHistogram[salaryBucket(salary)]++;
+            ageHistogram[ageSlot(age)]++;
+            byTitle.merge(titleKey(title), new TitleTotals(1, salary), RosterAggregates::sum);
+        }
+
+        private void add(Employee employee) {
+            add(employee.employeeSalary(), employee.employeeAge(), employee.employeeTitle());
+        }
+
+        /*
+         * Returns false if an exact extreme was removed and can no longer be known without a rescan.
+         */
+        private boolean remove(Employee employee) {
+            int salary = employee.employeeSalary();
+            int age = employee.employeeAge();
+            String title = employee.employeeTitle();
+            count--;
+            salaryTotal -= salary;
+            ageTotal -= age;
+            salaryHistogram[salaryBucket(salary)]--;
+            ageHistogram[ageSlot(age)]--;
+            byTitle.computeIfPresent(titleKey(title), (key, totals) -> totals.count() == 1
+                    ? null
+                    : new TitleTotals(totals.count() - 1, totals.salaryTotal() - salary));
+            boolean minLost = salary == minSalary && --minSalaryCount == 0;
+            boolean maxLost = salary == maxSalary && --maxSalaryCount == 0;
+            if (count == 0) {
+                minSalary = Integer.MAX_VALUE;
+                maxSalary = Integer.MIN_VALUE;
+                return true;
+            }
+            return !minLost && !maxLost;
+        }
+    }
+
+    private static TitleTotals sum(TitleTotals left, TitleTotals right) {
+        return new TitleTotals(left.count() + right.count(), left.salaryTotal() + right.salaryTotal());
+    }
+
+    private static int salaryBucket(int salary) {
+        return Math.min(Math.max(salary, 0) / SALARY_BUCKET_WIDTH, SALARY_BUCKETS - 1);
+    }
+
+    private static int ageSlot(int age) {
+        return Math.min(Math.max(age, 0), AGE_SLOTS - 1);
+    }
+
+    /*
+     * Map.copyOf rejects null keys.
+     */
+    private static String titleKey(String title) {
+        return title == null ? "" : title;
+    }
+}
@@ -0,0 +1,619 @@
+package com.reliaquest.api.service.roster;
+
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.EmployeeListResponse;
+import com.reliaquest.api.model.EmployeeStrings;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.IntSummaryStatistics;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable, column-oriented copy of a roster for aggregate queries. Salaries and ages live in primitive arrays,
+ * titles are dictionary-encoded, equal names share one instance and emails are kept encoded as by
+ * {@link EmployeeStrings}, so scans touch contiguous memory instead of chasing one record (and its strings) per
+ * employee. The employees materialized from the columns share their strings and encoded emails.
+ *
+ * @implNote Rows keep the roster's order; ties in salary-ordered results are broken by row, matching a stable sort of
+ * the original list. Salary-ordered queries select with a bounded heap (O(n log k)) until a range query has built the
+ * salary index, a static order-statistics array after which top-N, bottom-N and range queries cost O(k) (plus
+ * O(log n) for ranges).
+ */
+public final class RosterColumns {
+
+    private final String[] ids;
+    private final String[] names;
+    private final int[] salaries;
+    private final int[] ages;
+    private final int[] titleCodes;
+    private final String[] titleDictionary;
+    private final byte[][] emailLocalParts;
+    private final String[] emailDomains;
+
+    // Rows in ascending salary (age) order, ties by row; built on first range query.
+    private volatile int[] rowsBySalary;
+    private volatile int[] rowsByAge;
+    private volatile FoldedNames foldedNames;
+
+    private RosterColumns(
+            String[] ids,
+            String[] names,
+            int[] salaries,
+            int[] ages,
+            int[] titleCodes,
+            String[] titleDictionary,
+            byte[][] emailLocalParts,
+            String[] emailDomains) {
+        this.ids = ids;
+        this.names = names;
+        this.salaries = salaries;
+        this.ages = ages;
+        this.titleCodes = titleCodes;
+        this.titleDictionary = titleDictionary;
+        this.emailLocalParts = emailLocalParts;
+        this.emailDomains = emailDomains;
+    }
+
+    public static RosterColumns of(EmployeeListResponse response) {
+        return of(response.data() == null ? List.of() : response.data());
+    }
+
+    public static RosterColumns of(List<Employee> employees) {
+        Builder builder = builder(employees.size());
+        for (Employee employee : employees) {
+            builder.add(employee);
+        }
+        return builder.build();
+    }
+
+    /**
+     * @param expectedSize initial capacity; the builder grows past it as needed
+     */
+    public static Builder builder(int expectedSize) {
+        return new Builder(Math.max(expectedSize, 1));
+    }
+
+    /**
+     * Columns with the patch's removed rows closed up and {@code added} appended after the rest. Column arrays are
+     * copied; the salary and age order and folded names, where already built, are carried forward by merging in the
+     * added rows instead of sorting and folding the whole roster again. Titles no longer used stay in the dictionary,
+     * and appended names are not interned.
+     */
+    RosterColumns apply(RowPatch patch, List<Employee> added) {
+        int size = patch.newSize();
+        String[] nextIds = new String[size];
+        String[] nextNames = new String[size];
+        int[] nextSalaries = new int[size];
+        int[] nextAges = new int[size];
+        int[] nextTitleCodes = new int[size];
+        byte[][] nextEmailLocalParts = new byte[size][];
+        String[] nextEmailDomains = new String[size];
+        patch.copyKept(ids, nextIds);
+        patch.copyKept(names, nextNames);
+        patch.copyKept(salaries, nextSalaries);
+        patch.copyKept(ages, nextAges);
+        patch.copyKept(titleCodes, nextTitleCodes);
+        patch.copyKept(emailLocalParts, nextEmailLocalParts);
+        patch.copyKept(emailDomains, nextEmailDomains);
+
+        Map<String, Integer> titleCodesByTitle = new LinkedHashMap<>();
+        for (int code = 0; code < titleDictionary.length; code++) {
+            titleCodesByTitle.put(titleDictionary[code], code);
+        }
+        int row = patch.keptSize();
+        for (Employee employee : added) {
+            nextIds[row] = employee.id();
+            nextNames[row] = employee.employeeName();
+            nextSalaries[row] = employee.employeeSalary();
+            nextAges[row] = employee.employeeAge();
+            nextTitleCodes[row] = titleCodesByTitle.computeIfAbsent(
+                    EmployeeStrings.title(employee.employeeTitle()), key -> titleCodesByTitle.size());
+            nextEmailLocalParts[row] = employee.emailLocalPart();
+            nextEmailDomains[row] = employee.emailDomain();
+            row++;
+        }
+
+        RosterColumns next = new RosterColumns(
+                nextIds,
+                nextNames,
+                nextSalaries,
+                nextAges,
+                nextTitleCodes,
+                titleCodesByTitle.keySet().toArray(String[]::new),
+                nextEmailLocalParts,
+                nextEmailDomains);
+        int[] salaryOrder = rowsBySalary;
+        if (salaryOrder != null) {
+            next.rowsBySalary = mergeSortedRows(patch.remap(salaryOrder), nextSalaries, patch.keptSize());
+        }
+        int[] ageOrder = rowsByAge;
+        if (ageOrder != null) {
+            next.rowsByAge = mergeSortedRows(patch.remap(ageOrder), nextAges, patch.keptSize());
+        }
+        FoldedNames folded = foldedNames;
+        if (folded != null) {
+            next.foldedNames = folded.apply(patch, nextNames);
+        }
+        return next;
+    }
+
+    public int size() {
+        return salaries.length;
+    }
+
+    public String id(int row) {
+        return ids[row];
+    }
+
+    public String name(int row) {
+        return names[row];
+    }
+
+    public int salary(int row) {
+        return salaries[row];
+    }
+
+    public int age(int row) {
+        return ages[row];
+    }
+
+    public String title(int row) {
+        return titleDictionary[titleCodes[row]];
+    }
+
+    /**
+     * Decodes the email; prefer {@link #emailDomain} where the domain is enough.
+     */
+    public String email(int row) {
+        return EmployeeStrings.email(emailLocalParts[row], emailDomains[row]);
+    }
+
+    /**
+     * @return the canonical email domain, or null if the employee's email has none
+     */
+    public String emailDomain(int row) {
+        return emailDomains[row];
+    }
+
+    /**
+     * @return the highest salary, or 0 for an empty roster
+     */
+    public int maxSalary() {
+        return maxSalary(0, size());
+    }
+
+    /**
+     * @return the highest salary in rows {@code [from, to)}, or 0 for an empty range
+     */
+    public int maxSalary(int from, int to) {
+        int max = from == to ? 0 : Integer.MIN_VALUE;
+        for (int row = from; row < to; row++) {
+            if (salaries[row] > max) {
+                max = salaries[row];
+            }
+        }
+        return max;
+    }
+
+    /**
+     * Selects the rows of the {@code n} highest salaries, highest first.
+     */
+    public int[] topSalaryRows(int n) {
+        int k = Math.min(Math.max(n, 0), size());
+        int[] index = rowsBySalary;
+        return index == null ? selectRows(k, true, 0, size()) : topFromIndex(index, k);
+    }
+
+    /**
+     * Selects the rows of the {@code n} highest salaries among rows {@code [from, to)}, highest first. Results of
+     * adjacent ranges combine with {@link #mergeTopSalaryRows}.
+     */
+    public int[] topSalaryRows(int n, int from, int to) {
+        if (from == 0 && to == size()) {
+            return topSalaryRows(n);
+        }
+        return selectRows(Math.min(Math.max(n, 0), to - from), true, from, to);
+    }
+
+    /**
+     * Merges two highest-first selections into the {@code n} highest overall, in O(n).
+     */
+    public int[] mergeTopSalaryRows(int[] left, int[] right, int n) {
+        int[] rows = new int[Math.min(n, left.length + right.length)];
+        int i = 0;
+        int j = 0;
+        for (int count = 0; count < rows.length; count++) {
+            if (j == right.length || (i < left.length && outranks(left[i], right[j], true))) {
+                rows[count] = left[i++];
+            } else {
+                rows[count] = right[j++];
+            }
+        }
+        return rows;
+    }
+
+    /**
+     * Selects the rows of the {@code n} lowest salaries, lowest first.
+     */
+    public int[] bottomSalaryRows(int n) {
+        int k = Math.min(Math.max(n, 0), size());
+        int[] index = rowsBySalary;
+        return index == null ? selectRows(k, false, 0, size()) : Arrays.copyOf(index, k);
+    }
+
+    /**
+     * Rows with {@code min <= salary <= max}, in ascending salary order.
+     */
+    public int[] salaryRangeRows(int min, int max) {
+        return rangeRows(salaryIndex(), salaries, min, max);
+    }
+
+    public int salaryRangeCount(int min, int max) {
+        return rangeCount(salaryIndex(), salaries, min, max);
+    }
+
+    /**
+     * Rows with {@code min <= age <= max}, in ascending age order.
+     */
+    public int[] ageRangeRows(int min, int max) {
+        return rangeRows(ageIndex(), ages, min, max);
+    }
+
+    public int ageRangeCount(int min, int max) {
+        return rangeCount(ageIndex(), ages, min, max);
+    }
+
+    /**
+     * Lower-cased names for case-insensitive search, built on first use.
+     */
+    public FoldedNames foldedNames() {
+        FoldedNames result = foldedNames;
+        if (result == null) {
+            result = FoldedNames.of(names);
+            foldedNames = result;
+        }
+        return result;
+    }
+
+    /**
+     * Rows in {@code [from, to)} whose name contains {@code fragment}, ignoring case, in roster order. Callers
+     * searching repeatedly should reuse a {@link NameMatcher} instead.
+     */
+    public int[] nameMatchRows(String fragment, int from, int to) {
+        return new NameMatcher().reset(fragment).matchRows(foldedNames(), from, to);
+    }
+
+    public List<String> topEarnerNames(int n) {
+        return names(topSalaryRows(n));
+    }
+
+    public List<String> names(int[] rows) {
+        List<String> result = new ArrayList<>(rows.length);
+        for (int row : rows) {
+            result.add(names[row]);
+        }
+        return result;
+    }
+
+    public IntSummaryStatistics salaryStatistics() {
+        IntSummaryStatistics statistics = new IntSummaryStatistics();
+        for (int salary : salaries) {
+            statistics.accept(salary);
+        }
+        return statistics;
+    }
+
+    public IntSummaryStatistics ageStatistics() {
+        IntSummaryStatistics statistics = new IntSummaryStatistics();
+        for (int age : ages) {
+            statistics.accept(age);
+        }
+        return statistics;
+    }
+
+    /**
+     * Salary statistics per title, computed with one pass over the encoded title column.
+     */
+    public Map<String, IntSummaryStatistics> salaryStatisticsByTitle() {
+        IntSummaryStatistics[] byCode = new IntSummaryStatistics[titleDictionary.length];
+        for (int row = 0; row < titleCodes.length; row++) {
+            int code = titleCodes[row];
+            if (byCode[code] == null) {
+                byCode[code] = new IntSummaryStatistics();
+            }
+            byCode[code].accept(salaries[row]);
+        }
+        Map<String, IntSummaryStatistics> result = new LinkedHashMap<>();
+        for (int code = 0; code < byCode.length; code++) {
+            // Titles left in the dictionary by removed rows have no statistics.
+            if (byCode[code] != null) {
+                result.put(titleDictionary[code], byCode[code]);
+            }
+        }
+        return result;
+    }
+
+    public List<Employee> employees(int[] rows) {
+        return Arrays.stream(rows).mapToObj(this::employee).toList();
+    }
+
+    public Employee employee(int row) {
+        return Employee.withEncodedEmail(
+                ids[row], names[row], salaries[row], ages[row], title(row), emailLocalParts[row], emailDomains[row]);
+    }
+
+    private int[] salaryIndex() {
+        int[] index = rowsBySalary;
+        if (index == null) {
+            index = sortedRows(salaries);
+            rowsBySalary = index;
+        }
+        return index;
+    }
+
+    private int[] ageIndex() {
+        int[] index = rowsByAge;
+        if (index == null) {
+            index = sortedRows(ages);
+            rowsByAge = index;
+        }
+        return index;
+    }
+
+    /*
+     * Sorts packed (value, row) keys to avoid boxing; the row in the low bits keeps ties stable.
+     */
+    private static int[] sortedRows(int[] column) {
+        return sortedRows(column, 0);
+    }
+
+    private static int[] sortedRows(int[] column, int from) {
+        long[] keys = new long[column.length - from];
+        for (int row = from; row < column.length; row++) {
+            keys[row - from] = ((long) column[row] << 32) | row;
+        }
+        Arrays.sort(keys);
+        int[] index = new int[keys.length];
+        for (int position = 0; position < keys.length; position++) {
+            index[position] = (int) keys[position];
+        }
+        return index;
+    }
+
+    /*
+     * Merges the rows from {@code from} on into an index of the rows before it. They follow every kept row, so a kept
+     * row wins ties.
+     */
+    private static int[] mergeSortedRows(int[] kept, int[] column, int from) {
+        int[] added = sortedRows(column, from);
+        int[] index = new int[kept.length + added.length];
+        int i = 0;
+        int j = 0;
+        for (int position = 0; position < index.length; position++) {
+            if (j == added.length || (i < kept.length && column[kept[i]] <= column[added[j]])) {
+                index[position] = kept[i++];
+            } else {
+                index[position] = added[j++];
+            }
+        }
+        return index;
+    }
+
+    private static int[] rangeRows(int[] index, int[] column, int min, int max) {
+        if (min > max) {
+            return new int[0];
+        }
+        int from = firstPositionAtLeast(index, column, min);
+        int to = max == Integer.MAX_VALUE ? index.length : firstPositionAtLeast(index, column, max + 1);
+        return Arrays.copyOfRange(index, from, to);
+    }
+
+    private static int rangeCount(int[] index, int[] column, int min, int max) {
+        if (min > max) {
+            return 0;
+        }
+        int from = firstPositionAtLeast(index, column, min);
+        int to = max == Integer.MAX_VALUE ? index.length : firstPositionAtLeast(index, column, max + 1);
+        return to - from;
+    }
+
+    private static int firstPositionAtLeast(int[] index, int[] column, int value) {
+        int low = 0;
+        int high = index.length;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (column[index[middle]] < value) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    /*
+     * Walks the ascending index from the top, emitting each run of equal salaries in row order.
+     */
+    private int[] topFromIndex(int[] index, int k) {
+        int[] rows = new int[k];
+        int count = 0;
+        int end = index.length - 1;
+        while (count < k) {
+            int start = end;
+            while (start > 0 && salaries[index[start - 1]] == salaries[index[end]]) {
+                start--;
+            }
+            for (int position = start; position <= end && count < k; position++) {
+                rows[count++] = index[position];
+            }
+            end = start - 1;
+        }
+        return rows;
+    }
+
+    /*
+     * Bounded heap selection in O((to - from) log k). The heap root is the weakest row kept so far.
+     */
+    private int[] selectRows(int k, boolean highest, int from, int to) {
+        if (k == 0) {
+            return new int[0];
+        }
+        int[] heap = new int[k];
+        int heapSize = 0;
+        for (int row = from; row < to; row++) {
+            if (heapSize < k) {
+                heap[heapSize] = row;
+                siftUp(heap, heapSize++, highest);
+            } else if (outranks(row, heap[0], highest)) {
+                heap[0] = row;
+                siftDown(heap, heapSize, highest);
+            }
+        }
+
+        int[] rows = new int[k];
+        for (int i = k - 1; i >= 0; i--) {
+            rows[i] = heap[0];
+            heap[0] = heap[--heapSize];
+            siftDown(heap, heapSize, highest);
+        }
+        return rows;
+    }
+
+    /*
+     * The salary closer to the requested end ranks first; equal salaries rank by original position.
+     */
+    private boolean outranks(int row, int other, boolean highest) {
+        if (salaries[row] != salaries[other]) {
+            return highest == salaries[row] > salaries[other];
+        }
+        return row < other;
+    }
+
+    private void siftUp(int[] heap, int index, boolean highest) {
+        int row = heap[index];
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (!outranks(heap[parent], row, highest)) {
+                break;
+            }
+            heap[index] = heap[parent];
+            index = parent;
+        }
+        heap[index] = row;
+    }
+
+    private void siftDown(int[] heap, int size, boolean highest) {
+        if (size == 0) {
+            return;
+        }
+        int index = 0;
+        int row = heap[0];
+        while (true) {
+            int child = 2 * index + 1;
+            if (child >= size) {
+                break;
+            }
+            if (child + 1 < size && outranks(heap[child], heap[child + 1], highest)) {
+                child++;
+            }
+            if (!outranks(row, heap[child], highest)) {
+                break;
+            }
+            heap[index] = heap[child];
+            index = child;
+        }
+        heap[index] = row;
+    }
+
+    /**
+     * Appends rows one at a time, e.g. while a roster is being parsed, so the columns are ready as soon as the input
+     * ends. A builder hands its arrays to the columns it builds and must not be used afterwards.
+     */
+    public static final class Builder {
+
+        private String[] ids;
+        private String[] names;
+        private int[] salaries;
+        private int[] ages;
+        private int[] titleCodes;
+        private byte[][] emailLocalParts;
+        private String[] emailDomains;
+        private int size;
+        private final Map<String, String> nameInterner = new HashMap<>();
+        private final Map<String, Integer> titleCodesByTitle = new LinkedHashMap<>();
+
+        private Builder(int capacity) {
+            ids = new String[capacity];
+            names = new String[capacity];
+            salaries = new int[capacity];
+            ages = new int[capacity];
+            titleCodes = new int[capacity];
+            emailLocalParts = new byte[capacity][];
+            emailDomains = new String[capacity];
+        }
+
+        public Builder add(String id, String name, int salary, int age, String title, String email) {
+            return add(
+                    id,
+                    name,
+                    salary,
+                    age,
+                    title,
+                    EmployeeStrings.emailLocalPart(email),
+                    EmployeeStrings.emailDomain(email));
+        }
+
+        /**
+         * Adds an employee's row, sharing its encoded email instead of encoding it again.
+         */
+        public Builder add(Employee employee) {
+            return add(
+                    employee.id(),
+                    employee.employeeName(),
+                    employee.employeeSalary(),
+                    employee.employeeAge(),
+                    employee.employeeTitle(),
+                    employee.emailLocalPart(),
+                    employee.emailDomain());
+        }
+
+        private Builder add(
+                String id, String name, int salary, int age, String title, byte[] emailLocalPart, String emailDomain) {
+            if (size == salaries.length) {
+                resize(size * 2);
+            }
+            ids[size] = id;
+            names[size] = name == null ? null : nameInterner.computeIfAbsent(name, key -> key);
+            salaries[size] = salary;
+            ages[size] = age;
+            titleCodes[size] = titleCodesByTitle.computeIfAbsent(
+                    EmployeeStrings.title(title), key -> titleCodesByTitle.size());
+            emailLocalParts[size] = emailLocalPart;
+            emailDomains[size] = emailDomain;
+            size++;
+            return this;
+        }
+
+        public RosterColumns build() {
+            if (size != salaries.length) {
+                resize(size);
+            }
+            String[] titleDictionary = titleCodesByTitle.keySet().toArray(String[]::new);
+            return new RosterColumns(
+                    ids, names, salaries, ages, titleCodes, titleDictionary, emailLocalParts, emailDomains);
+        }
+
+        private void resize(int capacity) {
+            ids = Arrays.copyOf(ids, capacity);
+            names = Arrays.copyOf(names, capacity);
+            salaries = Arrays.copyOf(salaries, capacity);
+            ages = Arrays.copyOf(ages, capacity);
+            titleCodes = Arrays.copyOf(titleCodes, capacity);
+            emailLocalParts = Arrays.copyOf(emailLocalParts, capacity);
+            emailDomains = Arrays.copyOf(emailDomains, capacity);
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package com.reliaquest.api.service.roster;
+
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.EmployeeChange;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Hash indexes of a roster by identity, for duplicate detection: the normalized (name, title, age) triple, and the
+ * case-folded email. Normalization folds case and collapses whitespace, so "Jill  Jenkins" and "jill jenkins" with
+ * the same title and age are the same identity.
+ */
+public final class RosterIdentities {
+
+    private final Index byIdentity;
+    private final Index byEmail;
+
+    private RosterIdentities(Index byIdentity, Index byEmail) {
+        this.byIdentity = byIdentity;
+        this.byEmail = byEmail;
+    }
+
+    public static RosterIdentities of(List<Employee> employees) {
+        Index byIdentity = new Index(new HashMap<>(), new HashSet<>());
+        Index byEmail = new Index(new HashMap<>(), new HashSet<>());
+        for (Employee employee : employees) {
+            byIdentity.add(identityKey(employee), employee);
+            byEmail.add(emailKey(employee), employee);
+        }
+        return new RosterIdentities(byIdentity, byEmail);
+    }
+
+    /**
+     * Carries the indexes through a batch of changes that each altered the roster, normalizing only the changed
+     * employees.
+     *
+     * @return indexes reflecting the changes, or null if a removed employee shared its identity or email with another,
+     *     telling the owner to rebuild from the roster
+     */
+    public RosterIdentities apply(List<EmployeeChange> changes) {
+        Index nextByIdentity = byIdentity.copy();
+        Index nextByEmail = byEmail.copy();
+        for (EmployeeChange change : changes) {
+            Employee employee = change.employee();
+            switch (change.type()) {
+                case CREATED -> {
+                    nextByIdentity.add(identityKey(employee), employee);
+                    nextByEmail.add(emailKey(employee), employee);
+                }
+                case DELETED -> {
+                    if (!nextByIdentity.remove(identityKey(employee)) || !nextByEmail.remove(emailKey(employee))) {
+                        return null;
+                    }
+                }
+            }
+        }
+        return new RosterIdentities(nextByIdentity, nextByEmail);
+    }
+
+    /**
+     * @return an employee with the candidate's identity or (if the candidate has one) email
+     */
+    public Optional<Employee> find(Employee candidate) {
+        Employee found = byIdentity.get(identityKey(candidate));
+        if (found == null) {
+            found = byEmail.get(emailKey(candidate));
+        }
+        return Optional.ofNullable(found);
+    }
+
+    /**
+     * @return the normalized (name, title, age) key, or null if the name or title is missing
+     */
+    public static String identityKey(Employee employee) {
+        if (employee.employeeName() == null || employee.employeeTitle() == null) {
+            return null;
+        }
+        return normalize(employee.employeeName()) + '\u0000' + normalize(employee.employeeTitle()) + '\u0000'
+                + employee.employeeAge();
+    }
+
+    /**
+     * @return the case-folded email, or null if the employee has none
+     */
+    public static String emailKey(Employee employee) {
+        String email = employee.employeeEmail();
+        return email == null || email.isBlank() ? null : RosterIndexes.fold(email.strip());
+    }
+
+    static String normalize(String value) {
+        StringBuilder normalized = new StringBuilder(value.length());
+        boolean space = false;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (Character.isWhitespace(c)) {
+                space = normalized.length() > 0;
+            } else {
+                if (space) {
+                    normalized.append(' ');
+                    space = false;
+                }
+                normalized.append(FoldedNames.fold(c));
+            }
+        }
+        return normalized.toString();
+    }
+
+    /*
+     * The first employee per key, as in roster order. Keys held by more than one employee are remembered, since
+     * removing one of those cannot tell which employee the key falls back to.
+     */
+    private record Index(Map<String, Employee> first, Set<String> shared) {
+
+        Index copy() {
+            return new Index(new HashMap<>(first), new HashSet<>(shared));
+        }
+
+        Employee get(String key) {
+            return key == null ? null : first.get(key);
+        }
+
+        void add(String key, Employee employee) {
+            if (key != null && first.putIfAbsent(key, employee) != null) {
+                shared.add(key);
+            }
+        }
+
+        /*
+         * @return false if the key was shared, so the index can no longer be maintained incrementally
+         */
+        boolean remove(String key) {
+            if (key == null) {
+                return true;
+            }
+            if (shared.contains(key)) {
+                return false;
+            }
+            first.remove(key);
+            return true;
+        }
+    }
+}
@@ -0,0 +1,214 @@
+package com.reliaquest.api.service.roster;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Lookup indexes over a {@link RosterColumns}: hash indexes on title and email domain (case-insensitive, exact) and a
+ * trigram index on lower-cased names for substring search. Posting lists hold rows in ascending order and must not be
+ * modified by callers.
+ */
+public final class RosterIndexes {
+
+    public static final int GRAM_LENGTH = 3;
+
+    private static final int[] NO_ROWS = new int[0];
+
+    private final Map<String, int[]> rowsByTitle;
+    private final Map<String, int[]> rowsByEmailDomain;
+    private final Map<String, int[]> rowsByNameGram;
+
+    private RosterIndexes(
+            Map<String, int[]> rowsByTitle, Map<String, int[]> rowsByEmailDomain, Map<String, int[]> rowsByNameGram) {
+        this.rowsByTitle = rowsByTitle;
+        this.rowsByEmailDomain = rowsByEmailDomain;
+        this.rowsByNameGram = rowsByNameGram;
+    }
+
+    public static RosterIndexes of(RosterColumns columns) {
+        Map<String, RowList> titles = new HashMap<>();
+        Map<String, RowList> domains = new HashMap<>();
+        Map<String, RowList> grams = new HashMap<>();
+        index(columns, 0, titles, domains, grams);
+        return new RosterIndexes(freeze(titles), freeze(domains), freeze(grams));
+    }
+
+    /**
+     * Indexes for the next columns of a patch: posting lists are remapped past the removed rows, and only the added
+     * rows are folded and split into grams. Their rows follow every kept row, so they append to the lists in order.
+     */
+    RosterIndexes apply(RosterColumns next, RowPatch patch) {
+        Map<String, RowList> titles = new HashMap<>();
+        Map<String, RowList> domains = new HashMap<>();
+        Map<String, RowList> grams = new HashMap<>();
+        index(next, patch.keptSize(), titles, domains, grams);
+        return new RosterIndexes(
+                patch(rowsByTitle, patch, titles),
+                patch(rowsByEmailDomain, patch, domains),
+                patch(rowsByNameGram, patch, grams));
+    }
+
+    private static void index(
+            RosterColumns columns,
+            int from,
+            Map<String, RowList> titles,
+            Map<String, RowList> domains,
+            Map<String, RowList> grams) {
+        // Names are interned by RosterColumns, so each distinct name is folded once.
+        Map<String, String> foldedNames = new HashMap<>();
+        // Likewise email domains, which are canonical.
+        Map<String, String> foldedDomains = new HashMap<>();
+
+        for (int row = from; row < columns.size(); row++) {
+            String title = columns.title(row);
+            if (title != null) {
+                titles.computeIfAbsent(fold(title), key -> new RowList()).add(row);
+            }
+            String domain = columns.emailDomain(row);
+            if (domain != null) {
+                String folded = foldedDomains.computeIfAbsent(domain, RosterIndexes::fold);
+                domains.computeIfAbsent(folded, key -> new RowList()).add(row);
+            }
+            String name = columns.name(row);
+            if (name != null) {
+                String folded = foldedNames.computeIfAbsent(name, RosterIndexes::fold);
+                for (int start = 0; start + GRAM_LENGTH <= folded.length(); start++) {
+                    // A gram repeated within one name would append the same row again; add() ignores it.
+                    grams.computeIfAbsent(folded.substring(start, start + GRAM_LENGTH), key -> new RowList())
+                            .add(row);
+                }
+            }
+        }
+    }
+
+    public int[] titleRows(String title) {
+        return rowsByTitle.getOrDefault(fold(title), NO_ROWS);
+    }
+
+    public int[] emailDomainRows(String domain) {
+        return rowsByEmailDomain.getOrDefault(fold(domain), NO_ROWS);
+    }
+
+    /**
+     * @return the size of the shortest posting list among the fragment's grams, an upper bound on the matches, or -1
+     *     if the fragment is shorter than {@link #GRAM_LENGTH} and the index cannot be used
+     */
+    public int nameCandidateEstimate(String fragment) {
+        String folded = fold(fragment);
+        if (folded.length() < GRAM_LENGTH) {
+            return -1;
+        }
+        int estimate = Integer.MAX_VALUE;
+        for (int start = 0; start + GRAM_LENGTH <= folded.length(); start++) {
+            estimate = Math.min(estimate, nameGramRows(folded, start).length);
+        }
+        return estimate;
+    }
+
+    /**
+     * Rows whose names contain every gram of the fragment. This is a superset of the rows containing the fragment
+     * itself, so callers must still check each candidate.
+     */
+    public int[] nameCandidateRows(String fragment) {
+        String folded = fold(fragment);
+        if (folded.length() < GRAM_LENGTH) {
+            throw new IllegalArgumentException("Fragment shorter than " + GRAM_LENGTH + " characters: " + fragment);
+        }
+        int[][] postings = new int[folded.length() - GRAM_LENGTH + 1][];
+        for (int start = 0; start < postings.length; start++) {
+            postings[start] = nameGramRows(folded, start);
+        }
+        // Intersect from the most selective list so the working set only shrinks.
+        Arrays.sort(postings, (left, right) -> Integer.compare(left.length, right.length));
+        int[] rows = postings[0];
+        for (int i = 1; i < postings.length && rows.length > 0; i++) {
+            rows = intersect(rows, postings[i]);
+        }
+        return rows;
+    }
+
+    /**
+     * Lower-cases per {@code char}, consistently with {@link FoldedNames}.
+     */
+    public static String fold(String value) {
+        char[] chars = value.toCharArray();
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = FoldedNames.fold(chars[i]);
+        }
+        return new String(chars);
+    }
+
+    private int[] nameGramRows(String folded, int start) {
+        return rowsByNameGram.getOrDefault(folded.substring(start, start + GRAM_LENGTH), NO_ROWS);
+    }
+
+    private static int[] intersect(int[] left, int[] right) {
+        int[] result = new int[Math.min(left.length, right.length)];
+        int count = 0;
+        int i = 0;
+        int j = 0;
+        while (i < left.length && j < right.length) {
+            if (left[i] < right[j]) {
+                i++;
+            } else if (left[i] > right[j]) {
+                j++;
+            } else {
+                result[count++] = left[i];
+                i++;
+                j++;
+            }
+        }
+        return Arrays.copyOf(result, count);
+    }
+
+    /*
+     * Lists left empty by removed rows are dropped, as a fresh build would never create them.
+     */
+    private static Map<String, int[]> patch(Map<String, int[]> current, RowPatch patch, Map<String, RowList> added) {
+        Map<String, int[]> patched = new HashMap<>((int) ((current.size() + added.size()) / 0.75f) + 1);
+        current.forEach((key, rows) -> {
+            int[] remapped = patch.remap(rows);
+            if (remapped.length > 0) {
+                patched.put(key, remapped);
+            }
+        });
+        added.forEach((key, rows) -> patched.merge(key, rows.toArray(), RosterIndexes::concat));
+        return patched;
+    }
+
+    private static int[] concat(int[] left, int[] right) {
+        int[] rows = Arrays.copyOf(left, left.length + right.length);
+        System.arraycopy(right, 0, rows, left.length, right.length);
+        return rows;
+    }
+
+    private static Map<String, int[]> freeze(Map<String, RowList> lists) {
+        Map<String, int[]> frozen = new HashMap<>((int) (lists.size() / 0.75f) + 1);
+        lists.forEach((key, rows) -> frozen.put(key, rows.toArray()));
+        return frozen;
+    }
+
+    /*
+     * Growable list of ascending rows.
+     */
+    private static final class RowList {
+
+        private int[] rows = new int[4];
+        private int size;
+
+        void add(int row) {
+            if (size > 0 && rows[size - 1] == row) {
+                return;
+            }
+            if (size == rows.length) {
+                rows = Arrays.copyOf(rows, size * 2);
+            }
+            rows[size++] = row;
+        }
+
+        int[] toArray() {
+            return Arrays.copyOf(rows, size);
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.reliaquest.api.service.roster;
+
+import com.reliaquest.api.model.Employee;
+import java.util.AbstractList;
+import java.util.RandomAccess;
+
+/**
+ * Immutable employee list that carries the {@link RosterColumns} it was materialized from, so a snapshot of it reuses
+ * those columns instead of building them again. Employees share the columns' strings and encoded emails.
+ */
+public final class RosterList extends AbstractList<Employee> implements RandomAccess {
+
+    private final Employee[] employees;
+    private final RosterColumns columns;
+
+    private RosterList(Employee[] employees, RosterColumns columns) {
+        this.employees = employees;
+        this.columns = columns;
+    }
+
+    public static RosterList of(RosterColumns columns) {
+        Employee[] employees = new Employee[columns.size()];
+        for (int row = 0; row < employees.length; row++) {
+            employees[row] = columns.employee(row);
+        }
+        return new RosterList(employees, columns);
+    }
+
+    /**
+     * @param employees the columns' rows, in order; taken over, not copied
+     */
+    static RosterList of(Employee[] employees, RosterColumns columns) {
+        return new RosterList(employees, columns);
+    }
+
+    public RosterColumns columns() {
+        return columns;
+    }
+
+    @Override
+    public Employee get(int index) {
+        return employees[index];
+    }
+
+    @Override
+    public int size() {
+        return employees.length;
+    }
+}
@@ -0,0 +1,112 @@
+package com.reliaquest.api.service.roster;
+
+import jakarta.annotation.PreDestroy;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.BinaryOperator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Runs chunked scans over roster columns, in parallel for rosters of at least {@code employee.parallel.threshold}
+ * rows and on the calling thread below it.
+ *
+ * @implNote Parallel scans run on a dedicated fork-join pool ({@code employee.parallel.threads}, half the cores by
+ * default) rather than the common pool, so concurrent large queries share a bounded number of cores and leave the
+ * rest to request threads. The roster is split into chunks of {@code employee.parallel.chunk-size} rows whose results
+ * are combined in roster order. {@code ParallelScanBenchmark} measures the crossover to tune the threshold against.
+ */
+@Slf4j
+@Component
+public class RosterParallelism {
+
+    /**
+     * Computes a partial result over rows {@code [from, to)}.
+     */
+    @FunctionalInterface
+    public interface ChunkScan<A> {
+        A scan(int from, int to);
+    }
+
+    private final ForkJoinPool pool;
+    private final int threshold;
+    private final int chunkSize;
+
+    @Autowired
+    public RosterParallelism(
+            @Value("${employee.parallel.threads:0}") int threads,
+            @Value("${employee.parallel.threshold:200000}") int threshold,
+            @Value("${employee.parallel.chunk-size:32768}") int chunkSize) {
+        int parallelism = threads > 0 ? threads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        this.pool = new ForkJoinPool(parallelism, RosterParallelism::newWorker, null, false);
+        this.threshold = threshold;
+        this.chunkSize = Math.max(1, chunkSize);
+        log.info("Roster scans go parallel from {} rows on {} threads", threshold, parallelism);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        pool.shutdownNow();
+    }
+
+    /**
+     * Scans rows {@code [0, size)} and combines the chunk results left to right.
+     */
+    public <A> A reduce(int size, ChunkScan<A> scan, BinaryOperator<A> combine) {
+        if (size < threshold || size <= chunkSize) {
+            return scan.scan(0, size);
+        }
+        return pool.invoke(new ChunkTask<>(0, size, chunkSize, scan, combine));
+    }
+
+    public static int[] concat(int[] left, int[] right) {
+        if (left.length == 0) {
+            return right;
+        }
+        if (right.length == 0) {
+            return left;
+        }
+        int[] rows = Arrays.copyOf(left, left.length + right.length);
+        System.arraycopy(right, 0, rows, left.length, right.length);
+        return rows;
+    }
+
+    private static ForkJoinWorkerThread newWorker(ForkJoinPool pool) {
+        ForkJoinWorkerThread worker = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+        worker.setName("roster-scan-" + worker.getPoolIndex());
+        return worker;
+    }
+
+    private static final class ChunkTask<A> extends RecursiveTask<A> {
+
+        private final int from;
+        private final int to;
+        private final int chunkSize;
+        private final ChunkScan<A> scan;
+        private final BinaryOperator<A> combine;
+
+        ChunkTask(int from, int to, int chunkSize, ChunkScan<A> scan, BinaryOperator<A> combine) {
+            this.from = from;
+            this.to = to;
+            this.chunkSize = chunkSize;
+            this.scan = scan;
+            this.combine = combine;
+        }
+
+        @Override
+        protected A compute() {
+            if (to - from <= chunkSize) {
+                return scan.scan(from, to);
+            }
+            int middle = (from + to) >>> 1;
+            ChunkTask<A> left = new ChunkTask<>(from, middle, chunkSize, scan, combine);
+            left.fork();
+            A right = new ChunkTask<>(middle, to, chunkSize, scan, combine).compute();
+            return combine.apply(left.join(), right);
+        }
+    }
+}
@@ -0,0 +1,260 @@
+package com.reliaquest.api.service.roster;
+
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.EmployeeChange;
+import com.reliaquest.api.model.EmployeeChanges;
+import com.reliaquest.api.service.client.RosterVersion;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Immutable view of the upstream roster at one version, together with the indices derived from it.
+ */
+public final class RosterSnapshot {
+
+    private final RosterVersion version;
+    private final List<Employee> employees;
+    private final Map<String, Employee> byId;
+
+    private volatile RosterColumns columns;
+    private volatile RosterAggregates aggregates;
+    private volatile RosterIndexes indexes;
+    private volatile RosterIdentities identities;
+
+    private RosterSnapshot(RosterVersion version, List<Employee> employees, Map<String, Employee> byId) {
+        this(version, employees, byId, null, null, null, null);
+    }
+
+    private RosterSnapshot(
+            RosterVersion version,
+            List<Employee> employees,
+            Map<String, Employee> byId,
+            RosterColumns columns,
+            RosterAggregates aggregates,
+            RosterIndexes indexes,
+            RosterIdentities identities) {
+        this.version = version;
+        this.employees = employees;
+        this.byId = byId;
+        this.columns = columns;
+        this.aggregates = aggregates;
+        this.indexes = indexes;
+        this.identities = identities;
+    }
+
+    /**
+     * @param version upstream version of the list, or null if unknown
+     */
+    public static RosterSnapshot of(RosterVersion version, List<Employee> employees) {
+        Map<String, Employee> byId = new LinkedHashMap<>(capacityFor(employees.size()));
+        for (Employee employee : employees) {
+            if (employee.id() != null) {
+                byId.putIfAbsent(employee.id(), employee);
+            }
+        }
+        return new RosterSnapshot(version, employees, Collections.unmodifiableMap(byId));
+    }
+
+    /**
+     * Applies a batch from the upstream change feed. Only the changed employees travel over the wire; the list and
+     * index are rebuilt by copying references, without re-reading or re-deserializing the unchanged roster. Columns,
+     * aggregates, indexes and identities already built are carried forward by patching in the changed rows; otherwise
+     * they are built on first use.
+     *
+     * @implNote Carrying the columns and indexes still copies the column arrays and remaps posting lists past removed
+     * rows, but never folds, hashes or sorts the unchanged rows again.
+     * @throws IllegalArgumentException if the batch does not continue this snapshot's version
+     */
+    public RosterSnapshot apply(EmployeeChanges changes) {
+        if (!canApply(changes)) {
+            throw new IllegalArgumentException("Changes since %d of epoch %s do not continue %s"
+                    .formatted(changes.since(), changes.epoch(), version));
+        }
+        if (changes.changes().isEmpty()) {
+            return this;
+        }
+
+        Map<String, Employee> patched = new LinkedHashMap<>(capacityFor(byId.size() + changes.changes().size()));
+        patched.putAll(byId);
+        // Only the changes that altered the roster reach the aggregates; a replayed create or a delete of an employee
+        // already gone would otherwise be counted again.
+        List<EmployeeChange> effective = new ArrayList<>(changes.changes().size());
+        for (EmployeeChange change : changes.changes()) {
+            Employee employee = change.employee();
+            switch (change.type()) {
+                case CREATED -> {
+                    Employee replaced = patched.get(employee.id());
+                    if (employee.equals(replaced)) {
+                        continue;
+                    }
+                    // A replacement moves to the end, as a delete followed by a create would, so the list stays in
+                    // the order the columns' rows are patched in.
+                    if (replaced != null) {
+                        patched.remove(employee.id());
+                        effective.add(new EmployeeChange(change.sequence(), EmployeeChange.Type.DELETED, replaced));
+                    }
+                    patched.put(employee.id(), employee);
+                    effective.add(change);
+                }
+                case DELETED -> {
+                    Employee removed = patched.remove(employee.id());
+                    if (removed != null) {
+                        effective.add(new EmployeeChange(change.sequence(), EmployeeChange.Type.DELETED, removed));
+                    }
+                }
+            }
+        }
+        RosterVersion next = version.advanceTo(changes.latest());
+        RosterColumns currentColumns = builtColumns();
+        RosterAggregates currentAggregates = aggregates;
+        RosterIndexes currentIndexes = indexes;
+        RosterIdentities currentIdentities = identities;
+        if (effective.isEmpty()) {
+            return new RosterSnapshot(
+                    next, employees, byId, currentColumns, currentAggregates, currentIndexes, currentIdentities);
+        }
+        // Rows line up with the ids only when every employee has a distinct one.
+        if (currentColumns == null || employees.size() != byId.size()) {
+            return new RosterSnapshot(
+                    next,
+                    List.copyOf(patched.values()),
+                    Collections.unmodifiableMap(patched),
+                    null,
+                    currentAggregates == null ? null : currentAggregates.apply(effective),
+                    null,
+                    currentIdentities == null ? null : currentIdentities.apply(effective));
+        }
+
+        // Net effect on the rows: employees both added and removed within the batch never reach the columns.
+        Map<String, Employee> added = new LinkedHashMap<>();
+        Set<String> removedIds = new HashSet<>();
+        for (EmployeeChange change : effective) {
+            String id = change.employee().id();
+            if (change.type() == EmployeeChange.Type.CREATED) {
+                added.put(id, change.employee());
+            } else if (added.remove(id) == null) {
+                removedIds.add(id);
+            }
+        }
+        RowPatch patch = RowPatch.of(currentColumns.size(), removedRows(currentColumns, removedIds), added.size());
+        RosterColumns nextColumns = currentColumns.apply(patch, List.copyOf(added.values()));
+        Employee[] nextEmployees = new Employee[patch.newSize()];
+        for (int row = 0; row < patch.size(); row++) {
+            if (patch.newRow(row) >= 0) {
+                nextEmployees[patch.newRow(row)] = employees.get(row);
+            }
+        }
+        int row = patch.keptSize();
+        for (Employee employee : added.values()) {
+            nextEmployees[row++] = employee;
+        }
+        return new RosterSnapshot(
+                next,
+                RosterList.of(nextEmployees, nextColumns),
+                Collections.unmodifiableMap(patched),
+                nextColumns,
+                currentAggregates == null ? null : currentAggregates.apply(effective),
+                currentIndexes == null ? null : currentIndexes.apply(nextColumns, patch),
+                currentIdentities == null ? null : currentIdentities.apply(effective));
+    }
+
+    public boolean canApply(EmployeeChanges changes) {
+        return version != null
+                && !changes.reset()
+                && Objects.equals(version.epoch(), changes.epoch())
+                && version.sequence() == changes.since();
+    }
+
+    public RosterVersion version() {
+        return version;
+    }
+
+    public List<Employee> employees() {
+        return employees;
+    }
+
+    public Map<String, Employee> byId() {
+        return byId;
+    }
+
+    /**
+     * Columnar form of the roster, built on first use unless the list was parsed straight into columns. Concurrent
+     * first callers may each build it; any result is equivalent.
+     */
+    public RosterColumns columns() {
+        RosterColumns result = columns;
+        if (result == null) {
+            result = employees instanceof RosterList rosterList ? rosterList.columns() : RosterColumns.of(employees);
+            columns = result;
+        }
+        return result;
+    }
+
+    /**
+     * Incrementally maintained aggregates; built from {@link #columns()} only when not carried over from the
+     * previous snapshot.
+     */
+    public RosterAggregates aggregates() {
+        RosterAggregates result = aggregates;
+        if (result == null) {
+            result = RosterAggregates.of(columns());
+            aggregates = result;
+        }
+        return result;
+    }
+
+    /**
+     * Title, email domain and name indexes for filtered queries, built on first use.
+     */
+    public RosterIndexes indexes() {
+        RosterIndexes result = indexes;
+        if (result == null) {
+            result = RosterIndexes.of(columns());
+            indexes = result;
+        }
+        return result;
+    }
+
+    /**
+     * Identity and email indexes for duplicate detection; built from the roster only when not carried over from the
+     * previous snapshot.
+     */
+    public RosterIdentities identities() {
+        RosterIdentities result = identities;
+        if (result == null) {
+            result = RosterIdentities.of(employees);
+            identities = result;
+        }
+        return result;
+    }
+
+    private RosterColumns builtColumns() {
+        RosterColumns result = columns;
+        return result == null && employees instanceof RosterList rosterList ? rosterList.columns() : result;
+    }
+
+    private static int[] removedRows(RosterColumns columns, Set<String> ids) {
+        if (ids.isEmpty()) {
+            return new int[0];
+        }
+        int[] rows = new int[ids.size()];
+        int count = 0;
+        for (int row = 0; row < columns.size() && count < rows.length; row++) {
+            if (ids.contains(columns.id(row))) {
+                rows[count++] = row;
+            }
+        }
+        return count == rows.length ? rows : Arrays.copyOf(rows, count);
+    }
+
+    private static int capacityFor(int size) {
+        return (int) (size / 0.75f) + 1;
+    }
+}
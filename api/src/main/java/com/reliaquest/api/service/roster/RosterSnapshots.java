@@ -0,0 +1,232 @@
+package com.reliaquest.api.service.roster;
+
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.EmployeeChange;
+import com.reliaquest.api.model.EmployeeChanges;
+import com.reliaquest.api.service.cache.ReplicaLeadership;
+import com.reliaquest.api.service.client.ServerClient;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.interceptor.SimpleKey;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClientException;
+
+/**
+ * Tracks the {@link RosterSnapshot} behind the {@code employees} cache and keeps both caches, and the
+ * {@link SearchResultCache}, current when the upstream reports changes.
+ */
+@Slf4j
+@Component
+public class RosterSnapshots {
+
+    public static final String EMPLOYEES_CACHE = "employees";
+    public static final String EMPLOYEE_BY_ID_CACHE = "employeeById";
+
+    private final ServerClient serverClient;
+    private final CacheManager cacheManager;
+    private final SearchResultCache searchResultCache;
+
+    private final AtomicReference<RosterSnapshot> current = new AtomicReference<>();
+
+    // Survives invalidation, for reads to fall back on while the upstream is unavailable.
+    private final AtomicReference<RosterSnapshot> lastKnown = new AtomicReference<>();
+
+    // Set when this replica took over the roster sync, until it holds a roster whose version it knows.
+    private volatile boolean takeOverPending;
+
+    @Autowired
+    public RosterSnapshots(ServerClient serverClient, CacheManager cacheManager, SearchResultCache searchResultCache) {
+        this.serverClient = serverClient;
+        this.cacheManager = cacheManager;
+        this.searchResultCache = searchResultCache;
+    }
+
+    /**
+     * @return the snapshot for the list currently held in the {@code employees} cache, if it has been loaded
+     */
+    public Optional<RosterSnapshot> loaded() {
+        return Optional.ofNullable(cachedEmployees()).map(this::resolve);
+    }
+
+    /**
+     * @return the most recent snapshot, even if the caches were invalidated since
+     */
+    public Optional<RosterSnapshot> lastKnown() {
+        return Optional.ofNullable(lastKnown.get());
+    }
+
+    /**
+     * @return the snapshot the change feed continues from: the loaded one, if its upstream version is known
+     */
+    public Optional<RosterSnapshot> syncBase() {
+        if (takeOverPending) {
+            takeOver();
+        }
+        return loaded().filter(snapshot -> snapshot.version() != null);
+    }
+
+    /**
+     * Returns the snapshot for a roster list, building (and remembering) a new one only when the list changed.
+     */
+    public RosterSnapshot resolve(List<Employee> employees) {
+        RosterSnapshot snapshot = current.get();
+        if (snapshot != null && snapshot.employees() == employees) {
+            return snapshot;
+        }
+        RosterSnapshot resolved =
+                RosterSnapshot.of(serverClient.versionOf(employees).orElse(null), employees);
+        current.set(resolved);
+        lastKnown.set(resolved);
+        searchResultCache.reset(resolved);
+        return resolved;
+    }
+
+    /**
+     * Patches the snapshot and both caches with a batch of upstream changes. If the batch cannot be applied (upstream
+     * restarted or no longer retains the missing changes) the caches are invalidated so the next read reloads them.
+     *
+     * @return true if the caches reflect the batch afterwards
+     */
+    public synchronized boolean apply(RosterSnapshot base, EmployeeChanges changes) {
+        if (!base.canApply(changes)) {
+            log.info("Change feed cannot continue roster {} (reset={}, epoch={}), invalidating caches.",
+                    base.version(), changes.reset(), changes.epoch());
+            invalidate();
+            return false;
+        }
+        if (changes.changes().isEmpty()) {
+            return true;
+        }
+        if (cachedEmployees() != base.employees()) {
+            // The roster was reloaded while the batch was in flight; the next poll continues from the new one.
+            return false;
+        }
+
+        RosterSnapshot next = base.apply(changes);
+        current.set(next);
+        lastKnown.set(next);
+        searchResultCache.advance(base, next, changes.changes());
+        serverClient.remember(next.version(), next.employees());
+        employeesCache().ifPresent(cache -> cache.put(SimpleKey.EMPTY, next.employees()));
+        employeeByIdCache().ifPresent(cache -> {
+            for (EmployeeChange change : changes.changes()) {
+                switch (change.type()) {
+                    case CREATED -> cache.put(change.employee().id(), change.employee());
+                    case DELETED -> cache.evict(change.employee().id());
+                }
+            }
+        });
+        log.debug("Applied {} upstream change(s), roster now at {}.", changes.changes().size(), next.version());
+        return true;
+    }
+
+    /**
+     * Looks ids up in the loaded roster snapshot and the {@code employeeById} cache, without going upstream.
+     *
+     * @return the employees found, keyed by id
+     */
+    public Map<String, Employee> cachedEmployees(Collection<String> ids) {
+        Map<String, Employee> roster = loaded().map(RosterSnapshot::byId).orElse(Map.of());
+        Optional<Cache> byIdCache = employeeByIdCache();
+        Map<String, Employee> found = new HashMap<>();
+        for (String id : ids) {
+            Employee employee = roster.get(id);
+            if (employee == null && byIdCache.isPresent()) {
+                employee = byIdCache.get().get(id, Employee.class);
+            }
+            if (employee != null) {
+                found.put(id, employee);
+            }
+        }
+        return found;
+    }
+
+    /**
+     * @return true if the {@code employeeById} cache holds the employee, i.e. reading it by id stays local
+     */
+    public boolean isEmployeeCached(String id) {
+        return employeeByIdCache()
+                .map(cache -> cache.get(id, Employee.class) != null)
+                .orElse(false);
+    }
+
+    public void cacheEmployee(Employee employee) {
+        employeeByIdCache().ifPresent(cache -> cache.put(employee.id(), employee));
+    }
+
+    public synchronized void invalidate() {
+        current.set(null);
+        searchResultCache.reset(null);
+        employeesCache().ifPresent(Cache::clear);
+        employeeByIdCache().ifPresent(Cache::clear);
+    }
+
+    /**
+     * A replica taking over the roster sync only knows the version of a roster it loaded itself, so it reloads the
+     * shared one once, on its next sync, without clearing the caches the other replicas read.
+     */
+    @EventListener
+    public void onLeadershipAcquired(ReplicaLeadership.Acquired event) {
+        log.info("Replica {} reloads the roster to follow upstream changes from it.", event.replicaId());
+        takeOverPending = true;
+    }
+
+    /*
+     * Overwrites the cached roster with a fresh upstream copy, and brings the employeeById entries of employees it
+     * dropped or changed in line with it. Left pending if the upstream fails, for the next sync to retry.
+     */
+    private void takeOver() {
+        List<Employee> previous = cachedEmployees();
+        if (previous == null || serverClient.versionOf(previous).isPresent()) {
+            // The next read loads a roster with its version, or this replica loaded the cached one itself.
+            takeOverPending = false;
+            return;
+        }
+        List<Employee> fresh;
+        try {
+            fresh = serverClient.reloadAllEmployees();
+        } catch (RestClientException e) {
+            log.debug("Reloading the roster to take over its sync failed: {}", e.getMessage());
+            return;
+        }
+        synchronized (this) {
+            Map<String, Employee> byId = resolve(fresh).byId();
+            employeesCache().ifPresent(cache -> cache.put(SimpleKey.EMPTY, fresh));
+            employeeByIdCache().ifPresent(cache -> {
+                for (Employee employee : previous) {
+                    Employee now = employee.id() == null ? employee : byId.get(employee.id());
+                    if (now == null) {
+                        cache.evict(employee.id());
+                    } else if (!now.equals(employee)) {
+                        cache.put(now.id(), now);
+                    }
+                }
+            });
+        }
+        takeOverPending = false;
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Employee> cachedEmployees() {
+        return employeesCache()
+                .map(cache -> (List<Employee>) cache.get(SimpleKey.EMPTY, List.class))
+                .orElse(null);
+    }
+
+    private Optional<Cache> employeesCache() {
+        return Optional.ofNullable(cacheManager.getCache(EMPLOYEES_CACHE));
+    }
+
+    private Optional<Cache> employeeByIdCache() {
+        return Optional.ofNullable(cacheManager.getCache(EMPLOYEE_BY_ID_CACHE));
+    }
+}
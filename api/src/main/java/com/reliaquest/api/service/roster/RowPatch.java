@@ -0,0 +1,100 @@
+package com.reliaquest.api.service.roster;
+
+import java.util.Arrays;
+
+/**
+ * How the rows of one snapshot's columns map onto the next after a change batch: removed rows close up, the remaining
+ * rows keep their order, and added rows follow them. Row numbers only ever decrease, so ascending row lists stay
+ * ascending once remapped.
+ */
+final class RowPatch {
+
+    private final int size;
+    private final int[] removedRows;
+    private final int added;
+    // Next row of each current row, -1 if removed; null when no row is removed.
+    private final int[] newRows;
+
+    private RowPatch(int size, int[] removedRows, int added, int[] newRows) {
+        this.size = size;
+        this.removedRows = removedRows;
+        this.added = added;
+        this.newRows = newRows;
+    }
+
+    /**
+     * @param removedRows current rows to drop, ascending
+     * @param added number of rows appended after the remaining ones
+     */
+    static RowPatch of(int size, int[] removedRows, int added) {
+        if (removedRows.length == 0) {
+            return new RowPatch(size, removedRows, added, null);
+        }
+        int[] newRows = new int[size];
+        int next = 0;
+        int removed = 0;
+        for (int row = 0; row < size; row++) {
+            if (removed < removedRows.length && removedRows[removed] == row) {
+                newRows[row] = -1;
+                removed++;
+            } else {
+                newRows[row] = next++;
+            }
+        }
+        return new RowPatch(size, removedRows, added, newRows);
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * @return the number of current rows kept, which is also the first added row
+     */
+    int keptSize() {
+        return size - removedRows.length;
+    }
+
+    int newSize() {
+        return keptSize() + added;
+    }
+
+    /**
+     * @return the next row of a current row, or -1 if it is removed
+     */
+    int newRow(int row) {
+        return newRows == null ? row : newRows[row];
+    }
+
+    /**
+     * Copies the kept rows of the {@code source} column to the start of {@code target}, in order.
+     */
+    void copyKept(Object source, Object target) {
+        int from = 0;
+        int to = 0;
+        for (int removed : removedRows) {
+            System.arraycopy(source, from, target, to, removed - from);
+            to += removed - from;
+            from = removed + 1;
+        }
+        System.arraycopy(source, from, target, to, size - from);
+    }
+
+    /**
+     * Maps current rows to next rows, dropping removed ones and keeping the order. Returns {@code rows} itself when
+     * nothing is removed.
+     */
+    int[] remap(int[] rows) {
+        if (newRows == null) {
+            return rows;
+        }
+        int[] result = new int[rows.length];
+        int count = 0;
+        for (int row : rows) {
+            if (newRows[row] >= 0) {
+                result[count++] = newRows[row];
+            }
+        }
+        return count == result.length ? result : Arrays.copyOf(result, count);
+    }
+}
@@ -0,0 +1,168 @@
+package com.reliaquest.api.service.roster;
+
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.EmployeeChange;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Bounded LRU cache of name search results for the current roster snapshot, keyed by the case-folded query.
+ *
+ * @implNote {@link RosterSnapshots} moves the cache along with the roster: a batch of upstream changes patches every
+ * cached result (deleted employees dropped, matching new ones appended, which keeps roster order), while a reload
+ * starts over. Lookups for any other snapshot miss and are not stored. Results longer than
+ * {@code employee.search.cache.max-result-size} are not cached. Hits, misses, patches and evictions are published
+ * as {@code employee.search.cache.*} metrics.
+ */
+@Component
+public class SearchResultCache implements MeterBinder {
+
+    private final int maxEntries;
+    private final int maxResultSize;
+
+    private final LinkedHashMap<String, List<Employee>> results;
+    private RosterSnapshot snapshot;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder patches = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    @Autowired
+    public SearchResultCache(
+            @Value("${employee.search.cache.max-entries:1024}") int maxEntries,
+            @Value("${employee.search.cache.max-result-size:10000}") int maxResultSize) {
+        this.maxEntries = maxEntries;
+        this.maxResultSize = maxResultSize;
+        this.results = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, List<Employee>> eldest) {
+                if (size() > SearchResultCache.this.maxEntries) {
+                    evictions.increment();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Returns the cached result for {@code query} on {@code snapshot}, computing (and caching) it on a miss.
+     */
+    public List<Employee> get(RosterSnapshot snapshot, String query, Supplier<List<Employee>> search) {
+        String key = RosterIndexes.fold(query);
+        synchronized (this) {
+            List<Employee> cached = snapshot == this.snapshot ? results.get(key) : null;
+            if (cached != null) {
+                hits.increment();
+                return cached;
+            }
+        }
+        misses.increment();
+        List<Employee> computed = search.get();
+        if (computed.size() <= maxResultSize) {
+            synchronized (this) {
+                if (snapshot == this.snapshot) {
+                    results.put(key, List.copyOf(computed));
+                }
+            }
+        }
+        return computed;
+    }
+
+    /**
+     * Starts over for a snapshot that was loaded rather than patched; null when the roster was invalidated.
+     */
+    public synchronized void reset(RosterSnapshot snapshot) {
+        this.snapshot = snapshot;
+        results.clear();
+    }
+
+    /**
+     * Carries the cached results of {@code base} over to {@code next}, which {@code base} became by applying
+     * {@code changes}.
+     */
+    public synchronized void advance(RosterSnapshot base, RosterSnapshot next, List<EmployeeChange> changes) {
+        if (base != snapshot) {
+            reset(next);
+            return;
+        }
+        snapshot = next;
+        for (Map.Entry<String, List<Employee>> entry : results.entrySet()) {
+            List<Employee> patched = patch(entry.getKey(), entry.getValue(), changes);
+            if (patched != entry.getValue()) {
+                entry.setValue(patched);
+                patches.increment();
+            }
+        }
+        results.values().removeIf(patched -> patched.size() > maxResultSize);
+    }
+
+    public synchronized int size() {
+        return results.size();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("employee.search.cache.hits", hits, LongAdder::sum)
+                .description("Name searches answered from the result cache")
+                .register(registry);
+        FunctionCounter.builder("employee.search.cache.misses", misses, LongAdder::sum)
+                .description("Name searches that scanned the roster")
+                .register(registry);
+        FunctionCounter.builder("employee.search.cache.patches", patches, LongAdder::sum)
+                .description("Cached results changed by upstream changes and patched instead of being dropped")
+                .register(registry);
+        FunctionCounter.builder("employee.search.cache.evictions", evictions, LongAdder::sum)
+                .description("Cached results evicted as least recently used")
+                .register(registry);
+        Gauge.builder("employee.search.cache.size", this, SearchResultCache::size)
+                .description("Cached search results")
+                .register(registry);
+    }
+
+    /*
+     * @return the patched result, or cached itself if none of the changes alter it
+     */
+    private static List<Employee> patch(String foldedQuery, List<Employee> cached, List<EmployeeChange> changes) {
+        boolean affected = false;
+        for (EmployeeChange change : changes) {
+            if (change.type() == EmployeeChange.Type.DELETED || matches(foldedQuery, change.employee())) {
+                affected = true;
+                break;
+            }
+        }
+        if (!affected) {
+            return cached;
+        }
+
+        Map<String, Employee> byId = new LinkedHashMap<>();
+        for (Employee employee : cached) {
+            byId.put(employee.id(), employee);
+        }
+        boolean changed = false;
+        for (EmployeeChange change : changes) {
+            Employee employee = change.employee();
+            if (change.type() == EmployeeChange.Type.CREATED && matches(foldedQuery, employee)) {
+                changed |= !employee.equals(byId.put(employee.id(), employee));
+            } else {
+                changed |= byId.remove(employee.id()) != null;
+            }
+        }
+        return changed ? List.copyOf(byId.values()) : cached;
+    }
+
+    private static boolean matches(String foldedQuery, Employee employee) {
+        return employee.employeeName() != null && RosterIndexes.fold(employee.employeeName()).contains(foldedQuery);
+    }
+}
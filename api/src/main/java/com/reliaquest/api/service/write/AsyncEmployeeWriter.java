@@ -0,0 +1,326 @@
+package com.reliaquest.api.service.write;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.WriteOperation;
+import com.reliaquest.api.service.EmployeeService;
+import com.reliaquest.api.service.client.UpstreamUnavailableException;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.UUID;
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+
+/**
+ * Accepts creates and deletes for write-behind execution: each write is journaled before it is acknowledged, then
+ * drained to the upstream by a single worker thread, so callers never wait on upstream retries.
+ *
+ * @implNote The worker takes up to {@code employee.writes.batch-size} operations at a time and spaces upstream calls
+ * {@code employee.writes.min-interval-ms} apart. The upstream has no batch write, so a batch is a pacing unit rather
+ * than one request. A write still rate limited after the client's own retries goes back to the head of the queue and
+ * the worker pauses for {@code employee.writes.rate-limit-backoff-ms}; one refused by the open circuit breaker does the
+ * same and pauses until the circuit lets a probe through. Operations found in progress on restart are run
+ * again: a re-run create whose employee is already on the upstream roster, and a re-run delete whose target is already
+ * gone, count as succeeded. Completed operations stay queryable for
+ * {@code employee.writes.retention-ms}, after which they (and their idempotency keys) are pruned and the journal is
+ * compacted.
+ */
+@Slf4j
+@Component
+@Lazy(false)
+public class AsyncEmployeeWriter {
+
+    private final EmployeeService employeeService;
+    private final WriteJournal journal;
+    private final int batchSize;
+    private final long minIntervalMs;
+    private final long rateLimitBackoffMs;
+    private final long retentionMs;
+    private final Clock clock;
+
+    private final Map<String, WriteOperation> operations = new ConcurrentHashMap<>();
+    private final Map<String, String> operationIdsByKey = new HashMap<>();
+    private final BlockingDeque<String> queue = new LinkedBlockingDeque<>();
+
+    private volatile boolean stopped;
+    private Thread worker;
+
+    @Autowired
+    public AsyncEmployeeWriter(
+            EmployeeService employeeService,
+            ObjectMapper objectMapper,
+            @Value("${employee.writes.journal-path:${java.io.tmpdir}/employee-api-${server.port:8111}/write-journal.jsonl}")
+                    String journalPath,
+            @Value("${employee.writes.fsync:true}") boolean fsync,
+            @Value("${employee.writes.batch-size:20}") int batchSize,
+            @Value("${employee.writes.min-interval-ms:100}") long minIntervalMs,
+            @Value("${employee.writes.rate-limit-backoff-ms:30000}") long rateLimitBackoffMs,
+            @Value("${employee.writes.retention-ms:3600000}") long retentionMs)
+            throws IOException {
+        this(
+                employeeService,
+                new WriteJournal(Path.of(journalPath), objectMapper, fsync),
+                batchSize,
+                minIntervalMs,
+                rateLimitBackoffMs,
+                retentionMs,
+                Clock.systemUTC());
+    }
+
+    AsyncEmployeeWriter(
+            EmployeeService employeeService,
+            WriteJournal journal,
+            int batchSize,
+            long minIntervalMs,
+            long rateLimitBackoffMs,
+            long retentionMs,
+            Clock clock) {
+        this.employeeService = employeeService;
+        this.journal = journal;
+        this.batchSize = Math.max(1, batchSize);
+        this.minIntervalMs = minIntervalMs;
+        this.rateLimitBackoffMs = rateLimitBackoffMs;
+        this.retentionMs = retentionMs;
+        this.clock = clock;
+    }
+
+    @PostConstruct
+    public void start() throws IOException {
+        recover();
+        worker = new Thread(this::run, "employee-write-behind");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    @PreDestroy
+    public void stop() throws IOException {
+        stopped = true;
+        if (worker != null) {
+            worker.interrupt();
+        }
+        journal.close();
+    }
+
+    /**
+     * @param idempotencyKey optional; a repeated key returns the operation it was first submitted with
+     * @throws IdempotencyKeyConflictException if the key was used for a different write
+     */
+    public WriteOperation submitCreate(String idempotencyKey, Employee employee) {
+        return submit(new WriteOperation(
+                UUID.randomUUID().toString(),
+                WriteOperation.Type.CREATE,
+                idempotencyKey,
+                WriteOperation.Status.PENDING,
+                employee,
+                null,
+                null,
+                clock.instant(),
+                null));
+    }
+
+    /**
+     * @see #submitCreate(String, Employee)
+     */
+    public WriteOperation submitDelete(String idempotencyKey, String employeeId) {
+        return submit(new WriteOperation(
+                UUID.randomUUID().toString(),
+                WriteOperation.Type.DELETE,
+                idempotencyKey,
+                WriteOperation.Status.PENDING,
+                null,
+                employeeId,
+                null,
+                clock.instant(),
+                null));
+    }
+
+    public Optional<WriteOperation> findOperation(String operationId) {
+        return Optional.ofNullable(operations.get(operationId));
+    }
+
+    /**
+     * @return operations accepted but not yet completed
+     */
+    public int backlog() {
+        return queue.size();
+    }
+
+    /**
+     * Forgets operations completed longer than the retention ago and compacts the journal.
+     */
+    @Scheduled(fixedDelayString = "${employee.writes.prune-interval-ms:60000}")
+    public synchronized void prune() {
+        Instant cutoff = clock.instant().minusMillis(retentionMs);
+        boolean pruned = operations.values().removeIf(operation -> {
+            boolean expired = operation.isCompleted() && !operation.completedAt().isAfter(cutoff);
+            if (expired && operation.idempotencyKey() != null) {
+                operationIdsByKey.remove(operation.idempotencyKey());
+            }
+            return expired;
+        });
+        if (pruned || journal.lines() > 2 * operations.size()) {
+            try {
+                journal.rewrite(new ArrayList<>(operations.values()));
+            } catch (IOException e) {
+                log.warn("Compacting the write journal failed: {}", e.getMessage());
+            }
+        }
+    }
+
+    /*
+     * Reloads the journal, queueing every operation that had not completed.
+     */
+    synchronized void recover() throws IOException {
+        for (WriteOperation operation : journal.replay()) {
+            operations.put(operation.id(), operation);
+            if (operation.idempotencyKey() != null) {
+                operationIdsByKey.put(operation.idempotencyKey(), operation.id());
+            }
+            if (!operation.isCompleted()) {
+                queue.add(operation.id());
+            }
+        }
+        if (!queue.isEmpty()) {
+            log.info("Resuming {} journaled write(s)", queue.size());
+        }
+        prune();
+    }
+
+    /*
+     * Runs the next batch of queued operations, waiting up to the given time for one to arrive.
+     *
+     * @return the number of operations completed
+     */
+    int drain(long timeoutMs) throws InterruptedException {
+        String first = queue.poll(timeoutMs, TimeUnit.MILLISECONDS);
+        if (first == null) {
+            return 0;
+        }
+        List<String> batch = new ArrayList<>(batchSize);
+        batch.add(first);
+        queue.drainTo(batch, batchSize - 1);
+
+        int completed = 0;
+        for (int i = 0; i < batch.size(); i++) {
+            OptionalLong pauseMs = execute(operations.get(batch.get(i)));
+            if (pauseMs.isPresent()) {
+                // Refused: keep the rest of the batch in order ahead of anything queued since.
+                for (int j = batch.size() - 1; j >= i; j--) {
+                    queue.addFirst(batch.get(j));
+                }
+                log.warn("Upstream refused writes; pausing {} ms with {} queued", pauseMs.getAsLong(), backlog());
+                Thread.sleep(pauseMs.getAsLong());
+                break;
+            }
+            completed++;
+            if (minIntervalMs > 0) {
+                Thread.sleep(minIntervalMs);
+            }
+        }
+        return completed;
+    }
+
+    private synchronized WriteOperation submit(WriteOperation requested) {
+        String key = requested.idempotencyKey();
+        if (key != null) {
+            String operationId = operationIdsByKey.get(key);
+            if (operationId != null) {
+                WriteOperation existing = operations.get(operationId);
+                if (!existing.sameRequestAs(requested)) {
+                    throw new IdempotencyKeyConflictException(key);
+                }
+                return existing;
+            }
+        }
+        record(requested);
+        if (key != null) {
+            operationIdsByKey.put(key, requested.id());
+        }
+        queue.add(requested.id());
+        return requested;
+    }
+
+    /*
+     * @return how long to pause if the upstream refused the write (rate limited, or the circuit is open), leaving it to
+     * be retried; empty once the write completed
+     */
+    private OptionalLong execute(WriteOperation operation) {
+        boolean rerun = operation.status() == WriteOperation.Status.IN_PROGRESS;
+        WriteOperation running = operation.inProgress();
+        if (!rerun) {
+            record(running);
+        }
+        try {
+            if (running.type() == WriteOperation.Type.CREATE) {
+                // A re-run create may have reached the upstream before the restart; the upstream keeps no
+                // idempotency key, so its roster is checked for the employee first.
+                Optional<Employee> applied =
+                        rerun ? employeeService.findOnUpstreamRoster(running.employee()) : Optional.empty();
+                Employee created = applied.orElseGet(() -> employeeService.createEmployee(running.employee()));
+                record(running.succeeded(created, created.id(), clock.instant()));
+            } else {
+                employeeService.deleteEmployeeById(running.employeeId());
+                record(running.succeeded(null, running.employeeId(), clock.instant()));
+            }
+        } catch (HttpClientErrorException.TooManyRequests e) {
+            // Not applied upstream, so it goes back to the state it was queued in.
+            record(operation);
+            return OptionalLong.of(rateLimitBackoffMs);
+        } catch (UpstreamUnavailableException e) {
+            record(operation);
+            return OptionalLong.of(TimeUnit.SECONDS.toMillis(e.retryAfterSeconds()));
+        } catch (NoSuchElementException | HttpClientErrorException.NotFound e) {
+            // The upstream answers 404 for an unknown id; an empty body surfaces as NoSuchElementException.
+            record(rerun
+                    ? running.succeeded(null, running.employeeId(), clock.instant())
+                    : running.failed("Employee not found", clock.instant()));
+        } catch (RuntimeException e) {
+            log.warn("Write {} {} failed: {}", running.type(), running.id(), e.getMessage());
+            record(running.failed(e.getMessage(), clock.instant()));
+        }
+        return OptionalLong.empty();
+    }
+
+    private synchronized void record(WriteOperation operation) {
+        try {
+            journal.append(operation);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not journal write " + operation.id(), e);
+        }
+        operations.put(operation.id(), operation);
+    }
+
+    private void run() {
+        while (!stopped) {
+            try {
+                drain(1000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.error("Write-behind worker failed; continuing", e);
+            }
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package com.reliaquest.api.service.write;
+
+/**
+ * Thrown when an idempotency key is reused for a different write than the one it was first submitted with.
+ */
+public class IdempotencyKeyConflictException extends RuntimeException {
+
+    public IdempotencyKeyConflictException(String idempotencyKey) {
+        super("Idempotency key " + idempotencyKey + " was already used for a different request");
+    }
+}
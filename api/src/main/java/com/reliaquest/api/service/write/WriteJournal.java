@@ -0,0 +1,164 @@
+package com.reliaquest.api.service.write;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.model.WriteOperation;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Append-only file of write operation states, one JSON line per transition. Replaying it yields the latest state of
+ * every operation, so accepted writes survive a restart.
+ *
+ * @implNote With {@code fsync} on, each append is forced to disk before it returns, which is what makes a 202
+ * durable. A torn last line (crash mid-append) is skipped on replay. {@link #rewrite} compacts the file to one line
+ * per retained operation via a temporary file and an atomic rename. A journal is owned by one instance at a time,
+ * through a lock on a sibling {@code .lock} file held until it is closed; another instance opening it fails rather
+ * than replaying writes that are not its own.
+ */
+@Slf4j
+class WriteJournal implements AutoCloseable {
+
+    private final Path path;
+    private final ObjectMapper objectMapper;
+    private final boolean fsync;
+
+    private final FileChannel lockChannel;
+
+    private FileChannel channel;
+    private int lines;
+
+    /**
+     * @throws IOException if the journal cannot be opened, or another instance holds it
+     */
+    WriteJournal(Path path, ObjectMapper objectMapper, boolean fsync) throws IOException {
+        this.path = path;
+        this.objectMapper = objectMapper;
+        this.fsync = fsync;
+        Path parent = path.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        this.lockChannel = lock(path.resolveSibling(path.getFileName() + ".lock"));
+        this.channel = open(path);
+    }
+
+    /**
+     * @return the latest state of each journaled operation, in order of first submission
+     */
+    synchronized Collection<WriteOperation> replay() throws IOException {
+        Map<String, WriteOperation> operations = new LinkedHashMap<>();
+        boolean unreadable = false;
+        lines = 0;
+        try (BufferedReader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                lines++;
+                try {
+                    WriteOperation operation = objectMapper.readValue(line, WriteOperation.class);
+                    operations.put(operation.id(), operation);
+                } catch (JsonProcessingException e) {
+                    log.warn("Skipping unreadable write journal entry {}: {}", lines, e.getOriginalMessage());
+                    unreadable = true;
+                }
+            }
+        }
+        if (unreadable) {
+            // Later appends must not land on the end of a torn line.
+            rewrite(operations.values());
+        }
+        return operations.values();
+    }
+
+    synchronized void append(WriteOperation operation) throws IOException {
+        write(channel, operation);
+        if (fsync) {
+            channel.force(false);
+        }
+        lines++;
+    }
+
+    /**
+     * Replaces the journal with one entry per given operation.
+     */
+    synchronized void rewrite(Collection<WriteOperation> operations) throws IOException {
+        Path compacted = path.resolveSibling(path.getFileName() + ".compact");
+        try (FileChannel out = FileChannel.open(
+                compacted,
+                StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            for (WriteOperation operation : operations) {
+                write(out, operation);
+            }
+            out.force(false);
+        }
+        channel.close();
+        Files.move(compacted, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        channel = open(path);
+        lines = operations.size();
+    }
+
+    /**
+     * @return entries in the journal file, superseded ones included
+     */
+    synchronized int lines() {
+        return lines;
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        try {
+            channel.close();
+        } finally {
+            // Releases the lock.
+            lockChannel.close();
+        }
+    }
+
+    private void write(FileChannel out, WriteOperation operation) throws IOException {
+        byte[] json = objectMapper.writeValueAsBytes(operation);
+        ByteBuffer buffer = ByteBuffer.allocate(json.length + 1).put(json).put((byte) '\n');
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            out.write(buffer);
+        }
+    }
+
+    private static FileChannel lock(Path lockPath) throws IOException {
+        FileChannel lockChannel = FileChannel.open(lockPath, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+        FileLock lock;
+        try {
+            lock = lockChannel.tryLock();
+        } catch (OverlappingFileLockException e) {
+            // Held elsewhere in this JVM.
+            lock = null;
+        }
+        if (lock == null) {
+            lockChannel.close();
+            throw new IOException("Write journal lock " + lockPath
+                    + " is held by another instance; give each instance its own employee.writes.journal-path");
+        }
+        return lockChannel;
+    }
+
+    private static FileChannel open(Path path) throws IOException {
+        return FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+    }
+}
@@ -0,0 +1,84 @@
+package com.reliaquest.api.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+class AdaptiveConcurrencyLimiterTest {
+
+    private final AtomicLong now = new AtomicLong();
+    private final AdaptiveConcurrencyLimiter limiter =
+            new AdaptiveConcurrencyLimiter("upstream", 20, 2, 40, 2.0, 0.9, now::get);
+
+    @Test
+    void tryAcquire_shouldRejectAtTheLimit() {
+        List<AdaptiveConcurrencyLimiter.Permit> permits = acquireAll();
+
+        assertThat(permits).hasSize(20);
+        assertThat(limiter.tryAcquire()).isNull();
+
+        permits.get(0).release(false);
+        permits.get(0).release(false);
+        assertThat(limiter.inFlight()).isEqualTo(19);
+        assertThat(limiter.tryAcquire()).isNotNull();
+    }
+
+    @Test
+    void limit_shouldGrowWhileLatencyHolds() {
+        runRounds(20, 10, false);
+
+        assertThat(limiter.limit()).isEqualTo(40);
+    }
+
+    @Test
+    void limit_shouldShrinkWhenLatencyRises() {
+        runRounds(20, 10, false);
+        runRounds(3, 100, false);
+
+        assertThat(limiter.limit()).isLessThan(20);
+    }
+
+    @Test
+    void limit_shouldBackOffOnDropsAndRecover() {
+        runRounds(5, 1, true);
+        assertThat(limiter.limit()).isEqualTo(2);
+
+        runRounds(100, 10, false);
+        assertThat(limiter.limit()).isEqualTo(40);
+    }
+
+    @Test
+    void limit_shouldHoldWhileMostlyIdle() {
+        for (int i = 0; i < 100; i++) {
+            AdaptiveConcurrencyLimiter.Permit permit = limiter.tryAcquire();
+            now.addAndGet(TimeUnit.MILLISECONDS.toNanos(i % 2 == 0 ? 10 : 500));
+            permit.release(false);
+        }
+
+        assertThat(limiter.limit()).isEqualTo(20);
+    }
+
+    /*
+     * Fills the limit, lets every request take the given latency, then completes them all.
+     */
+    private void runRounds(int rounds, long latencyMs, boolean dropped) {
+        for (int round = 0; round < rounds; round++) {
+            List<AdaptiveConcurrencyLimiter.Permit> permits = acquireAll();
+            now.addAndGet(TimeUnit.MILLISECONDS.toNanos(latencyMs));
+            permits.forEach(permit -> permit.release(dropped));
+        }
+    }
+
+    private List<AdaptiveConcurrencyLimiter.Permit> acquireAll() {
+        List<AdaptiveConcurrencyLimiter.Permit> permits = new ArrayList<>();
+        AdaptiveConcurrencyLimiter.Permit permit;
+        while ((permit = limiter.tryAcquire()) != null) {
+            permits.add(permit);
+        }
+        return permits;
+    }
+}
@@ -0,0 +1,135 @@
+package com.reliaquest.api.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.service.client.UpstreamCircuitBreaker;
+import com.reliaquest.api.service.roster.RosterSnapshot;
+import com.reliaquest.api.service.roster.RosterSnapshots;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+class ConcurrencyLimitInterceptorTest {
+
+    private static final String ID = "4a3a170b-22cd-4ac2-aad1-9bb5b34a1507";
+
+    private final RosterSnapshots rosterSnapshots = mock(RosterSnapshots.class);
+    private final UpstreamCircuitBreaker circuitBreaker = mock(UpstreamCircuitBreaker.class);
+    private final AdaptiveConcurrencyLimiter cachedLimiter =
+            new AdaptiveConcurrencyLimiter("cached", 2, 1, 2, 2.0, 0.5, System::nanoTime);
+    private final AdaptiveConcurrencyLimiter upstreamLimiter =
+            new AdaptiveConcurrencyLimiter("upstream", 2, 1, 2, 2.0, 0.5, System::nanoTime);
+    private final ConcurrencyLimitInterceptor interceptor =
+            new ConcurrencyLimitInterceptor(true, cachedLimiter, upstreamLimiter, rosterSnapshots, circuitBreaker);
+
+    private HandlerMethod handler;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        handler = new HandlerMethod(
+                new EmployeeController(null, null, null), EmployeeController.class.getMethod("getAllEmployees"));
+        when(circuitBreaker.state()).thenReturn(UpstreamCircuitBreaker.State.CLOSED);
+        when(rosterSnapshots.loaded()).thenReturn(Optional.empty());
+        when(rosterSnapshots.lastKnown()).thenReturn(Optional.empty());
+    }
+
+    @Test
+    void preHandle_shouldShedWith503OnceTheBudgetIsExhausted() throws Exception {
+        assertThat(interceptor.preHandle(get("/employee"), new MockHttpServletResponse(), handler))
+                .isTrue();
+        assertThat(interceptor.preHandle(get("/employee"), new MockHttpServletResponse(), handler))
+                .isTrue();
+
+        MockHttpServletResponse shed = new MockHttpServletResponse();
+        assertThat(interceptor.preHandle(get("/employee"), shed, handler)).isFalse();
+        assertThat(shed.getStatus()).isEqualTo(503);
+        assertThat(shed.getHeader(HttpHeaders.RETRY_AFTER)).isEqualTo("1");
+        assertThat(upstreamLimiter.inFlight()).isEqualTo(2);
+        assertThat(cachedLimiter.inFlight()).isZero();
+    }
+
+    @Test
+    void preHandle_shouldKeepCachedReadsOffTheUpstreamBudget() throws Exception {
+        exhaust(upstreamLimiter);
+        when(rosterSnapshots.loaded()).thenReturn(Optional.of(RosterSnapshot.of(null, List.of())));
+
+        assertThat(interceptor.preHandle(get("/employee"), new MockHttpServletResponse(), handler))
+                .isTrue();
+        assertThat(cachedLimiter.inFlight()).isEqualTo(1);
+
+        MockHttpServletRequest write = new MockHttpServletRequest("POST", "/employee");
+        assertThat(interceptor.preHandle(write, new MockHttpServletResponse(), handler))
+                .isFalse();
+    }
+
+    @Test
+    void preHandle_shouldClassifyByIdReadsByTheEmployeeCache() throws Exception {
+        MockHttpServletRequest request = get("/employee/" + ID);
+        request.setAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE, Map.of("id", ID));
+        when(rosterSnapshots.isEmployeeCached(ID)).thenReturn(true);
+
+        interceptor.preHandle(request, new MockHttpServletResponse(), handler);
+        assertThat(cachedLimiter.inFlight()).isEqualTo(1);
+
+        when(circuitBreaker.state()).thenReturn(UpstreamCircuitBreaker.State.OPEN);
+        when(rosterSnapshots.lastKnown())
+                .thenReturn(Optional.of(RosterSnapshot.of(
+                        null, List.of(new Employee(ID, "Tiger Nixon", 320800, 61, "Principal", "t@company.com")))));
+        interceptor.preHandle(request, new MockHttpServletResponse(), handler);
+        assertThat(cachedLimiter.inFlight()).isEqualTo(2);
+    }
+
+    @Test
+    void afterCompletion_shouldReleaseAndBackOffOnOverload() throws Exception {
+        MockHttpServletRequest request = get("/employee");
+        interceptor.preHandle(request, new MockHttpServletResponse(), handler);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        response.setStatus(503);
+
+        interceptor.afterCompletion(request, response, handler, null);
+
+        assertThat(upstreamLimiter.inFlight()).isZero();
+        assertThat(upstreamLimiter.limit()).isEqualTo(1);
+    }
+
+    @Test
+    void afterCompletion_shouldNotBackOffCachedBudgetOnOverload() throws Exception {
+        when(rosterSnapshots.loaded()).thenReturn(Optional.of(RosterSnapshot.of(null, List.of())));
+        MockHttpServletRequest request = get("/employee");
+        interceptor.preHandle(request, new MockHttpServletResponse(), handler);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        response.setStatus(503);
+
+        interceptor.afterCompletion(request, response, handler, new IllegalStateException());
+
+        assertThat(cachedLimiter.inFlight()).isZero();
+        assertThat(cachedLimiter.limit()).isEqualTo(2);
+    }
+
+    @Test
+    void preHandle_shouldIgnoreOtherHandlers() throws Exception {
+        exhaust(upstreamLimiter);
+
+        assertThat(interceptor.preHandle(get("/employee/async"), new MockHttpServletResponse(), new Object()))
+                .isTrue();
+    }
+
+    private static MockHttpServletRequest get(String uri) {
+        return new MockHttpServletRequest("GET", uri);
+    }
+
+    private static void exhaust(AdaptiveConcurrencyLimiter limiter) {
+        while (limiter.tryAcquire() != null) {
+            // hold every permit
+        }
+    }
+}
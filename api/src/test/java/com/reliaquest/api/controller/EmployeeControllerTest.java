@@ -5,7 +5,12 @@ import static org.mockito.Mockito.*;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.EmployeeLookupRequest;
 import com.reliaquest.api.service.EmployeeService;
+import com.reliaquest.api.service.client.ServerClient;
+import com.reliaquest.api.service.roster.DuplicateEmployeeException;
+import com.reliaquest.api.service.roster.RosterSnapshot;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
@@ -28,17 +33,18 @@ class EmployeeControllerTest {
     void setUp() {
         MockitoAnnotations.openMocks(this);
         objectMapper = new ObjectMapper();
-        controller = new EmployeeController(employeeService, objectMapper);
+        controller = new EmployeeController(employeeService, objectMapper, new ListResponseCache(objectMapper));
     }
 
     @Test
     void getAllEmployees_shouldReturnList() {
         List<Employee> mockList = List.of(new Employee("1", "Alice", 50000, 30, "Engineer", "alice@example.com"));
-        when(employeeService.getAllEmployees()).thenReturn(mockList);
+        when(employeeService.getRosterSnapshot()).thenReturn(RosterSnapshot.of(null, mockList));
 
         ResponseEntity<List<Employee>> response = controller.getAllEmployees();
 
         assertThat(response.getBody()).isEqualTo(mockList);
+        assertThat(response.getHeaders().getETag()).isNotNull();
     }
 
     @Test
@@ -76,7 +82,9 @@ class EmployeeControllerTest {
     @Test
     void getTopTenHighestEarningEmployeeNames_shouldReturnTop10List() {
         List<String> topTen = List.of("Alice", "Bob");
-        when(employeeService.getTopTenHighestEarningEmployeeNames()).thenReturn(topTen);
+        RosterSnapshot snapshot = RosterSnapshot.of(null, List.of());
+        when(employeeService.getRosterSnapshot()).thenReturn(snapshot);
+        when(employeeService.getTopTenHighestEarningEmployeeNames(snapshot)).thenReturn(topTen);
 
         ResponseEntity<List<String>> response = controller.getTopTenHighestEarningEmployeeNames();
 
@@ -117,6 +125,17 @@ class EmployeeControllerTest {
         assertThat(response.getBody()).isEqualTo(expected);
     }
 
+    @Test
+    void createEmployee_shouldReturnConflictForDuplicate() {
+        Employee input = new Employee(null, "New User", 60000, 25, "Dev", null);
+        Employee existing = new Employee("existing-id", "New User", 60000, 25, "Dev", "dev@example.com");
+        when(employeeService.createEmployee(input)).thenThrow(new DuplicateEmployeeException(existing));
+
+        ResponseEntity<?> response = controller.createEmployee(input);
+
+        assertThat(response.getStatusCodeValue()).isEqualTo(409);
+    }
+
     @Test
     void createEmployee_withInvalidInput_shouldReturnBadRequest() {
         Object invalidInput = List.of("invalid");
@@ -136,4 +155,22 @@ class EmployeeControllerTest {
 
         assertThat(response.getBody()).isEqualTo("Deleted User");
     }
+
+    @Test
+    void getEmployeesByIds_shouldRejectEmptyRequest() {
+        ResponseEntity<?> response = controller.getEmployeesByIds(new EmployeeLookupRequest(List.of()));
+
+        assertThat(response.getStatusCode().value()).isEqualTo(400);
+        verifyNoInteractions(employeeService);
+    }
+
+    @Test
+    void getEmployeesByIds_shouldRejectMoreIdsThanOneUpstreamBatch() {
+        List<String> ids = Collections.nCopies(ServerClient.MAX_LOOKUP_IDS + 1, "id");
+
+        ResponseEntity<?> response = controller.getEmployeesByIds(new EmployeeLookupRequest(ids));
+
+        assertThat(response.getStatusCode().value()).isEqualTo(400);
+        verifyNoInteractions(employeeService);
+    }
 }
@@ -0,0 +1,152 @@
+package com.reliaquest.api.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.service.client.RosterVersion;
+import com.reliaquest.api.service.roster.RosterSnapshot;
+import java.io.ByteArrayInputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.zip.GZIPInputStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.http.server.ServletServerHttpResponse;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+class ListResponseCacheTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final ListResponseCache cache = new ListResponseCache(objectMapper);
+    private final AtomicInteger renders = new AtomicInteger();
+    private final Function<RosterSnapshot, List<Employee>> render = snapshot -> {
+        renders.incrementAndGet();
+        return snapshot.employees();
+    };
+
+    private final RosterSnapshot snapshot = RosterSnapshot.of(
+            new RosterVersion("abc", 7),
+            List.of(new Employee("1", "Alice", 50000, 30, "Engineer", "alice@example.com")));
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void respond_shouldRenderOncePerSnapshot() {
+        ResponseEntity<List<Employee>> first = cache.respond("employees", snapshot, render, null, null);
+        ResponseEntity<List<Employee>> second = cache.respond("employees", snapshot, render, null, null);
+
+        assertThat(renders).hasValue(1);
+        assertThat(second.getBody()).isSameAs(first.getBody());
+        assertThat(first.getHeaders().getETag()).isEqualTo("\"abc-7\"");
+
+        cache.respond("employees", RosterSnapshot.of(new RosterVersion("abc", 8), List.of()), render, null, null);
+        assertThat(renders).hasValue(2);
+    }
+
+    @Test
+    void respond_shouldServeGzipToClientsAcceptingIt() throws Exception {
+        ResponseEntity<List<Employee>> gzip = cache.respond("employees", snapshot, render, "deflate, gzip", null);
+
+        assertThat(gzip.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING)).isEqualTo("gzip");
+        assertThat(gzip.getHeaders().getETag()).isEqualTo("\"abc-7-gzip\"");
+        assertThat(gzip.getHeaders().getVary()).containsExactly(HttpHeaders.ACCEPT_ENCODING);
+        ListResponseCache.SerializedList serialized = cache.get("employees", snapshot, render);
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(serialized.gzip()))) {
+            assertThat(in.readAllBytes()).isEqualTo(serialized.json());
+        }
+
+        ResponseEntity<List<Employee>> refused = cache.respond("employees", snapshot, render, "gzip;q=0", null);
+        assertThat(refused.getHeaders().containsKey(HttpHeaders.CONTENT_ENCODING)).isFalse();
+    }
+
+    @Test
+    void respond_shouldAnswerNotModifiedForEitherTag() {
+        assertThat(cache.respond("employees", snapshot, render, null, "\"abc-7\"").getStatusCode())
+                .isEqualTo(HttpStatus.NOT_MODIFIED);
+        assertThat(cache.respond("employees", snapshot, render, "gzip", "W/\"abc-7-gzip\"").getStatusCode())
+                .isEqualTo(HttpStatus.NOT_MODIFIED);
+        assertThat(cache.respond("employees", snapshot, render, null, "\"abc-6\"").getStatusCode())
+                .isEqualTo(HttpStatus.OK);
+    }
+
+    @Test
+    void respond_shouldTagUnversionedSnapshotsByContent() {
+        List<Employee> employees = snapshot.employees();
+        String first = cache.respond("employees", RosterSnapshot.of(null, employees), render, null, null)
+                .getHeaders()
+                .getETag();
+        String second = cache.respond("employees", RosterSnapshot.of(null, employees), render, null, null)
+                .getHeaders()
+                .getETag();
+
+        assertThat(first).isEqualTo(second).startsWith("\"d-");
+    }
+
+    @Test
+    void respond_shouldCacheEachEndpointSeparately() {
+        Function<RosterSnapshot, List<String>> names = s -> List.of("Alice");
+        cache.respond("employees", snapshot, render, null, null);
+        cache.respond("names", snapshot, names, null, null);
+
+        assertThat(new String(cache.get("names", snapshot, names).json())).isEqualTo("[\"Alice\"]");
+        assertThat(renders).hasValue(1);
+    }
+
+    @Test
+    void beforeBodyWrite_shouldWriteSerializedBytesForTheRespondedList() throws Exception {
+        MockHttpServletRequest servletRequest = new MockHttpServletRequest("GET", "/employee");
+        servletRequest.addHeader(HttpHeaders.ACCEPT_ENCODING, "gzip");
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(servletRequest));
+        ResponseEntity<List<Employee>> entity = cache.respond("employees", snapshot, render);
+
+        MockHttpServletResponse servletResponse = new MockHttpServletResponse();
+        ServletServerHttpResponse response = new ServletServerHttpResponse(servletResponse);
+        response.getHeaders().putAll(entity.getHeaders());
+        Object written = cache.beforeBodyWrite(
+                entity.getBody(),
+                null,
+                MediaType.APPLICATION_JSON,
+                MappingJackson2HttpMessageConverter.class,
+                new ServletServerHttpRequest(servletRequest),
+                response);
+        response.flush();
+
+        assertThat(written).isNull();
+        assertThat(servletResponse.getContentAsByteArray())
+                .isEqualTo(cache.get("employees", snapshot, render).gzip());
+        assertThat(servletResponse.getHeader(HttpHeaders.CONTENT_ENCODING)).isEqualTo("gzip");
+    }
+
+    @Test
+    void beforeBodyWrite_shouldLeaveOtherBodiesToTheConverter() {
+        MockHttpServletRequest servletRequest = new MockHttpServletRequest("GET", "/employee");
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(servletRequest));
+        cache.respond("employees", snapshot, render);
+        List<Employee> other = new ArrayList<>(snapshot.employees());
+
+        Object written = cache.beforeBodyWrite(
+                other,
+                null,
+                MediaType.APPLICATION_JSON,
+                MappingJackson2HttpMessageConverter.class,
+                new ServletServerHttpRequest(servletRequest),
+                new ServletServerHttpResponse(new MockHttpServletResponse()));
+
+        assertThat(written).isSameAs(other);
+    }
+}
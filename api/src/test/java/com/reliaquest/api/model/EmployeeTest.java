@@ -0,0 +1,49 @@
+package com.reliaquest.api.model;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+class EmployeeTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void json_shouldRoundTripWithUpstreamFieldNames() throws Exception {
+        Employee employee = new Employee("1", "Alice", 50000, 30, "Engineer", "alice@example.com");
+
+        String json = objectMapper.writeValueAsString(employee);
+
+        assertThat(json)
+                .isEqualTo("{\"id\":\"1\",\"employee_name\":\"Alice\",\"employee_salary\":50000,\"employee_age\":30,"
+                        + "\"employee_title\":\"Engineer\",\"employee_email\":\"alice@example.com\"}");
+        assertThat(objectMapper.readValue(json, Employee.class)).isEqualTo(employee);
+    }
+
+    @Test
+    void deserialization_shouldShareTitlesAndEmailDomains() throws Exception {
+        String json = "{\"id\":\"2\",\"employee_title\":\"Engineer\",\"employee_email\":\"bob@example.com\"}";
+
+        Employee first = objectMapper.readValue(json, Employee.class);
+        Employee second = objectMapper.readValue(json, Employee.class);
+
+        assertThat(second.employeeTitle()).isSameAs(first.employeeTitle());
+        assertThat(second.emailDomain()).isSameAs(first.emailDomain()).isEqualTo("example.com");
+        assertThat(second).isEqualTo(first).hasSameHashCodeAs(first);
+    }
+
+    @Test
+    void employeeEmail_shouldDecodeWhatWasEncoded() {
+        assertThat(withEmail(null).employeeEmail()).isNull();
+        assertThat(withEmail("").employeeEmail()).isEmpty();
+        assertThat(withEmail("no-domain").employeeEmail()).isEqualTo("no-domain");
+        assertThat(withEmail("\\"a@b\\"@example.com").employeeEmail()).isEqualTo("\\"a@b\\"@example.com");
+        assertThat(withEmail("j\u00fcrgen@b\u00fccher.de").employeeEmail()).isEqualTo("j\u00fcrgen@b\u00fccher.de");
+        assertThat(withEmail("x@")).isNotEqualTo(withEmail("x"));
+    }
+
+    private static Employee withEmail(String email) {
+        return new Employee("3", "Carol", 60000, 40, "Manager", email);
+    }
+}
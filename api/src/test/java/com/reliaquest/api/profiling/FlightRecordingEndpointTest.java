@@ -0,0 +1,82 @@
+package com.reliaquest.api.profiling;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+import java.util.Map;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.core.io.Resource;
+
+class FlightRecordingEndpointTest {
+
+    @TempDir
+    Path directory;
+
+    private final FlightRecordingEndpoint endpoint = new FlightRecordingEndpoint(60_000, 16);
+
+    @AfterEach
+    void tearDown() {
+        endpoint.closeRecording();
+    }
+
+    @Test
+    void dump_withoutRecording_shouldBeNotFound() throws Exception {
+        assertThat(endpoint.dump().getStatus()).isEqualTo(WebEndpointResponse.STATUS_NOT_FOUND);
+        assertThat(endpoint.stop().getStatus()).isEqualTo(WebEndpointResponse.STATUS_NOT_FOUND);
+    }
+
+    @Test
+    void startDumpStop_shouldRecord() throws Exception {
+        WebEndpointResponse<Map<String, Object>> started = endpoint.start("default", null);
+        assertThat(started.getStatus()).isEqualTo(WebEndpointResponse.STATUS_OK);
+        assertThat(started.getBody()).containsEntry("state", "RUNNING");
+
+        new EmployeeQueryEvent().commit();
+        WebEndpointResponse<Resource> dump = endpoint.dump();
+        assertThat(dump.getStatus()).isEqualTo(WebEndpointResponse.STATUS_OK);
+        try (InputStream in = dump.getBody().getInputStream()) {
+            // Every recording file starts with the FLR magic number.
+            assertThat(in.readNBytes(4)).isEqualTo(new byte[] {'F', 'L', 'R', 0});
+        }
+
+        WebEndpointResponse<Map<String, Object>> stopped = endpoint.stop();
+        assertThat(stopped.getBody()).containsEntry("state", "STOPPED");
+        assertThat(endpoint.dump().getStatus()).isEqualTo(WebEndpointResponse.STATUS_OK);
+    }
+
+    @Test
+    void start_withUnknownSettings_shouldBeBadRequest() {
+        assertThat(endpoint.start("no-such-settings", null).getStatus())
+                .isEqualTo(WebEndpointResponse.STATUS_BAD_REQUEST);
+    }
+
+    @Test
+    void start_shouldCapMaxAgeAtConfiguredBound() {
+        assertThat(endpoint.start("default", 3600L).getBody()).containsEntry("maxAge", "PT1M");
+        assertThat(endpoint.start("default", 30L).getBody()).containsEntry("maxAge", "PT30S");
+        assertThat(endpoint.start("default", 0L).getStatus()).isEqualTo(WebEndpointResponse.STATUS_BAD_REQUEST);
+    }
+
+    @Test
+    void dump_shouldLeaveOutSystemPropertiesAndEnvironment() throws Exception {
+        endpoint.start("profile", null);
+        Path file = directory.resolve("recording.jfr");
+        try (InputStream in = endpoint.dump().getBody().getInputStream()) {
+            Files.copy(in, file, StandardCopyOption.REPLACE_EXISTING);
+        }
+
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+        assertThat(events)
+                .extracting(event -> event.getEventType().getName())
+                .doesNotContain("jdk.InitialSystemProperty", "jdk.InitialEnvironmentVariable", "jdk.JVMInformation");
+    }
+}
@@ -0,0 +1,92 @@
+package com.reliaquest.api.profiling;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+class RecordingCacheManagerTest {
+
+    private final RecordingCacheManager cacheManager = new RecordingCacheManager(new ConcurrentMapCacheManager());
+    private final Recording recording = new Recording();
+
+    @BeforeEach
+    void setUp() {
+        recording.enable(CacheLoadEvent.class);
+        recording.enable(CacheEvictionEvent.class);
+        recording.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        recording.close();
+    }
+
+    @Test
+    void getCache_shouldWrapEachCacheOnce() {
+        Cache cache = cacheManager.getCache("employeeById");
+
+        assertThat(cache).isInstanceOf(RecordingCache.class);
+        assertThat(cacheManager.getCache("employeeById")).isSameAs(cache);
+    }
+
+    @Test
+    void missFollowedByPut_shouldRecordLoad() throws Exception {
+        Cache cache = cacheManager.getCache("employeeById");
+
+        assertThat(cache.get("1")).isNull();
+        cache.put("1", "Alice");
+        assertThat(cache.get("1").get()).isEqualTo("Alice");
+
+        List<RecordedEvent> loads = events("com.reliaquest.api.CacheLoad");
+        assertThat(loads).hasSize(1);
+        assertThat(loads.get(0).getString("cache")).isEqualTo("employeeById");
+        assertThat(loads.get(0).getString("key")).isEqualTo("1");
+        assertThat(loads.get(0).getBoolean("loaded")).isTrue();
+    }
+
+    @Test
+    void synchronizedLoad_shouldRecordLoadOnlyWhenLoaderRuns() throws Exception {
+        Cache cache = cacheManager.getCache("employees");
+
+        assertThat(cache.get("all", () -> "roster")).isEqualTo("roster");
+        assertThat(cache.get("all", () -> "reloaded")).isEqualTo("roster");
+
+        assertThat(events("com.reliaquest.api.CacheLoad")).hasSize(1);
+    }
+
+    @Test
+    void evictAndClear_shouldRecordEvictions() throws Exception {
+        Cache cache = cacheManager.getCache("employeeById");
+        cache.put("1", "Alice");
+
+        cache.evict("1");
+        cache.clear();
+
+        assertThat(events("com.reliaquest.api.CacheEviction"))
+                .extracting(event -> event.getString("key"))
+                .containsExactly("1", "*");
+    }
+
+    private List<RecordedEvent> events(String name) throws Exception {
+        recording.stop();
+        Path file = Files.createTempFile("cache-events", ".jfr");
+        try {
+            recording.dump(file);
+            return RecordingFile.readAllEvents(file).stream()
+                    .filter(event -> event.getEventType().getName().equals(name))
+                    .toList();
+        } finally {
+            Files.delete(file);
+        }
+    }
+}
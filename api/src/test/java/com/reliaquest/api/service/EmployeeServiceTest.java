@@ -1,24 +1,37 @@
 package com.reliaquest.api.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Mockito.*;
 
 import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.EmployeeLookup;
 import com.reliaquest.api.service.client.ServerClient;
+import com.reliaquest.api.service.client.UpstreamUnavailableException;
+import com.reliaquest.api.service.roster.DuplicateEmployeeException;
+import com.reliaquest.api.service.roster.EmployeeDuplicates;
+import com.reliaquest.api.service.roster.RosterParallelism;
+import com.reliaquest.api.service.roster.RosterSnapshots;
+import com.reliaquest.api.service.roster.SearchResultCache;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.*;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
 
 class EmployeeServiceTest {
 
     @Mock
     private ServerClient serverClient;
 
-    @InjectMocks
     private EmployeeService employeeService;
 
+    // Every scan takes the parallel path, one row per chunk, so chunk results are always combined.
+    private final RosterParallelism rosterParallelism = new RosterParallelism(2, 0, 1);
+
     private final List<Employee> sampleEmployees = List.of(
             new Employee("1", "Alice", 100000, 30, "Engineer", "alice@example.com"),
             new Employee("2", "Bob", 120000, 40, "Manager", "bob@example.com"),
@@ -27,6 +40,18 @@ class EmployeeServiceTest {
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
+        SearchResultCache searchResultCache = new SearchResultCache(16, 100);
+        employeeService = new EmployeeService(
+                serverClient,
+                new RosterSnapshots(serverClient, new ConcurrentMapCacheManager(), searchResultCache),
+                rosterParallelism,
+                searchResultCache,
+                new EmployeeDuplicates("reject", 60_000));
+    }
+
+    @AfterEach
+    void tearDown() {
+        rosterParallelism.shutdown();
     }
 
     @Test
@@ -59,6 +84,28 @@ class EmployeeServiceTest {
         assertThat(result).isEqualTo(expected);
     }
 
+    @Test
+    void reads_whileUpstreamUnavailable_shouldFallBackToLastKnownRoster() {
+        when(serverClient.fetchAllEmployees())
+                .thenReturn(sampleEmployees)
+                .thenThrow(new UpstreamUnavailableException(30));
+        when(serverClient.fetchEmployeeById("2")).thenThrow(new UpstreamUnavailableException(30));
+        employeeService.getHighestSalary();
+
+        assertThat(employeeService.getAllEmployees()).isEqualTo(sampleEmployees);
+        assertThat(employeeService.getEmployeeById("2").employeeName()).isEqualTo("Bob");
+    }
+
+    @Test
+    void getEmployeeById_whileUpstreamUnavailable_shouldFailForUnknownId() {
+        when(serverClient.fetchAllEmployees()).thenReturn(sampleEmployees);
+        when(serverClient.fetchEmployeeById("9")).thenThrow(new UpstreamUnavailableException(30));
+        employeeService.getHighestSalary();
+
+        assertThatThrownBy(() -> employeeService.getEmployeeById("9"))
+                .isInstanceOf(UpstreamUnavailableException.class);
+    }
+
     @Test
     void getHighestSalary_shouldReturnMax() {
         when(serverClient.fetchAllEmployees()).thenReturn(sampleEmployees);
@@ -77,6 +124,37 @@ class EmployeeServiceTest {
         assertThat(result).containsExactly("Bob", "Alice", "Charlie");
     }
 
+    @Test
+    void getTopTenHighestEarningEmployeeNames_shouldKeepRosterOrderForEqualSalaries() {
+        List<Employee> roster = new ArrayList<>();
+        for (int i = 0; i < 15; i++) {
+            roster.add(new Employee(String.valueOf(i), "Employee " + i, i < 12 ? 50000 : 40000, 30, "Dev", null));
+        }
+        when(serverClient.fetchAllEmployees()).thenReturn(roster);
+
+        List<String> result = employeeService.getTopTenHighestEarningEmployeeNames();
+
+        assertThat(result)
+                .containsExactly(
+                        "Employee 0",
+                        "Employee 1",
+                        "Employee 2",
+                        "Employee 3",
+                        "Employee 4",
+                        "Employee 5",
+                        "Employee 6",
+                        "Employee 7",
+                        "Employee 8",
+                        "Employee 9");
+    }
+
+    @Test
+    void getHighestSalary_shouldReturnZeroForEmptyRoster() {
+        when(serverClient.fetchAllEmployees()).thenReturn(List.of());
+
+        assertThat(employeeService.getHighestSalary()).isZero();
+    }
+
     @Test
     void createEmployee_shouldDelegateToServerClient() {
         Employee input = new Employee(null, "New Hire", 95000, 26, "Engineer", "new@example.com");
@@ -95,6 +173,30 @@ class EmployeeServiceTest {
         assertThat(result).isEqualTo(created);
     }
 
+    @Test
+    void createEmployee_shouldRejectDuplicateOfRosterEmployee() {
+        when(serverClient.fetchAllEmployees()).thenReturn(sampleEmployees);
+        Employee input = new Employee(null, " alice ", 55000, 30, "ENGINEER", null);
+
+        assertThatThrownBy(() -> employeeService.createEmployee(input))
+                .isInstanceOf(DuplicateEmployeeException.class)
+                .hasMessageContaining("id 1");
+        verify(serverClient, never()).createEmployee(any());
+    }
+
+    @Test
+    void createEmployee_shouldRejectRepeatNotYetOnRoster() {
+        when(serverClient.fetchAllEmployees()).thenReturn(sampleEmployees);
+        Employee input = new Employee(null, "New Hire", 95000, 26, "Engineer", null);
+        Employee created = new Employee("123", "New Hire", 95000, 26, "Engineer", "nhire@example.com");
+        when(serverClient.createEmployee(input)).thenReturn(created);
+
+        employeeService.createEmployee(input);
+
+        assertThatThrownBy(() -> employeeService.createEmployee(input)).isInstanceOf(DuplicateEmployeeException.class);
+        verify(serverClient, times(1)).createEmployee(input);
+    }
+
     @Test
     void deleteEmployeeById_shouldCallDeleteAndReturnName() {
         String id = "abc123";
@@ -107,4 +209,38 @@ class EmployeeServiceTest {
         verify(serverClient).deleteEmployee(employee);
         assertThat(result).isEqualTo("To Delete");
     }
+
+    @Test
+    void getEmployeesByIds_shouldServeCachedIdsAndBatchTheRest() {
+        Employee alice = new Employee(UUID.randomUUID().toString(), "Alice", 100000, 30, "Engineer", "a@example.com");
+        String missing = UUID.randomUUID().toString();
+        when(serverClient.fetchEmployeesByIds(List.of(alice.id(), missing)))
+                .thenReturn(List.of(
+                        EmployeeLookup.found(alice), EmployeeLookup.of(missing, EmployeeLookup.Status.NOT_FOUND)));
+        when(serverClient.fetchEmployeesByIds(List.of(missing)))
+                .thenReturn(List.of(EmployeeLookup.of(missing, EmployeeLookup.Status.NOT_FOUND)));
+
+        List<EmployeeLookup> first =
+                employeeService.getEmployeesByIds(List.of(alice.id(), "bogus", missing, alice.id()));
+        List<EmployeeLookup> second = employeeService.getEmployeesByIds(List.of(missing, alice.id()));
+
+        assertThat(first)
+                .extracting(EmployeeLookup::status)
+                .containsExactly(
+                        EmployeeLookup.Status.FOUND, EmployeeLookup.Status.INVALID_ID, EmployeeLookup.Status.NOT_FOUND);
+        assertThat(second)
+                .extracting(EmployeeLookup::status)
+                .containsExactly(EmployeeLookup.Status.NOT_FOUND, EmployeeLookup.Status.FOUND);
+        verify(serverClient).fetchEmployeesByIds(List.of(missing));
+    }
+
+    @Test
+    void getEmployeesByIds_shouldReportUnavailableWhenUpstreamFails() {
+        String id = UUID.randomUUID().toString();
+        when(serverClient.fetchEmployeesByIds(List.of(id))).thenThrow(new RuntimeException("429"));
+
+        List<EmployeeLookup> result = employeeService.getEmployeesByIds(List.of(id));
+
+        assertThat(result).containsExactly(EmployeeLookup.of(id, EmployeeLookup.Status.UNAVAILABLE));
+    }
 }
@@ -0,0 +1,157 @@
+package com.reliaquest.api.service.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+import com.reliaquest.api.model.Employee;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.context.ApplicationEventPublisher;
+
+class TwoLevelCacheManagerTest {
+
+    private final Employee alice = new Employee("1", "Alice", 100000, 30, "Engineer", "alice@example.com");
+    private final Employee bob = new Employee("2", "Bob", 120000, 40, "Manager", "bob@example.com");
+
+    private final AtomicLong now = new AtomicLong();
+    private final InMemorySharedCacheStore shared = new InMemorySharedCacheStore(now::get);
+
+    private final TwoLevelCacheManager replicaA = replica("a");
+    private final TwoLevelCacheManager replicaB = replica("b");
+
+    @Test
+    void put_shouldBeReadableFromOtherReplica() {
+        replicaA.getCache("employeeById").put("1", alice);
+
+        assertThat(replicaB.getCache("employeeById").get("1", Employee.class)).isSameAs(alice);
+    }
+
+    @Test
+    void put_shouldDropOtherReplicasLocalCopy() {
+        Cache cacheA = replicaA.getCache("employeeById");
+        Cache cacheB = replicaB.getCache("employeeById");
+        cacheA.put("1", alice);
+        assertThat(cacheB.get("1", Employee.class)).isSameAs(alice);
+
+        Employee renamed = new Employee("1", "Alice Smith", 100000, 30, "Engineer", "alice@example.com");
+        cacheA.put("1", renamed);
+
+        assertThat(cacheB.get("1", Employee.class)).isSameAs(renamed);
+    }
+
+    @Test
+    void evict_shouldRemoveEntryFromEveryReplica() {
+        Cache cacheA = replicaA.getCache("employeeById");
+        Cache cacheB = replicaB.getCache("employeeById");
+        cacheA.put("2", bob);
+        assertThat(cacheB.get("2")).isNotNull();
+
+        cacheA.evict("2");
+
+        assertThat(cacheB.get("2")).isNull();
+    }
+
+    @Test
+    void clear_shouldRemoveEntriesFromEveryReplica() {
+        replicaA.getCache("employees").put("roster", List.of(alice, bob));
+        assertThat(replicaB.getCache("employees").get("roster")).isNotNull();
+
+        replicaB.getCache("employees").clear();
+
+        assertThat(replicaA.getCache("employees").get("roster")).isNull();
+    }
+
+    @Test
+    void get_withLoader_shouldLoadOnceAcrossReplicas() throws Exception {
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<List<Employee>> first = executor.submit(() -> replicaA.getCache("employees").get("roster", () -> {
+                loads.incrementAndGet();
+                loading.countDown();
+                release.await();
+                return List.of(alice, bob);
+            }));
+            assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+            Future<List<Employee>> second = executor.submit(() -> replicaB.getCache("employees").get("roster", () -> {
+                loads.incrementAndGet();
+                return List.of();
+            }));
+            release.countDown();
+
+            assertThat(first.get(5, TimeUnit.SECONDS)).containsExactly(alice, bob);
+            assertThat(second.get(5, TimeUnit.SECONDS)).containsExactly(alice, bob);
+            assertThat(loads).hasValue(1);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void get_withLoader_shouldTakeOverExpiredLoadLease() {
+        assertThat(shared.tryLease("load:employees:roster", "gone", Duration.ofMillis(30_000)))
+                .isTrue();
+        now.addAndGet(Duration.ofMillis(30_000).toNanos());
+
+        List<Employee> loaded = replicaB.getCache("employees").get("roster", () -> List.of(alice));
+
+        assertThat(loaded).containsExactly(alice);
+    }
+
+    @Test
+    void tryLease_shouldBeExclusiveUntilExpiredOrReleased() {
+        Duration ttl = Duration.ofSeconds(15);
+        assertThat(shared.tryLease("sync", "a", ttl)).isTrue();
+        assertThat(shared.tryLease("sync", "b", ttl)).isFalse();
+        assertThat(shared.tryLease("sync", "a", ttl)).isTrue();
+
+        now.addAndGet(ttl.toNanos());
+        assertThat(shared.tryLease("sync", "b", ttl)).isTrue();
+
+        shared.releaseLease("sync", "a");
+        assertThat(shared.tryLease("sync", "a", ttl)).isFalse();
+        shared.releaseLease("sync", "b");
+        assertThat(shared.tryLease("sync", "a", ttl)).isTrue();
+    }
+
+    @Test
+    void leadership_shouldMoveToAnotherReplicaWhenLeaderResigns() {
+        ApplicationEventPublisher events = mock(ApplicationEventPublisher.class);
+        ReplicaLeadership first = new ReplicaLeadership(shared, events, "a", 15_000, 5_000);
+        ReplicaLeadership second = new ReplicaLeadership(shared, events, "b", 15_000, 5_000);
+
+        first.renew();
+        second.renew();
+        assertThat(first.isLeader()).isTrue();
+        assertThat(second.isLeader()).isFalse();
+
+        first.resign();
+        second.renew();
+        assertThat(second.isLeader()).isTrue();
+        verify(events).publishEvent(new ReplicaLeadership.Acquired("a"));
+        verify(events).publishEvent(new ReplicaLeadership.Acquired("b"));
+    }
+
+    @Test
+    void leadership_withoutSharedTier_shouldAlwaysLead() {
+        ReplicaLeadership standalone =
+                new ReplicaLeadership(null, mock(ApplicationEventPublisher.class), null, 15_000, 5_000);
+
+        assertThat(standalone.isLeader()).isTrue();
+    }
+
+    private TwoLevelCacheManager replica(String replicaId) {
+        return new TwoLevelCacheManager(shared, replicaId, Duration.ofMillis(30_000), 5);
+    }
+}
@@ -0,0 +1,68 @@
+package com.reliaquest.api.service.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.EmployeeListResponse;
+import com.reliaquest.api.model.EmployeeResponse;
+import com.reliaquest.api.service.roster.RosterList;
+import com.reliaquest.api.service.roster.RosterSnapshot;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.mock.http.MockHttpInputMessage;
+
+class EmployeeListConverterTest {
+
+    private final EmployeeListConverter converter = new EmployeeListConverter();
+
+    @Test
+    void read_shouldParseRosterIntoColumns() throws Exception {
+        EmployeeListResponse response = read(
+                """
+                {"status": "Successfully processed request.", "extra": {"nested": [1, 2]}, "data": [
+                  {"id": "1", "employee_name": "Alice", "employee_salary": 100000, "employee_age": 30,
+                   "employee_title": "Engineer", "employee_email": "alice@example.com", "unknown": [true]},
+                  {"id": "2", "employee_name": "Bob", "employee_salary": 120000, "employee_age": 40,
+                   "employee_title": "Engineer", "employee_email": null}
+                ]}
+                """);
+
+        assertThat(response.status()).isEqualTo("Successfully processed request.");
+        assertThat(response.data())
+                .containsExactly(
+                        new Employee("1", "Alice", 100000, 30, "Engineer", "alice@example.com"),
+                        new Employee("2", "Bob", 120000, 40, "Engineer", null));
+        assertThat(response.data().get(1).employeeTitle()).isSameAs(response.data().get(0).employeeTitle());
+
+        RosterList roster = (RosterList) response.data();
+        assertThat(RosterSnapshot.of(null, roster).columns()).isSameAs(roster.columns());
+    }
+
+    @Test
+    void read_shouldAcceptMissingData() throws Exception {
+        assertThat(read("{\"data\": null, \"status\": \"ok\"}").data()).isNull();
+        assertThat(read("{\"data\": []}").data()).isEmpty();
+    }
+
+    @Test
+    void read_shouldRejectMalformedRoster() {
+        assertThatThrownBy(() -> read("{\"data\": {\"id\": \"1\"}}"))
+                .isInstanceOf(HttpMessageNotReadableException.class);
+    }
+
+    @Test
+    void converter_shouldOnlyReadEmployeeLists() {
+        assertThat(converter.canRead(EmployeeListResponse.class, MediaType.APPLICATION_JSON)).isTrue();
+        assertThat(converter.canRead(EmployeeResponse.class, MediaType.APPLICATION_JSON)).isFalse();
+        assertThat(converter.canWrite(EmployeeListResponse.class, MediaType.APPLICATION_JSON)).isFalse();
+    }
+
+    private EmployeeListResponse read(String json) throws Exception {
+        MockHttpInputMessage message = new MockHttpInputMessage(json.getBytes(StandardCharsets.UTF_8));
+        message.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+        return converter.read(EmployeeListResponse.class, message);
+    }
+}
@@ -0,0 +1,164 @@
+package com.reliaquest.api.service.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.ResourceAccessException;
+
+class RequestHedgerTest {
+
+    private final AtomicLong now = new AtomicLong();
+    private RequestHedger hedger;
+
+    @AfterEach
+    void tearDown() {
+        if (hedger != null) {
+            hedger.shutdown();
+        }
+    }
+
+    @Test
+    void execute_whenDisabled_shouldRunOnCallingThread() {
+        hedger = RequestHedger.disabled();
+        Thread caller = Thread.currentThread();
+
+        assertThat(hedger.execute("read", () -> Thread.currentThread() == caller)).isTrue();
+    }
+
+    @Test
+    void execute_shouldTakeHedgeWhenFirstAttemptIsSlow() throws Exception {
+        hedger = new RequestHedger(true, 95, 20, 20, 100, 5, 30_000, 32, 30_000, System::nanoTime);
+        AtomicInteger attempts = new AtomicInteger();
+        CountDownLatch firstCancelled = new CountDownLatch(1);
+
+        String result = hedger.execute("read", () -> {
+            if (attempts.incrementAndGet() == 1) {
+                try {
+                    Thread.sleep(10_000);
+                } catch (InterruptedException e) {
+                    firstCancelled.countDown();
+                }
+                return "slow";
+            }
+            return "fast";
+        });
+
+        assertThat(result).isEqualTo("fast");
+        assertThat(attempts).hasValue(2);
+        assertThat(firstCancelled.await(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    void execute_shouldNotHedgeWithoutBudget() {
+        hedger = new RequestHedger(true, 95, 20, 20, 0, 5, 30_000, 32, 30_000, System::nanoTime);
+        AtomicInteger attempts = new AtomicInteger();
+
+        String result = hedger.execute("read", () -> {
+            attempts.incrementAndGet();
+            sleep(100);
+            return "only";
+        });
+
+        assertThat(result).isEqualTo("only");
+        assertThat(attempts).hasValue(1);
+    }
+
+    @Test
+    void execute_shouldStopHedgingAfterRateLimit() {
+        hedger = new RequestHedger(true, 95, 20, 20, 100, 5, 30_000, 32, 30_000, now::get);
+        assertThatThrownBy(() -> hedger.execute("read", () -> {
+                    throw HttpClientErrorException.create(HttpStatus.TOO_MANY_REQUESTS, "", null, null, null);
+                }))
+                .isInstanceOf(HttpClientErrorException.TooManyRequests.class);
+        AtomicInteger attempts = new AtomicInteger();
+
+        hedger.execute("read", () -> {
+            attempts.incrementAndGet();
+            sleep(100);
+            return "only";
+        });
+        assertThat(attempts).hasValue(1);
+
+        now.addAndGet(TimeUnit.SECONDS.toNanos(30));
+        hedger.execute("read", () -> {
+            attempts.incrementAndGet();
+            sleep(100);
+            return "either";
+        });
+        assertThat(attempts).hasValue(3);
+    }
+
+    @Test
+    void execute_shouldSurfaceFailureWhenBothAttemptsFail() {
+        hedger = new RequestHedger(true, 95, 20, 20, 100, 5, 30_000, 32, 30_000, System::nanoTime);
+
+        assertThatThrownBy(() -> hedger.execute("read", () -> {
+                    sleep(50);
+                    throw new IllegalStateException("down");
+                }))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("down");
+    }
+
+    @Test
+    void execute_shouldNotHedgeWhenEveryThreadIsBusy() throws Exception {
+        hedger = new RequestHedger(true, 95, 20, 20, 100, 5, 30_000, 1, 30_000, System::nanoTime);
+        AtomicInteger attempts = new AtomicInteger();
+
+        String result = hedger.execute("read", () -> {
+            attempts.incrementAndGet();
+            sleep(100);
+            return "only";
+        });
+
+        assertThat(result).isEqualTo("only");
+        assertThat(attempts).hasValue(1);
+    }
+
+    @Test
+    void execute_shouldGiveUpAndCancelAttemptsAfterTimeout() throws Exception {
+        hedger = new RequestHedger(true, 95, 20, 20, 100, 5, 30_000, 32, 200, System::nanoTime);
+        CountDownLatch cancelled = new CountDownLatch(2);
+
+        assertThatThrownBy(() -> hedger.execute("read", () -> {
+                    try {
+                        Thread.sleep(10_000);
+                    } catch (InterruptedException e) {
+                        cancelled.countDown();
+                    }
+                    return "late";
+                }))
+                .isInstanceOf(ResourceAccessException.class);
+        assertThat(cancelled.await(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    void hedgeDelay_shouldFollowLatencyPercentile() {
+        hedger = new RequestHedger(true, 90, 1, 1_000, 0, 1, 30_000, 32, 30_000, now::get);
+        assertThat(hedger.hedgeDelayNanos("read")).isEqualTo(TimeUnit.MILLISECONDS.toNanos(1_000));
+
+        for (int i = 1; i <= 100; i++) {
+            long latency = TimeUnit.MILLISECONDS.toNanos(i);
+            hedger.execute("read", () -> now.addAndGet(latency));
+        }
+
+        // The window is re-ranked every 16 samples; the latest ranking covers latencies 1..96 ms.
+        assertThat(hedger.hedgeDelayNanos("read")).isEqualTo(TimeUnit.MILLISECONDS.toNanos(87));
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
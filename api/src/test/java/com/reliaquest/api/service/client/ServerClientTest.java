@@ -23,6 +23,12 @@ class ServerClientTest {
     @Mock
     private RestTemplate restTemplate;
 
+    @Spy
+    private RequestHedger requestHedger = RequestHedger.disabled();
+
+    @Spy
+    private UpstreamCircuitBreaker circuitBreaker = new UpstreamCircuitBreaker(true, 5, 30_000, 1, () -> 0);
+
     @InjectMocks
     private ServerClient serverClient;
 
@@ -54,6 +60,42 @@ class ServerClientTest {
         assertThat(result).isEmpty();
     }
 
+    @Test
+    void fetchAllEmployees_shouldReuseListWhenNotModified() {
+        EmployeeListResponse response = new EmployeeListResponse(List.of(mockEmployee), "success");
+        when(restTemplate.exchange(anyString(), eq(HttpMethod.GET), isNull(), eq(EmployeeListResponse.class)))
+                .thenReturn(ResponseEntity.ok().eTag("\"roster-1\"").body(response));
+        when(restTemplate.exchange(
+                        anyString(),
+                        eq(HttpMethod.GET),
+                        argThat(ifNoneMatch("\"roster-1\"")),
+                        eq(EmployeeListResponse.class)))
+                .thenReturn(ResponseEntity.status(HttpStatus.NOT_MODIFIED).build());
+
+        List<Employee> first = serverClient.fetchAllEmployees();
+        List<Employee> second = serverClient.fetchAllEmployees();
+
+        assertThat(second).isSameAs(first).containsExactly(mockEmployee);
+    }
+
+    @Test
+    void fetchEmployeeById_shouldRevalidateAgainstRosterWhenKnown() {
+        EmployeeListResponse listResponse = new EmployeeListResponse(List.of(mockEmployee), "success");
+        when(restTemplate.exchange(anyString(), eq(HttpMethod.GET), isNull(), eq(EmployeeListResponse.class)))
+                .thenReturn(ResponseEntity.ok().eTag("\"roster-1\"").body(listResponse));
+        when(restTemplate.exchange(
+                        contains(mockEmployee.id()),
+                        eq(HttpMethod.GET),
+                        argThat(ifNoneMatch("\"roster-1\"")),
+                        eq(EmployeeResponse.class)))
+                .thenReturn(ResponseEntity.status(HttpStatus.NOT_MODIFIED).build());
+
+        serverClient.fetchAllEmployees();
+        Employee result = serverClient.fetchEmployeeById(mockEmployee.id());
+
+        assertThat(result).isSameAs(mockEmployee);
+    }
+
     @Test
     void fetchEmployeeById_shouldReturnEmployee() {
         String id = mockEmployee.id();
@@ -66,6 +108,28 @@ class ServerClientTest {
         assertThat(result).isEqualTo(mockEmployee);
     }
 
+    @Test
+    void fetchEmployeeById_shouldShareUnchangedEmployeeWithRoster() {
+        EmployeeListResponse listResponse = new EmployeeListResponse(List.of(mockEmployee), "success");
+        when(restTemplate.exchange(anyString(), eq(HttpMethod.GET), isNull(), eq(EmployeeListResponse.class)))
+                .thenReturn(ResponseEntity.ok().eTag("\"roster-1\"").body(listResponse));
+        Employee copy = new Employee(
+                mockEmployee.id(),
+                mockEmployee.employeeName(),
+                mockEmployee.employeeSalary(),
+                mockEmployee.employeeAge(),
+                mockEmployee.employeeTitle(),
+                mockEmployee.employeeEmail());
+        when(restTemplate.exchange(
+                        contains(mockEmployee.id()), eq(HttpMethod.GET), any(), eq(EmployeeResponse.class)))
+                .thenReturn(ResponseEntity.ok(new EmployeeResponse(copy, "success")));
+
+        serverClient.fetchAllEmployees();
+        Employee result = serverClient.fetchEmployeeById(mockEmployee.id());
+
+        assertThat(result).isSameAs(mockEmployee);
+    }
+
     @Test
     void fetchEmployeeById_shouldThrowWhenMissing() {
         String id = "missing-id";
@@ -99,6 +163,27 @@ class ServerClientTest {
         assertThat(result).isEqualTo(mockEmployee);
     }
 
+    @Test
+    void fetchEmployeesByIds_shouldPostIdsInOneRequest() {
+        String missing = UUID.randomUUID().toString();
+        EmployeeLookupResponse response = new EmployeeLookupResponse(
+                List.of(
+                        EmployeeLookup.found(mockEmployee),
+                        EmployeeLookup.of(missing, EmployeeLookup.Status.NOT_FOUND)),
+                "success");
+        when(restTemplate.exchange(
+                        eq("http://localhost:8112/api/v1/employee/lookup"),
+                        eq(HttpMethod.POST),
+                        argThat((HttpEntity<?> entity) -> entity.getBody()
+                                .equals(new EmployeeLookupRequest(List.of(mockEmployee.id(), missing)))),
+                        eq(EmployeeLookupResponse.class)))
+                .thenReturn(ResponseEntity.ok(response));
+
+        List<EmployeeLookup> result = serverClient.fetchEmployeesByIds(List.of(mockEmployee.id(), missing));
+
+        assertThat(result).isEqualTo(response.data());
+    }
+
     @Test
     void deleteEmployee_shouldSendDeleteRequest() {
         DeleteMockEmployeeInput input = new DeleteMockEmployeeInput(mockEmployee.employeeName());
@@ -115,4 +200,8 @@ class ServerClientTest {
                         }),
                         eq(String.class));
     }
+
+    private static ArgumentMatcher<HttpEntity<?>> ifNoneMatch(String eTag) {
+        return request -> request != null && request.getHeaders().getIfNoneMatch().contains(eTag);
+    }
 }
@@ -0,0 +1,110 @@
+package com.reliaquest.api.service.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.catchThrowableOfType;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+
+class UpstreamCircuitBreakerTest {
+
+    private final AtomicLong now = new AtomicLong(1_000);
+    private final UpstreamCircuitBreaker breaker = new UpstreamCircuitBreaker(true, 3, 30_000, 1, now::get);
+    private final AtomicInteger calls = new AtomicInteger();
+
+    @Test
+    void call_shouldOpenAfterConsecutiveFailuresAndRejectWithoutCalling() {
+        failTimes(3);
+        assertThat(breaker.state()).isEqualTo(UpstreamCircuitBreaker.State.OPEN);
+
+        now.addAndGet(10_000);
+        UpstreamUnavailableException rejected =
+                catchThrowableOfType(() -> breaker.call(this::succeed), UpstreamUnavailableException.class);
+
+        assertThat(rejected.retryAfterSeconds()).isEqualTo(20);
+        assertThat(calls).hasValue(3);
+    }
+
+    @Test
+    void call_shouldNotOpenWhenFailuresAreInterrupted() {
+        failTimes(2);
+        breaker.call(this::succeed);
+        failTimes(2);
+
+        assertThat(breaker.state()).isEqualTo(UpstreamCircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    void call_shouldCountNotFoundAsAnswered() {
+        for (int i = 0; i < 5; i++) {
+            assertThatThrownBy(() -> breaker.call(() -> {
+                        throw HttpClientErrorException.create(HttpStatus.NOT_FOUND, "", null, null, null);
+                    }))
+                    .isInstanceOf(HttpClientErrorException.NotFound.class);
+        }
+
+        assertThat(breaker.state()).isEqualTo(UpstreamCircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    void call_afterOpenPeriod_shouldCloseOnSuccessfulProbe() {
+        failTimes(3);
+        now.addAndGet(30_000);
+
+        assertThat(breaker.call(this::succeed)).isEqualTo("ok");
+        assertThat(breaker.state()).isEqualTo(UpstreamCircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    void call_afterOpenPeriod_shouldReopenOnFailedProbe() {
+        failTimes(3);
+        now.addAndGet(30_000);
+
+        failTimes(1);
+
+        assertThat(breaker.state()).isEqualTo(UpstreamCircuitBreaker.State.OPEN);
+        assertThatThrownBy(() -> breaker.call(this::succeed)).isInstanceOf(UpstreamUnavailableException.class);
+    }
+
+    @Test
+    void call_whileProbing_shouldRejectOtherCalls() {
+        failTimes(3);
+        now.addAndGet(30_000);
+
+        String result = breaker.call(() -> {
+            assertThatThrownBy(() -> breaker.call(this::succeed)).isInstanceOf(UpstreamUnavailableException.class);
+            return "probe";
+        });
+
+        assertThat(result).isEqualTo("probe");
+        assertThat(breaker.state()).isEqualTo(UpstreamCircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    void millisSinceLastSuccess_shouldMeasureFromLastAnswer() {
+        breaker.call(this::succeed);
+        now.addAndGet(5_000);
+        failTimes(3);
+
+        assertThat(breaker.millisSinceLastSuccess()).isEqualTo(5_000);
+    }
+
+    private String succeed() {
+        calls.incrementAndGet();
+        return "ok";
+    }
+
+    private void failTimes(int times) {
+        for (int i = 0; i < times; i++) {
+            assertThatThrownBy(() -> breaker.call(() -> {
+                        calls.incrementAndGet();
+                        throw HttpClientErrorException.create(HttpStatus.TOO_MANY_REQUESTS, "", null, null, null);
+                    }))
+                    .isInstanceOf(HttpClientErrorException.TooManyRequests.class);
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.reliaquest.api.service.query;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.EmployeeQuery;
+import com.reliaquest.api.model.EmployeeQueryResponse;
+import com.reliaquest.api.service.roster.RosterSnapshot;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class EmployeeQueryPlannerTest {
+
+    private final RosterSnapshot snapshot = RosterSnapshot.of(
+            null,
+            List.of(
+                    new Employee("1", "Alice Smith", 100000, 30, "Engineer", "alice@example.com"),
+                    new Employee("2", "Bob Jones", 120000, 40, "Manager", "bob@corp.com"),
+                    new Employee("3", "Charlie Smithers", 90000, 25, "Engineer", "charlie@example.com"),
+                    new Employee("4", "Dana Smith", 150000, 50, "Director", "dana@example.com"),
+                    new Employee("5", "Eve Smit", 95000, 35, "engineer", "eve@EXAMPLE.com")));
+
+    @Test
+    void execute_shouldDriveFromMostSelectiveIndexAndCheckEveryPredicate() {
+        EmployeeQueryResponse response = EmployeeQueryPlanner.execute(
+                snapshot, new EmployeeQuery("smith", "ENGINEER", null, null, null, null, "example.com"));
+
+        assertThat(response.data()).extracting(Employee::id).containsExactly("1", "3");
+        assertThat(response.plan().strategy()).isEqualTo("INDEX");
+        assertThat(response.plan().driver()).isEqualTo("title hash");
+        assertThat(response.plan().considered())
+                .containsExactly("title hash ~3", "emailDomain hash ~4", "name 3-gram ~3");
+        assertThat(response.plan().examinedRows()).isEqualTo(3);
+    }
+
+    @Test
+    void execute_shouldUseSortedIndexesAndKeepRosterOrder() {
+        EmployeeQueryResponse response =
+                EmployeeQueryPlanner.execute(snapshot, new EmployeeQuery(null, null, 30, null, 95000, 150000, null));
+
+        assertThat(response.data()).extracting(Employee::id).containsExactly("1", "2", "4", "5");
+        assertThat(response.plan().driver()).isEqualTo("salary sorted");
+        assertThat(response.plan().estimatedRows()).isEqualTo(4);
+    }
+
+    @Test
+    void execute_shouldScanWhenNoIndexApplies() {
+        EmployeeQueryResponse response =
+                EmployeeQueryPlanner.execute(snapshot, new EmployeeQuery("bo", " ", null, null, null, null, null));
+
+        assertThat(response.data()).extracting(Employee::id).containsExactly("2");
+        assertThat(response.plan().strategy()).isEqualTo("SCAN");
+        assertThat(response.plan().examinedRows()).isEqualTo(5);
+    }
+
+    @Test
+    void execute_shouldReturnNothingForUnknownValues() {
+        EmployeeQueryResponse response = EmployeeQueryPlanner.execute(
+                snapshot, new EmployeeQuery("zzz", "Janitor", null, null, null, null, null));
+
+        assertThat(response.data()).isEmpty();
+        assertThat(response.plan().examinedRows()).isZero();
+    }
+}
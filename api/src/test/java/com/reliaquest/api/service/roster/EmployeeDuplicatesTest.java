@@ -0,0 +1,118 @@
+package com.reliaquest.api.service.roster;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.reliaquest.api.model.Employee;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+class EmployeeDuplicatesTest {
+
+    private final Employee alice = new Employee("1", "Alice Smith", 100000, 30, "Engineer", "asmith@example.com");
+    private final RosterSnapshot snapshot = RosterSnapshot.of(null, List.of(alice));
+
+    private final AtomicLong now = new AtomicLong(1_000);
+    private final EmployeeDuplicates duplicates =
+            new EmployeeDuplicates(EmployeeDuplicates.Policy.REJECT, 60_000, now::get);
+
+    @Test
+    void claim_shouldMatchNormalizedIdentityOnRoster() {
+        Employee candidate = new Employee(null, "  alice   SMITH ", 1, 30, "engineer", null);
+
+        assertThatThrownBy(() -> duplicates.claim(snapshot, candidate))
+                .isInstanceOfSatisfying(
+                        DuplicateEmployeeException.class, e -> assertThat(e.existing()).isSameAs(alice));
+    }
+
+    @Test
+    void claim_shouldMatchEmailOnRoster() {
+        Employee candidate = new Employee(null, "Alice Jones", 1, 41, "Manager", "ASmith@Example.com");
+
+        assertThatThrownBy(() -> duplicates.claim(snapshot, candidate)).isInstanceOf(DuplicateEmployeeException.class);
+    }
+
+    @Test
+    void claim_shouldAllowSameNameWithDifferentAge() {
+        Employee candidate = new Employee(null, "Alice Smith", 100000, 31, "Engineer", null);
+
+        assertThat(duplicates.claim(snapshot, candidate)).isNotNull();
+    }
+
+    @Test
+    void claim_shouldRejectConcurrentCreatesOfSameEmployee() throws Exception {
+        Employee candidate = new Employee(null, "Bob", 90000, 40, "Manager", null);
+        int threads = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger claimed = new AtomicInteger();
+        try {
+            List<Future<?>> futures = IntStream.range(0, threads)
+                    .<Future<?>>mapToObj(i -> executor.submit(() -> {
+                        start.await();
+                        try {
+                            duplicates.claim(snapshot, candidate);
+                            claimed.incrementAndGet();
+                        } catch (DuplicateEmployeeException e) {
+                            assertThat(e.existing()).isNull();
+                        }
+                        return null;
+                    }))
+                    .toList();
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(10, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(claimed).hasValue(1);
+    }
+
+    @Test
+    void release_shouldFreeIdentityAfterFailedCreate() {
+        Employee candidate = new Employee(null, "Bob", 90000, 40, "Manager", null);
+
+        duplicates.claim(snapshot, candidate).release();
+
+        assertThat(duplicates.claim(snapshot, candidate)).isNotNull();
+    }
+
+    @Test
+    void complete_shouldAnswerWithCreatedEmployeeUntilExpired() {
+        Employee candidate = new Employee(null, "Bob", 90000, 40, "Manager", null);
+        Employee created = new Employee("2", "Bob", 90000, 40, "Manager", "bob@example.com");
+        duplicates.claim(snapshot, candidate).complete(created);
+
+        assertThatThrownBy(() -> duplicates.claim(snapshot, candidate))
+                .isInstanceOfSatisfying(
+                        DuplicateEmployeeException.class, e -> assertThat(e.existing()).isSameAs(created));
+        assertThatThrownBy(() -> duplicates.claim(snapshot, new Employee(null, "Rob", 1, 22, "Dev", "bob@example.com")))
+                .isInstanceOf(DuplicateEmployeeException.class);
+
+        now.addAndGet(60_000);
+
+        assertThat(duplicates.claim(snapshot, candidate)).isNotNull();
+    }
+
+    @Test
+    void forget_shouldFreeIdentityOfDeletedEmployee() {
+        Employee candidate = new Employee(null, "Bob", 90000, 40, "Manager", null);
+        Employee created = new Employee("2", "Bob", 90000, 40, "Manager", "bob@example.com");
+        duplicates.claim(snapshot, candidate).complete(created);
+
+        duplicates.forget(created);
+
+        assertThat(duplicates.claim(snapshot, candidate)).isNotNull();
+        assertThat(duplicates.size()).isEqualTo(1);
+    }
+}
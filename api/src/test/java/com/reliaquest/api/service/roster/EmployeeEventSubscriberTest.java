@@ -0,0 +1,116 @@
+package com.reliaquest.api.service.roster;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.EmployeeChange;
+import com.reliaquest.api.model.EmployeeChanges;
+import com.reliaquest.api.service.cache.ReplicaLeadership;
+import com.reliaquest.api.service.client.RosterVersion;
+import com.reliaquest.api.service.client.ServerClient;
+import com.reliaquest.api.service.client.UpstreamEvent;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.*;
+
+class EmployeeEventSubscriberTest {
+
+    @Mock
+    private ServerClient serverClient;
+
+    @Mock
+    private RosterSnapshots rosterSnapshots;
+
+    @Mock
+    private ReplicaLeadership replicaLeadership;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private EmployeeEventSubscriber subscriber;
+
+    private final Employee alice = new Employee("1", "Alice", 100000, 30, "Engineer", "alice@example.com");
+    private final Employee bob = new Employee("2", "Bob", 120000, 40, "Manager", "bob@example.com");
+
+    private final RosterSnapshot base = RosterSnapshot.of(new RosterVersion("epoch", 4), List.of(alice));
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        when(replicaLeadership.isLeader()).thenReturn(true);
+        subscriber =
+                new EmployeeEventSubscriber(serverClient, rosterSnapshots, objectMapper, replicaLeadership, 10, 10, 100);
+        subscriber.resume(base);
+    }
+
+    @Test
+    void handle_shouldApplyNextEventAsSingleChangeBatch() throws Exception {
+        EmployeeChange created = new EmployeeChange(5, EmployeeChange.Type.CREATED, bob);
+        when(rosterSnapshots.apply(eq(base), any())).thenReturn(true);
+        when(rosterSnapshots.loaded()).thenReturn(Optional.of(base.apply(batch(4, 5, created))));
+
+        boolean keepStreaming = subscriber.handle(event(created));
+
+        assertThat(keepStreaming).isTrue();
+        verify(rosterSnapshots).apply(eq(base), argThat(batch -> batch.since() == 4 && batch.latest() == 5));
+        verifyNoInteractions(serverClient);
+    }
+
+    @Test
+    void handle_shouldFillGapFromChangeFeed() throws Exception {
+        EmployeeChange late = new EmployeeChange(7, EmployeeChange.Type.CREATED, bob);
+        EmployeeChanges catchUp = batch(4, 7, late);
+        when(serverClient.fetchChanges(4, 0)).thenReturn(catchUp);
+        when(rosterSnapshots.apply(base, catchUp)).thenReturn(true);
+        when(rosterSnapshots.loaded()).thenReturn(Optional.of(base.apply(catchUp)));
+
+        boolean keepStreaming = subscriber.handle(event(late));
+
+        assertThat(keepStreaming).isTrue();
+        verify(rosterSnapshots).apply(base, catchUp);
+    }
+
+    @Test
+    void handle_shouldIgnoreAlreadyAppliedEvents() throws Exception {
+        EmployeeChange stale = new EmployeeChange(3, EmployeeChange.Type.CREATED, alice);
+
+        assertThat(subscriber.handle(event(stale))).isTrue();
+        verify(rosterSnapshots, never()).apply(any(), any());
+    }
+
+    @Test
+    void handle_shouldInvalidateOnResetOrEpochChange() throws Exception {
+        UpstreamEvent reset = new UpstreamEvent("epoch-9", EmployeeEventSubscriber.RESET_EVENT, "{}");
+        EmployeeChange restarted = new EmployeeChange(1, EmployeeChange.Type.CREATED, bob);
+        UpstreamEvent otherEpoch =
+                new UpstreamEvent("restarted-1", "CREATED", objectMapper.writeValueAsString(restarted));
+
+        assertThat(subscriber.handle(reset)).isFalse();
+        assertThat(subscriber.handle(otherEpoch)).isFalse();
+        verify(rosterSnapshots, times(2)).invalidate();
+    }
+
+    @Test
+    void handle_shouldEndStreamOnceLeadershipIsLost() throws Exception {
+        when(replicaLeadership.isLeader()).thenReturn(false);
+        EmployeeChange created = new EmployeeChange(5, EmployeeChange.Type.CREATED, bob);
+
+        assertThat(subscriber.handle(event(created))).isFalse();
+        verify(rosterSnapshots, never()).apply(any(), any());
+        verify(rosterSnapshots, never()).invalidate();
+        verifyNoInteractions(serverClient);
+    }
+
+    private UpstreamEvent event(EmployeeChange change) throws Exception {
+        return new UpstreamEvent(
+                "epoch-" + change.sequence(), change.type().name(), objectMapper.writeValueAsString(change));
+    }
+
+    private static EmployeeChanges batch(long since, long latest, EmployeeChange... changes) {
+        return new EmployeeChanges("epoch", since, latest, false, List.of(changes));
+    }
+}
@@ -0,0 +1,57 @@
+package com.reliaquest.api.service.roster;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.reliaquest.api.model.Employee;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+class NameMatcherTest {
+
+    private final FoldedNames names = RosterColumns.of(List.of(
+                    new Employee("1", "Alice", 100000, 30, "Engineer", "alice@example.com"),
+                    new Employee("2", "Bob", 120000, 40, "Manager", "bob@example.com"),
+                    new Employee("3", null, 90000, 25, "Engineer", "ghost@example.com"),
+                    new Employee("4", "ALICIA", 95000, 35, "Engineer", "alicia@example.com")))
+            .foldedNames();
+
+    private final NameMatcher matcher = new NameMatcher();
+
+    @Test
+    void matchRows_shouldIgnoreCase() {
+        assertThat(matcher.reset("aLi").matchRows(names, 0, names.size())).containsExactly(0, 3);
+        assertThat(matcher.reset("bob").count(names, 0, names.size())).isEqualTo(1);
+    }
+
+    @Test
+    void matchRows_shouldNotMatchAcrossNames() {
+        assertThat(matcher.reset("ceb").matchRows(names, 0, names.size())).isEmpty();
+        assertThat(matcher.reset("alice").matchRows(names, 0, names.size())).containsExactly(0);
+    }
+
+    @Test
+    void matchRows_shouldSkipNullNamesAndRespectRange() {
+        assertThat(matcher.reset("").matchRows(names, 0, names.size())).containsExactly(0, 1, 3);
+        assertThat(matcher.reset("a").matchRows(names, 1, 4)).containsExactly(3);
+    }
+
+    @Test
+    void reset_shouldAcceptLongerFragments() {
+        assertThat(matcher.reset("b").matches(names, 1)).isTrue();
+        assertThat(matcher.reset("x".repeat(40)).matches(names, 1)).isFalse();
+        assertThat(matcher.reset("ICIA").matches(names, 3)).isTrue();
+    }
+
+    @Test
+    void matchRows_shouldNotRetainBufferGrownForLargeResult() {
+        FoldedNames many = RosterColumns.of(IntStream.range(0, NameMatcher.MAX_RETAINED_ROWS + 1)
+                        .mapToObj(i -> new Employee(String.valueOf(i), "Alice " + i, 50000, 30, "Engineer", null))
+                        .toList())
+                .foldedNames();
+
+        assertThat(matcher.reset("alice").matchRows(many, 0, many.size())).hasSize(NameMatcher.MAX_RETAINED_ROWS + 1);
+        assertThat(matcher.retainedRows()).isLessThanOrEqualTo(NameMatcher.MAX_RETAINED_ROWS);
+        assertThat(matcher.reset("alice").matchRows(names, 0, names.size())).containsExactly(0, 3);
+    }
+}
@@ -0,0 +1,69 @@
+package com.reliaquest.api.service.roster;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.EmployeeChange;
+import com.reliaquest.api.model.EmployeeChanges;
+import com.reliaquest.api.service.client.RosterVersion;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class RosterAggregatesTest {
+
+    private final Employee alice = new Employee("1", "Alice", 100000, 30, "Engineer", "alice@example.com");
+    private final Employee bob = new Employee("2", "Bob", 120000, 40, "Manager", "bob@example.com");
+    private final Employee charlie = new Employee("3", "Charlie", 90000, 25, "Engineer", "charlie@example.com");
+    private final Employee dana = new Employee("4", "Dana", 60000, 52, "Analyst", "dana@example.com");
+
+    @Test
+    void of_shouldSummarizeRoster() {
+        RosterAggregates aggregates = RosterAggregates.of(RosterColumns.of(List.of(alice, bob, charlie)));
+
+        assertThat(aggregates.count()).isEqualTo(3);
+        assertThat(aggregates.averageSalary()).isEqualTo(310000 / 3.0);
+        assertThat(aggregates.minSalary()).isEqualTo(90000);
+        assertThat(aggregates.maxSalary()).isEqualTo(120000);
+        assertThat(aggregates.minAge()).isEqualTo(25);
+        assertThat(aggregates.maxAge()).isEqualTo(40);
+        assertThat(aggregates.countByAge(20, 30)).isEqualTo(1);
+        assertThat(aggregates.byTitle().get("Engineer").count()).isEqualTo(2);
+        assertThat(aggregates.salaryPercentile(50)).isBetween(100000, 100000 + RosterAggregates.SALARY_BUCKET_WIDTH);
+        assertThat(aggregates.salaryPercentile(100)).isEqualTo(120000);
+    }
+
+    @Test
+    void snapshotApply_shouldCarryAggregatesForward() {
+        RosterSnapshot base = RosterSnapshot.of(new RosterVersion("epoch", 1), List.of(alice, bob, charlie));
+        base.aggregates();
+
+        RosterSnapshot next = base.apply(new EmployeeChanges(
+                "epoch",
+                1,
+                3,
+                false,
+                List.of(
+                        new EmployeeChange(2, EmployeeChange.Type.CREATED, dana),
+                        new EmployeeChange(3, EmployeeChange.Type.DELETED, charlie))));
+
+        RosterAggregates patched = next.aggregates();
+        RosterAggregates rebuilt = RosterAggregates.of(RosterColumns.of(next.employees()));
+        assertThat(patched.count()).isEqualTo(rebuilt.count());
+        assertThat(patched.salaryTotal()).isEqualTo(rebuilt.salaryTotal());
+        assertThat(patched.minSalary()).isEqualTo(60000);
+        assertThat(patched.maxAge()).isEqualTo(52);
+        assertThat(patched.byTitle()).isEqualTo(rebuilt.byTitle());
+    }
+
+    @Test
+    void apply_shouldGiveUpWhenLastExtremeIsRemoved() {
+        RosterAggregates aggregates = RosterAggregates.of(RosterColumns.of(List.of(alice, bob, charlie)));
+
+        assertThat(aggregates.apply(List.of(new EmployeeChange(1, EmployeeChange.Type.DELETED, bob))))
+                .isNull();
+        assertThat(aggregates
+                        .apply(List.of(new EmployeeChange(1, EmployeeChange.Type.DELETED, alice)))
+                        .maxSalary())
+                .isEqualTo(120000);
+    }
+}
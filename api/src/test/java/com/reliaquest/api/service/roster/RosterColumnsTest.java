@@ -0,0 +1,92 @@
+package com.reliaquest.api.service.roster;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.reliaquest.api.model.Employee;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class RosterColumnsTest {
+
+    private final List<Employee> employees = List.of(
+            new Employee("1", "Alice", 100000, 30, "Engineer", "alice@example.com"),
+            new Employee("2", "Bob", 120000, 40, "Manager", "bob@example.com"),
+            new Employee("3", "Charlie", 90000, 25, "Engineer", "charlie@example.com"),
+            new Employee("4", "Dana", 120000, 50, "Director", "dana@example.com"));
+
+    private final RosterColumns columns = RosterColumns.of(employees);
+
+    @Test
+    void topSalaryRows_shouldOrderBySalaryThenRosterPosition() {
+        assertThat(columns.topEarnerNames(3)).containsExactly("Bob", "Dana", "Alice");
+        assertThat(columns.topEarnerNames(10)).containsExactly("Bob", "Dana", "Alice", "Charlie");
+        assertThat(columns.topEarnerNames(0)).isEmpty();
+    }
+
+    @Test
+    void bottomSalaryRows_shouldOrderLowestFirst() {
+        assertThat(columns.employees(columns.bottomSalaryRows(3)))
+                .extracting(Employee::employeeName)
+                .containsExactly("Charlie", "Alice", "Bob");
+    }
+
+    @Test
+    void salaryRangeRows_shouldBeInclusiveAndAscending() {
+        assertThat(columns.employees(columns.salaryRangeRows(95000, 120000)))
+                .extracting(Employee::employeeName)
+                .containsExactly("Alice", "Bob", "Dana");
+        assertThat(columns.salaryRangeRows(0, Integer.MAX_VALUE)).hasSize(4);
+        assertThat(columns.salaryRangeRows(130000, 140000)).isEmpty();
+        assertThat(columns.salaryRangeRows(120000, 90000)).isEmpty();
+    }
+
+    @Test
+    void ageRangeRows_shouldBeInclusiveAndAscending() {
+        assertThat(columns.employees(columns.ageRangeRows(30, 50)))
+                .extracting(Employee::employeeName)
+                .containsExactly("Alice", "Bob", "Dana");
+        assertThat(columns.ageRangeCount(26, 39)).isEqualTo(1);
+    }
+
+    @Test
+    void salaryIndex_shouldAgreeWithHeapSelection() {
+        int[] coldTop = columns.topSalaryRows(3);
+        int[] coldBottom = columns.bottomSalaryRows(3);
+
+        columns.salaryRangeRows(0, 0);
+
+        assertThat(columns.topSalaryRows(3)).containsExactly(coldTop);
+        assertThat(columns.bottomSalaryRows(3)).containsExactly(coldBottom);
+        assertThat(columns.topEarnerNames(10)).containsExactly("Bob", "Dana", "Alice", "Charlie");
+    }
+
+    @Test
+    void aggregates_shouldScanPrimitiveColumns() {
+        assertThat(columns.maxSalary()).isEqualTo(120000);
+        assertThat(columns.salaryStatistics().getAverage()).isEqualTo(107500);
+        assertThat(columns.ageStatistics().getMin()).isEqualTo(25);
+        assertThat(columns.salaryStatisticsByTitle().get("Engineer").getCount()).isEqualTo(2);
+        assertThat(columns.salaryStatisticsByTitle()).containsOnlyKeys("Engineer", "Manager", "Director");
+    }
+
+    @Test
+    void employee_shouldMaterializeRow() {
+        assertThat(columns.employee(2)).isEqualTo(employees.get(2));
+        assertThat(RosterColumns.of(List.of()).maxSalary()).isZero();
+    }
+
+    @Test
+    void employee_shouldShareEncodedEmailAndCanonicalTitle() {
+        Employee materialized = columns.employee(0);
+
+        assertThat(materialized.emailLocalPart()).isSameAs(employees.get(0).emailLocalPart());
+        assertThat(columns.email(0)).isEqualTo("alice@example.com");
+        assertThat(columns.emailDomain(0)).isEqualTo("example.com");
+
+        RosterColumns parsed = RosterColumns.builder(1)
+                .add("5", "Erin", 80000, 35, new String("Engineer"), "erin@example.com")
+                .build();
+        assertThat(parsed.title(0)).isSameAs(columns.title(0));
+        assertThat(parsed.emailDomain(0)).isSameAs(columns.emailDomain(0));
+    }
+}
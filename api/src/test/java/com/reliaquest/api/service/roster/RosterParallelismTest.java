@@ -0,0 +1,63 @@
+package com.reliaquest.api.service.roster;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.reliaquest.api.model.Employee;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class RosterParallelismTest {
+
+    private final RosterParallelism sequential = new RosterParallelism(1, Integer.MAX_VALUE, 1024);
+    private final RosterParallelism parallel = new RosterParallelism(4, 0, 1000);
+
+    private final RosterColumns columns = RosterColumns.of(roster(20_000));
+
+    @AfterEach
+    void tearDown() {
+        sequential.shutdown();
+        parallel.shutdown();
+    }
+
+    @Test
+    void reduce_shouldMatchSequentialScan() {
+        assertThat(parallel.reduce(columns.size(), columns::maxSalary, Math::max))
+                .isEqualTo(sequential.reduce(columns.size(), columns::maxSalary, Math::max));
+
+        assertThat(parallel.reduce(
+                        columns.size(),
+                        (from, to) -> columns.nameMatchRows("li", from, to),
+                        RosterParallelism::concat))
+                .containsExactly(columns.nameMatchRows("li", 0, columns.size()));
+    }
+
+    @Test
+    void reduce_shouldMergeTopSalariesWithStableTies() {
+        int[] rows = parallel.reduce(
+                columns.size(),
+                (from, to) -> columns.topSalaryRows(25, from, to),
+                (left, right) -> columns.mergeTopSalaryRows(left, right, 25));
+
+        assertThat(rows).containsExactly(columns.topSalaryRows(25));
+    }
+
+    private static List<Employee> roster(int size) {
+        Random random = new Random(7);
+        String[] names = {"Alice", "Bob", "Charlie", "Olivia", "Liam"};
+        List<Employee> employees = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            // Few distinct salaries, so ties cross chunk boundaries.
+            employees.add(new Employee(
+                    String.valueOf(i),
+                    names[random.nextInt(names.length)] + " " + i,
+                    1000 * random.nextInt(50),
+                    20 + random.nextInt(40),
+                    "Engineer",
+                    "user" + i + "@example.com"));
+        }
+        return employees;
+    }
+}
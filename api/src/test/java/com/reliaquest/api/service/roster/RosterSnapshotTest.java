@@ -0,0 +1,158 @@
+package com.reliaquest.api.service.roster;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.EmployeeChange;
+import com.reliaquest.api.model.EmployeeChanges;
+import com.reliaquest.api.service.client.RosterVersion;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class RosterSnapshotTest {
+
+    private final Employee alice = new Employee("1", "Alice", 100000, 30, "Engineer", "alice@example.com");
+    private final Employee bob = new Employee("2", "Bob", 120000, 40, "Manager", "bob@example.com");
+    private final Employee charlie = new Employee("3", "Charlie", 90000, 25, "Dev", "charlie@example.com");
+
+    private final RosterSnapshot snapshot = RosterSnapshot.of(new RosterVersion("epoch", 4), List.of(alice, bob));
+
+    @Test
+    void apply_shouldPatchListAndIndex() {
+        EmployeeChanges changes = new EmployeeChanges(
+                "epoch",
+                4,
+                6,
+                false,
+                List.of(
+                        new EmployeeChange(5, EmployeeChange.Type.CREATED, charlie),
+                        new EmployeeChange(6, EmployeeChange.Type.DELETED, alice)));
+
+        RosterSnapshot patched = snapshot.apply(changes);
+
+        assertThat(patched.version()).isEqualTo(new RosterVersion("epoch", 6));
+        assertThat(patched.employees()).containsExactly(bob, charlie);
+        assertThat(patched.byId()).containsOnlyKeys("2", "3");
+        assertThat(snapshot.employees()).containsExactly(alice, bob);
+    }
+
+    @Test
+    void apply_shouldCarryAggregatesPastDuplicateEvents() {
+        snapshot.aggregates();
+        EmployeeChanges changes = new EmployeeChanges(
+                "epoch",
+                4,
+                8,
+                false,
+                List.of(
+                        new EmployeeChange(5, EmployeeChange.Type.CREATED, charlie),
+                        new EmployeeChange(6, EmployeeChange.Type.CREATED, charlie),
+                        new EmployeeChange(7, EmployeeChange.Type.DELETED, alice),
+                        new EmployeeChange(8, EmployeeChange.Type.DELETED, alice)));
+
+        RosterAggregates aggregates = snapshot.apply(changes).aggregates();
+
+        assertThat(aggregates.count()).isEqualTo(2);
+        assertThat(aggregates.salaryTotal()).isEqualTo(210000);
+        assertThat(aggregates.byTitle()).containsOnlyKeys("Manager", "Dev");
+    }
+
+    @Test
+    void apply_shouldCarryIdentitiesForward() {
+        snapshot.identities();
+        EmployeeChanges changes = new EmployeeChanges(
+                "epoch",
+                4,
+                6,
+                false,
+                List.of(
+                        new EmployeeChange(5, EmployeeChange.Type.CREATED, charlie),
+                        new EmployeeChange(6, EmployeeChange.Type.DELETED, alice)));
+
+        RosterIdentities identities = snapshot.apply(changes).identities();
+
+        assertThat(identities.find(new Employee(null, "CHARLIE", 1, 25, "dev", null)))
+                .contains(charlie);
+        assertThat(identities.find(alice)).isEmpty();
+        assertThat(identities.find(bob)).contains(bob);
+    }
+
+    @Test
+    void apply_shouldCarryColumnsAndIndexesForward() {
+        RosterSnapshot parsed =
+                RosterSnapshot.of(new RosterVersion("epoch", 4), RosterList.of(RosterColumns.of(List.of(alice, bob))));
+        int[] managers = parsed.indexes().titleRows("Manager");
+        parsed.columns().salaryRangeRows(0, 0);
+        parsed.columns().foldedNames();
+        EmployeeChanges changes = new EmployeeChanges(
+                "epoch",
+                4,
+                6,
+                false,
+                List.of(
+                        new EmployeeChange(5, EmployeeChange.Type.CREATED, charlie),
+                        new EmployeeChange(6, EmployeeChange.Type.DELETED, alice)));
+
+        RosterSnapshot patched = parsed.apply(changes);
+
+        assertThat(patched.employees()).containsExactly(bob, charlie);
+        assertThat(patched.employees())
+                .isInstanceOfSatisfying(
+                        RosterList.class, list -> assertThat(list.columns()).isSameAs(patched.columns()));
+        RosterColumns columns = patched.columns();
+        assertThat(columns.employees(columns.salaryRangeRows(0, Integer.MAX_VALUE)))
+                .containsExactly(charlie, bob);
+        assertThat(columns.nameMatchRows("CHAR", 0, columns.size())).containsExactly(1);
+        RosterIndexes indexes = patched.indexes();
+        assertThat(indexes.titleRows("Manager")).containsExactly(0);
+        assertThat(indexes.titleRows("dev")).containsExactly(1);
+        assertThat(indexes.titleRows("Engineer")).isEmpty();
+        assertThat(indexes.nameCandidateRows("ali")).isEmpty();
+        assertThat(indexes.nameCandidateRows("arl")).containsExactly(1);
+        assertThat(indexes.emailDomainRows("example.com")).containsExactly(0, 1);
+
+        RosterSnapshot appended = patched.apply(new EmployeeChanges(
+                "epoch", 6, 7, false, List.of(new EmployeeChange(7, EmployeeChange.Type.CREATED, alice))));
+
+        // Without removed rows, untouched posting lists are shared rather than rebuilt.
+        assertThat(appended.indexes().titleRows("Manager")).isSameAs(indexes.titleRows("Manager"));
+        assertThat(appended.indexes().titleRows("Engineer")).containsExactly(2);
+        assertThat(managers).containsExactly(1);
+    }
+
+    @Test
+    void apply_shouldRebuildIdentitiesWhenRemovingSharedEmail() {
+        Employee alias = new Employee("4", "Al", 80000, 50, "Support", "alice@example.com");
+        RosterSnapshot shared = RosterSnapshot.of(new RosterVersion("epoch", 4), List.of(alice, alias));
+        shared.identities();
+        EmployeeChanges changes = new EmployeeChanges(
+                "epoch", 4, 5, false, List.of(new EmployeeChange(5, EmployeeChange.Type.DELETED, alice)));
+
+        RosterIdentities identities = shared.apply(changes).identities();
+
+        assertThat(identities.find(new Employee(null, null, 1, 1, null, "Alice@Example.com")))
+                .contains(alias);
+    }
+
+    @Test
+    void apply_shouldRejectBatchFromOtherEpochOrGap() {
+        EmployeeChanges otherEpoch = new EmployeeChanges("restarted", 4, 5, false, List.of());
+        EmployeeChanges gap = new EmployeeChanges("epoch", 2, 5, false, List.of());
+        EmployeeChanges reset = new EmployeeChanges("epoch", 4, 9, true, List.of());
+
+        assertThat(snapshot.canApply(otherEpoch)).isFalse();
+        assertThat(snapshot.canApply(gap)).isFalse();
+        assertThat(snapshot.canApply(reset)).isFalse();
+        assertThatThrownBy(() -> snapshot.apply(gap)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void rosterVersion_shouldRoundTripThroughETag() {
+        RosterVersion version = new RosterVersion("k3x9", 42);
+
+        assertThat(RosterVersion.fromETag(version.eTag())).contains(version);
+        assertThat(RosterVersion.fromETag("W/\"k3x9-42-gzip\"")).contains(version);
+        assertThat(RosterVersion.fromETag("\"not-a-version\"")).isEmpty();
+    }
+}
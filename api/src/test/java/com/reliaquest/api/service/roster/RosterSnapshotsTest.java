@@ -0,0 +1,79 @@
+package com.reliaquest.api.service.roster;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.service.cache.ReplicaLeadership;
+import com.reliaquest.api.service.client.RosterVersion;
+import com.reliaquest.api.service.client.ServerClient;
+import com.reliaquest.api.service.client.UpstreamUnavailableException;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.cache.interceptor.SimpleKey;
+
+class RosterSnapshotsTest {
+
+    private final Employee alice = new Employee("1", "Alice", 50000, 30, "Engineer", "alice@example.com");
+    private final Employee bob = new Employee("2", "Bob", 60000, 40, "Manager", "bob@example.com");
+    private final Employee promotedBob = new Employee("2", "Bob", 90000, 40, "Director", "bob@example.com");
+    private final Employee carol = new Employee("3", "Carol", 70000, 35, "Analyst", "carol@example.com");
+
+    private final ServerClient serverClient = mock(ServerClient.class);
+    private final ConcurrentMapCacheManager cacheManager = new ConcurrentMapCacheManager();
+    private final RosterSnapshots rosterSnapshots =
+            new RosterSnapshots(serverClient, cacheManager, new SearchResultCache(16, 100));
+
+    // Loaded by the previous leader, so this replica does not know its version.
+    private final List<Employee> shared = List.of(alice, bob, carol);
+    private final List<Employee> fresh = List.of(alice, promotedBob);
+
+    @BeforeEach
+    void setUp() {
+        cache(RosterSnapshots.EMPLOYEES_CACHE).put(SimpleKey.EMPTY, shared);
+        cache(RosterSnapshots.EMPLOYEE_BY_ID_CACHE).put("1", alice);
+        cache(RosterSnapshots.EMPLOYEE_BY_ID_CACHE).put("2", bob);
+        cache(RosterSnapshots.EMPLOYEE_BY_ID_CACHE).put("3", carol);
+        when(serverClient.versionOf(shared)).thenReturn(Optional.empty());
+        when(serverClient.versionOf(fresh)).thenReturn(Optional.of(new RosterVersion("abc", 9)));
+    }
+
+    @Test
+    void syncBase_afterTakingOver_shouldReloadRosterWithoutClearingCaches() {
+        when(serverClient.reloadAllEmployees()).thenReturn(fresh);
+        assertThat(rosterSnapshots.syncBase()).isEmpty();
+
+        rosterSnapshots.onLeadershipAcquired(new ReplicaLeadership.Acquired("b"));
+        Optional<RosterSnapshot> base = rosterSnapshots.syncBase();
+
+        assertThat(base).map(RosterSnapshot::version).contains(new RosterVersion("abc", 9));
+        assertThat(cache(RosterSnapshots.EMPLOYEES_CACHE).get(SimpleKey.EMPTY, List.class)).isSameAs(fresh);
+        Cache byId = cache(RosterSnapshots.EMPLOYEE_BY_ID_CACHE);
+        assertThat(byId.get("1", Employee.class)).isSameAs(alice);
+        assertThat(byId.get("2", Employee.class)).isEqualTo(promotedBob);
+        assertThat(byId.get("3")).isNull();
+
+        rosterSnapshots.syncBase();
+        verify(serverClient, times(1)).reloadAllEmployees();
+    }
+
+    @Test
+    void syncBase_whenReloadFails_shouldKeepCachesAndRetry() {
+        when(serverClient.reloadAllEmployees()).thenThrow(new UpstreamUnavailableException(30)).thenReturn(fresh);
+        rosterSnapshots.onLeadershipAcquired(new ReplicaLeadership.Acquired("b"));
+
+        assertThat(rosterSnapshots.syncBase()).isEmpty();
+        assertThat(cache(RosterSnapshots.EMPLOYEES_CACHE).get(SimpleKey.EMPTY, List.class)).isSameAs(shared);
+        assertThat(cache(RosterSnapshots.EMPLOYEE_BY_ID_CACHE).get("3", Employee.class)).isSameAs(carol);
+
+        assertThat(rosterSnapshots.syncBase()).isPresent();
+    }
+
+    private Cache cache(String name) {
+        return cacheManager.getCache(name);
+    }
+}
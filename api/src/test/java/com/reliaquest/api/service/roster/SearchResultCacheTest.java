@@ -0,0 +1,108 @@
+package com.reliaquest.api.service.roster;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.EmployeeChange;
+import com.reliaquest.api.model.EmployeeChanges;
+import com.reliaquest.api.service.client.RosterVersion;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class SearchResultCacheTest {
+
+    private final Employee alice = new Employee("1", "Alice", 100000, 30, "Engineer", "alice@example.com");
+    private final Employee bob = new Employee("2", "Bob", 120000, 40, "Manager", "bob@example.com");
+    private final Employee alicia = new Employee("3", "Alicia", 90000, 25, "Dev", "alicia@example.com");
+
+    private final RosterSnapshot snapshot = RosterSnapshot.of(new RosterVersion("epoch", 4), List.of(alice, bob));
+
+    private final SearchResultCache cache = new SearchResultCache(2, 100);
+
+    private final AtomicInteger scans = new AtomicInteger();
+
+    @Test
+    void get_shouldServeRepeatedQueriesIgnoringCase() {
+        cache.reset(snapshot);
+
+        cache.get(snapshot, "ali", () -> scan(List.of(alice)));
+        List<Employee> result = cache.get(snapshot, "ALI", () -> scan(List.of(alice)));
+
+        assertThat(result).containsExactly(alice);
+        assertThat(scans).hasValue(1);
+    }
+
+    @Test
+    void get_shouldNotCacheForOtherSnapshots() {
+        cache.reset(snapshot);
+        RosterSnapshot other = RosterSnapshot.of(null, List.of(alice));
+
+        cache.get(other, "ali", () -> scan(List.of(alice)));
+        cache.get(other, "ali", () -> scan(List.of(alice)));
+
+        assertThat(scans).hasValue(2);
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void advance_shouldPatchResultsWithChanges() {
+        cache.reset(snapshot);
+        cache.get(snapshot, "ali", () -> scan(List.of(alice)));
+        cache.get(snapshot, "bo", () -> scan(List.of(bob)));
+        EmployeeChanges changes = new EmployeeChanges(
+                "epoch",
+                4,
+                6,
+                false,
+                List.of(
+                        new EmployeeChange(5, EmployeeChange.Type.CREATED, alicia),
+                        new EmployeeChange(6, EmployeeChange.Type.DELETED, bob)));
+        RosterSnapshot next = snapshot.apply(changes);
+
+        cache.advance(snapshot, next, changes.changes());
+
+        assertThat(cache.get(next, "ali", () -> scan(List.of()))).containsExactly(alice, alicia);
+        assertThat(cache.get(next, "bo", () -> scan(List.of(bob)))).isEmpty();
+        assertThat(scans).hasValue(2);
+    }
+
+    @Test
+    void advance_shouldCountOnlyResultsTheChangesAltered() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        cache.bindTo(registry);
+        cache.reset(snapshot);
+        cache.get(snapshot, "ali", () -> scan(List.of(alice)));
+        cache.get(snapshot, "bo", () -> scan(List.of(bob)));
+        EmployeeChanges changes = new EmployeeChanges(
+                "epoch", 4, 5, false, List.of(new EmployeeChange(5, EmployeeChange.Type.CREATED, alicia)));
+
+        cache.advance(snapshot, snapshot.apply(changes), changes.changes());
+
+        assertThat(registry.get("employee.search.cache.patches").functionCounter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void get_shouldEvictLeastRecentlyUsedAndPublishMetrics() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        cache.bindTo(registry);
+        cache.reset(snapshot);
+
+        cache.get(snapshot, "a", () -> scan(List.of(alice)));
+        cache.get(snapshot, "b", () -> scan(List.of(bob)));
+        cache.get(snapshot, "a", () -> scan(List.of(alice)));
+        cache.get(snapshot, "c", () -> scan(List.of(alice)));
+        cache.get(snapshot, "b", () -> scan(List.of(bob)));
+
+        assertThat(scans).hasValue(4);
+        assertThat(registry.get("employee.search.cache.hits").functionCounter().count()).isEqualTo(1.0);
+        assertThat(registry.get("employee.search.cache.misses").functionCounter().count()).isEqualTo(4.0);
+        assertThat(registry.get("employee.search.cache.evictions").functionCounter().count()).isEqualTo(2.0);
+    }
+
+    private List<Employee> scan(List<Employee> result) {
+        scans.incrementAndGet();
+        return result;
+    }
+}
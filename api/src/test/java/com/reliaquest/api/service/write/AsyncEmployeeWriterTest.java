@@ -0,0 +1,259 @@
+package com.reliaquest.api.service.write;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.WriteOperation;
+import com.reliaquest.api.service.EmployeeService;
+import com.reliaquest.api.service.client.UpstreamUnavailableException;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Optional;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+
+class AsyncEmployeeWriterTest {
+
+    private static final String EMPLOYEE_ID = "4a3a170b-22cd-4ac2-aad1-9bb5b34a1507";
+
+    @TempDir
+    Path directory;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    private final Employee input = new Employee(null, "Alice", 75000, 29, "Engineer", null);
+    private final Employee created = new Employee(EMPLOYEE_ID, "Alice", 75000, 29, "Engineer", "alice@example.com");
+
+    private EmployeeService employeeService;
+    private AsyncEmployeeWriter writer;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        employeeService = mock(EmployeeService.class);
+        writer = newWriter();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        writer.stop();
+    }
+
+    @Test
+    void submitCreate_shouldAcknowledgeBeforeCallingUpstream() {
+        WriteOperation operation = writer.submitCreate(null, input);
+
+        assertThat(operation.status()).isEqualTo(WriteOperation.Status.PENDING);
+        assertThat(writer.backlog()).isEqualTo(1);
+        verifyNoInteractions(employeeService);
+    }
+
+    @Test
+    void drain_shouldRecordUpstreamResult() throws Exception {
+        when(employeeService.createEmployee(input)).thenReturn(created);
+        WriteOperation operation = writer.submitCreate(null, input);
+
+        assertThat(writer.drain(0)).isEqualTo(1);
+
+        WriteOperation completed = writer.findOperation(operation.id()).orElseThrow();
+        assertThat(completed.status()).isEqualTo(WriteOperation.Status.SUCCEEDED);
+        assertThat(completed.employee()).isEqualTo(created);
+        assertThat(completed.employeeId()).isEqualTo(EMPLOYEE_ID);
+    }
+
+    @Test
+    void drain_shouldFailDeleteOfUnknownEmployee() throws Exception {
+        when(employeeService.deleteEmployeeById(EMPLOYEE_ID)).thenThrow(notFound());
+        WriteOperation operation = writer.submitDelete(null, EMPLOYEE_ID);
+
+        writer.drain(0);
+
+        WriteOperation completed = writer.findOperation(operation.id()).orElseThrow();
+        assertThat(completed.status()).isEqualTo(WriteOperation.Status.FAILED);
+        assertThat(completed.error()).isEqualTo("Employee not found");
+    }
+
+    @Test
+    void drain_shouldCountRerunDeleteOfMissingEmployeeAsSucceeded() throws Exception {
+        WriteOperation pending = writer.submitDelete("key-1", EMPLOYEE_ID);
+        writer.stop();
+        // Stopped after the delete reached the upstream, before its result was journaled.
+        WriteJournal journal = new WriteJournal(journalPath(), objectMapper, false);
+        journal.append(pending.inProgress());
+        journal.close();
+        when(employeeService.deleteEmployeeById(EMPLOYEE_ID)).thenThrow(notFound());
+
+        writer = newWriter();
+        writer.recover();
+        writer.drain(0);
+
+        assertThat(writer.findOperation(pending.id()).orElseThrow().status())
+                .isEqualTo(WriteOperation.Status.SUCCEEDED);
+    }
+
+    @Test
+    void drain_shouldRequeueRateLimitedWrite() throws Exception {
+        when(employeeService.deleteEmployeeById(EMPLOYEE_ID))
+                .thenThrow(HttpClientErrorException.create(HttpStatus.TOO_MANY_REQUESTS, "", null, null, null))
+                .thenReturn("Alice");
+        WriteOperation operation = writer.submitDelete(null, EMPLOYEE_ID);
+
+        assertThat(writer.drain(0)).isZero();
+        assertThat(writer.findOperation(operation.id()).orElseThrow().status())
+                .isEqualTo(WriteOperation.Status.PENDING);
+
+        assertThat(writer.drain(0)).isEqualTo(1);
+        assertThat(writer.findOperation(operation.id()).orElseThrow().status())
+                .isEqualTo(WriteOperation.Status.SUCCEEDED);
+    }
+
+    @Test
+    void drain_shouldRequeueWritesWhileCircuitIsOpen() throws Exception {
+        when(employeeService.createEmployee(input))
+                .thenThrow(new UpstreamUnavailableException(0))
+                .thenReturn(created);
+        WriteOperation operation = writer.submitCreate("key-1", input);
+        WriteOperation next = writer.submitDelete(null, EMPLOYEE_ID);
+
+        assertThat(writer.drain(0)).isZero();
+        assertThat(writer.findOperation(operation.id()).orElseThrow().status())
+                .isEqualTo(WriteOperation.Status.PENDING);
+        assertThat(writer.findOperation(next.id()).orElseThrow().status()).isEqualTo(WriteOperation.Status.PENDING);
+        assertThat(writer.backlog()).isEqualTo(2);
+        verify(employeeService, never()).deleteEmployeeById(EMPLOYEE_ID);
+
+        assertThat(writer.drain(0)).isEqualTo(2);
+        assertThat(writer.findOperation(operation.id()).orElseThrow().status())
+                .isEqualTo(WriteOperation.Status.SUCCEEDED);
+    }
+
+    @Test
+    void submit_shouldReturnOriginalOperationForRepeatedKey() {
+        WriteOperation first = writer.submitCreate("key-1", input);
+        WriteOperation second = writer.submitCreate("key-1", input);
+
+        assertThat(second).isEqualTo(first);
+        assertThat(writer.backlog()).isEqualTo(1);
+    }
+
+    @Test
+    void submit_shouldRejectRepeatedKeyForDifferentRequest() {
+        writer.submitCreate("key-1", input);
+
+        assertThatThrownBy(() -> writer.submitDelete("key-1", EMPLOYEE_ID))
+                .isInstanceOf(IdempotencyKeyConflictException.class);
+    }
+
+    @Test
+    void recover_shouldResumeJournaledWritesAndKeys() throws Exception {
+        WriteOperation pending = writer.submitCreate("key-1", input);
+        writer.stop();
+
+        writer = newWriter();
+        writer.recover();
+
+        assertThat(writer.findOperation(pending.id())).contains(pending);
+        assertThat(writer.submitCreate("key-1", input)).isEqualTo(pending);
+        assertThat(writer.backlog()).isEqualTo(1);
+    }
+
+    @Test
+    void drain_shouldNotRecreateEmployeeAlreadyOnUpstreamRoster() throws Exception {
+        WriteOperation pending = writer.submitCreate("key-1", input);
+        writer.stop();
+        // Stopped after the create was sent upstream, before its result was journaled.
+        WriteJournal journal = new WriteJournal(journalPath(), objectMapper, false);
+        journal.append(pending.inProgress());
+        journal.close();
+        when(employeeService.findOnUpstreamRoster(input)).thenReturn(Optional.of(created));
+
+        writer = newWriter();
+        writer.recover();
+        writer.drain(0);
+
+        verify(employeeService, never()).createEmployee(any());
+        WriteOperation completed = writer.findOperation(pending.id()).orElseThrow();
+        assertThat(completed.status()).isEqualTo(WriteOperation.Status.SUCCEEDED);
+        assertThat(completed.employeeId()).isEqualTo(EMPLOYEE_ID);
+    }
+
+    @Test
+    void drain_shouldRecreateInProgressEmployeeMissingFromUpstreamRoster() throws Exception {
+        WriteOperation pending = writer.submitCreate("key-1", input);
+        writer.stop();
+        WriteJournal journal = new WriteJournal(journalPath(), objectMapper, false);
+        journal.append(pending.inProgress());
+        journal.close();
+        when(employeeService.findOnUpstreamRoster(input)).thenReturn(Optional.empty());
+        when(employeeService.createEmployee(input)).thenReturn(created);
+
+        writer = newWriter();
+        writer.recover();
+        writer.drain(0);
+
+        verify(employeeService).createEmployee(input);
+        assertThat(writer.findOperation(pending.id()).orElseThrow().status())
+                .isEqualTo(WriteOperation.Status.SUCCEEDED);
+    }
+
+    @Test
+    void newWriter_shouldRejectJournalInUse() {
+        assertThatThrownBy(this::newWriter).isInstanceOf(IOException.class).hasMessageContaining("journal-path");
+    }
+
+    @Test
+    void recover_shouldSkipTornLastEntry() throws Exception {
+        WriteOperation pending = writer.submitCreate(null, input);
+        writer.stop();
+        Files.writeString(journalPath(), "{\"id\":\"trunc", StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+
+        writer = newWriter();
+        writer.recover();
+
+        assertThat(writer.findOperation(pending.id())).contains(pending);
+    }
+
+    @Test
+    void prune_shouldForgetExpiredOperations() throws Exception {
+        when(employeeService.createEmployee(input)).thenReturn(created);
+        writer.stop();
+        writer = newWriter(Clock.fixed(Instant.parse("2024-01-01T00:00:00Z"), ZoneOffset.UTC), 0);
+        WriteOperation operation = writer.submitCreate("key-1", input);
+        writer.drain(0);
+
+        writer.prune();
+
+        assertThat(writer.findOperation(operation.id())).isEmpty();
+        assertThat(Files.readAllLines(journalPath())).isEmpty();
+    }
+
+    // What the client throws for the upstream's 404 on an unknown id.
+    private static HttpClientErrorException notFound() {
+        return HttpClientErrorException.create(HttpStatus.NOT_FOUND, "Not Found", null, null, null);
+    }
+
+    private AsyncEmployeeWriter newWriter() throws Exception {
+        return newWriter(Clock.systemUTC(), 60_000);
+    }
+
+    private AsyncEmployeeWriter newWriter(Clock clock, long retentionMs) throws Exception {
+        WriteJournal journal = new WriteJournal(journalPath(), objectMapper, false);
+        return new AsyncEmployeeWriter(employeeService, journal, 10, 0, 0, retentionMs, clock);
+    }
+
+    private Path journalPath() {
+        return directory.resolve("write-journal.jsonl");
+    }
+}
@@ -0,0 +1,72 @@
+package com.reliaquest.build;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Launches an application and measures the time from process start until it answers its first HTTP request.
+ */
+public final class AppStartup {
+
+    private static final Duration PROBE_TIMEOUT = Duration.ofMillis(500);
+
+    private AppStartup() {}
+
+    /**
+     * Starts {@code command}, probes {@code probe} until any HTTP response comes back, then stops the process with
+     * SIGTERM and waits for it to exit, so JVM exit hooks (such as writing a CDS archive) run.
+     *
+     * @param log file receiving the application's console output
+     * @return milliseconds from process start to the first response
+     * @throws IOException if the application exits or does not answer within {@code timeout}
+     */
+    public static long timeToFirstResponse(List<String> command, URI probe, File log, Duration timeout)
+            throws IOException, InterruptedException {
+        HttpClient client = HttpClient.newBuilder().connectTimeout(PROBE_TIMEOUT).build();
+        HttpRequest request = HttpRequest.newBuilder(probe).timeout(timeout).GET().build();
+        log.getParentFile().mkdirs();
+
+        long started = System.nanoTime();
+        Process process = new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(log)
+                .start();
+        try {
+            long deadline = started + timeout.toNanos();
+            while (true) {
+                try {
+                    client.send(request, HttpResponse.BodyHandlers.discarding());
+                    return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+                } catch (IOException e) {
+                    // Not listening yet.
+                }
+                if (!process.isAlive() || System.nanoTime() > deadline) {
+                    throw new IOException("Application did not answer " + probe + "; see " + log);
+                }
+                Thread.sleep(10);
+            }
+        } finally {
+            process.destroy();
+            if (!process.waitFor(30, TimeUnit.SECONDS)) {
+                process.destroyForcibly().waitFor();
+            }
+        }
+    }
+
+    public static int freePort() {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.reliaquest.build;
+
+import org.gradle.api.provider.Property;
+
+/**
+ * Settings of the {@code startup-conventions} tasks.
+ */
+public abstract class StartupExtension {
+
+    /**
+     * Path answered once the application serves requests, e.g. {@code /actuator/health}.
+     */
+    public abstract Property<String> getProbePath();
+
+    /**
+     * Launches per measured variant; the first one warms the file system cache and is not counted.
+     */
+    public abstract Property<Integer> getRuns();
+}
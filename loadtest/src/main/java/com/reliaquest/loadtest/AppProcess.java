@@ -0,0 +1,95 @@
+package com.reliaquest.loadtest;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A Spring Boot application started from its boot jar in a separate JVM, so it is measured as deployed and does not
+ * share heap, threads or JIT state with the load generator.
+ */
+final class AppProcess implements AutoCloseable {
+
+    private static final Duration STARTUP_TIMEOUT = Duration.ofMinutes(2);
+
+    private final String name;
+    private final Process process;
+
+    private AppProcess(String name, Process process) {
+        this.name = name;
+        this.process = process;
+    }
+
+    /**
+     * Starts the jar and waits until it accepts connections on {@code port}; Spring Boot opens the port once the
+     * application context is ready.
+     *
+     * @param log file receiving the application's console output
+     * @throws IOException if {@code port} is already taken, since readiness would then be read off whatever holds it
+     */
+    static AppProcess start(String name, Path jar, int port, List<String> args, Path log)
+            throws IOException, InterruptedException {
+        if (!isFree(port)) {
+            throw new IOException("Cannot start " + name + ": port " + port
+                    + " is already in use; stop what holds it, or run with --start-apps=false against running apps");
+        }
+        List<String> command = new ArrayList<>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        command.add("-jar");
+        command.add(jar.toString());
+        command.add("--server.port=" + port);
+        command.addAll(args);
+        Process process = new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(log.toFile())
+                .start();
+        AppProcess app = new AppProcess(name, process);
+
+        long started = System.nanoTime();
+        long deadline = started + STARTUP_TIMEOUT.toNanos();
+        while (!accepts(port)) {
+            if (!process.isAlive() || System.nanoTime() > deadline) {
+                app.close();
+                throw new IOException(name + " did not start; see " + log);
+            }
+            Thread.sleep(100);
+        }
+        System.out.printf(
+                "%s ready on port %d after %d ms%n",
+                name, port, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+        return app;
+    }
+
+    @Override
+    public void close() throws InterruptedException {
+        process.destroy();
+        if (!process.waitFor(10, TimeUnit.SECONDS)) {
+            System.err.printf("%s did not stop; killing it%n", name);
+            process.destroyForcibly().waitFor();
+        }
+    }
+
+    private static boolean isFree(int port) {
+        try (ServerSocket socket = new ServerSocket()) {
+            socket.bind(new InetSocketAddress(port));
+            return true;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    private static boolean accepts(int port) {
+        try (Socket socket = new Socket()) {
+            socket.connect(new InetSocketAddress("localhost", port), 200);
+            return true;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+}
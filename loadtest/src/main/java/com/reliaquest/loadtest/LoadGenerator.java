@@ -0,0 +1,107 @@
+package com.reliaquest.loadtest;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Phaser;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Open-loop request generator: sends requests on a fixed schedule of {@code rate} per second regardless of how many
+ * are still outstanding, choosing each request's operation from the mix.
+ *
+ * @implNote Each request's latency is measured from its scheduled send time. Requests scheduled during the warmup are
+ * sent but not recorded.
+ */
+final class LoadGenerator {
+
+    private final LoadTestOptions options;
+    private final Workload workload;
+    private final LoadReport report;
+
+    LoadGenerator(LoadTestOptions options, Workload workload, LoadReport report) {
+        this.options = options;
+        this.workload = workload;
+        this.report = report;
+    }
+
+    void run(HttpClient client) throws InterruptedException {
+        SplittableRandom random = new SplittableRandom(options.seed());
+        long periodNanos = (long) (TimeUnit.SECONDS.toNanos(1) / options.rate());
+        long start = System.nanoTime();
+        long measureFrom = start + options.warmup().toNanos();
+        long end = measureFrom + options.duration().toNanos();
+        Phaser outstanding = new Phaser(1);
+
+        for (long i = 0; ; i++) {
+            long scheduled = start + i * periodNanos;
+            if (scheduled >= end) {
+                break;
+            }
+            long wait;
+            while ((wait = scheduled - System.nanoTime()) > 0) {
+                LockSupport.parkNanos(wait);
+            }
+
+            Operation operation = options.mix().next(random);
+            boolean measured = scheduled >= measureFrom;
+            HttpRequest request = operation.request(workload, random);
+            if (request == null) {
+                if (measured) {
+                    report.recordSkipped(operation);
+                }
+                continue;
+            }
+            outstanding.register();
+            client.sendAsync(request, HttpResponse.BodyHandlers.ofString()).whenComplete((response, failure) -> {
+                long latency = System.nanoTime() - scheduled;
+                if (measured) {
+                    report.record(
+                            operation,
+                            latency,
+                            response != null
+                                    ? String.valueOf(response.statusCode())
+                                    : rootCause(failure).getClass().getSimpleName());
+                }
+                if (response != null) {
+                    workload.onResponse(operation, response);
+                }
+                outstanding.arriveAndDeregister();
+            });
+        }
+
+        try {
+            outstanding.awaitAdvanceInterruptibly(
+                    outstanding.arrive(), options.requestTimeout().toMillis() * 2, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            System.err.printf("%d request(s) still outstanding after the run%n", outstanding.getUnarrivedParties());
+        }
+    }
+
+    static HttpClient newClient(LoadTestOptions options) {
+        ExecutorService executor = Executors.newFixedThreadPool(
+                Math.max(4, Runtime.getRuntime().availableProcessors()), runnable -> {
+                    Thread thread = new Thread(runnable, "load-client");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        return HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(options.requestTimeout())
+                .executor(executor)
+                .build();
+    }
+
+    private static Throwable rootCause(Throwable failure) {
+        Throwable cause = failure;
+        while (cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        return cause;
+    }
+}
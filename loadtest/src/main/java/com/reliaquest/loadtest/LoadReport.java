@@ -0,0 +1,178 @@
+package com.reliaquest.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+/**
+ * Latency histograms and outcomes per operation for the measured part of a run, and the files a run leaves behind:
+ * {@code summary.json} (what later runs compare against) and one HdrHistogram percentile distribution
+ * ({@code <operation>.hgrm}) per operation.
+ *
+ * @implNote Latencies are recorded from each request's scheduled send time, not the time it was actually sent, so a
+ * stalled generator or server shows up as latency instead of silently thinning the sample (coordinated omission).
+ */
+public final class LoadReport {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+    private static final long HIGHEST_TRACKABLE_NANOS = TimeUnit.MINUTES.toNanos(10);
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+    /**
+     * Summary of one operation, in milliseconds.
+     */
+    public record OperationSummary(
+            long count,
+            long errors,
+            long skipped,
+            Map<String, Long> statuses,
+            double throughput,
+            double p50,
+            double p90,
+            double p99,
+            double p999,
+            double max) {}
+
+    /**
+     * What {@code summary.json} holds.
+     */
+    public record Summary(
+            String label, double rate, long durationSeconds, String mix, Map<String, OperationSummary> operations) {}
+
+    private final Map<Operation, Histogram> latencies = new EnumMap<>(Operation.class);
+    private final Map<Operation, Map<String, LongAdder>> statuses = new EnumMap<>(Operation.class);
+    private final Map<Operation, LongAdder> skipped = new EnumMap<>(Operation.class);
+
+    public LoadReport(RequestMix mix) {
+        for (Operation operation : mix.operations()) {
+            latencies.put(operation, new ConcurrentHistogram(HIGHEST_TRACKABLE_NANOS, 3));
+            statuses.put(operation, new ConcurrentHashMap<>());
+            skipped.put(operation, new LongAdder());
+        }
+    }
+
+    /**
+     * @param status HTTP status, or the exception's simple name if the request failed without one
+     */
+    public void record(Operation operation, long latencyNanos, String status) {
+        latencies.get(operation).recordValue(Math.min(latencyNanos, HIGHEST_TRACKABLE_NANOS));
+        statuses.get(operation).computeIfAbsent(status, key -> new LongAdder()).increment();
+    }
+
+    public void recordSkipped(Operation operation) {
+        skipped.get(operation).increment();
+    }
+
+    public Summary summarize(LoadTestOptions options) {
+        Map<String, OperationSummary> operations = new LinkedHashMap<>();
+        double seconds = Math.max(1, options.duration().toSeconds());
+        latencies.forEach((operation, histogram) -> {
+            Map<String, Long> counts = new TreeMap<>();
+            statuses.get(operation).forEach((status, count) -> counts.put(status, count.sum()));
+            long errors = counts.entrySet().stream()
+                    .filter(entry -> !entry.getKey().startsWith("2"))
+                    .mapToLong(Map.Entry::getValue)
+                    .sum();
+            operations.put(
+                    operation.label(),
+                    new OperationSummary(
+                            histogram.getTotalCount(),
+                            errors,
+                            skipped.get(operation).sum(),
+                            counts,
+                            histogram.getTotalCount() / seconds,
+                            millis(histogram.getValueAtPercentile(50)),
+                            millis(histogram.getValueAtPercentile(90)),
+                            millis(histogram.getValueAtPercentile(99)),
+                            millis(histogram.getValueAtPercentile(99.9)),
+                            millis(histogram.getMaxValue())));
+        });
+        return new Summary(
+                options.label(), options.rate(), options.duration().toSeconds(), options.mix().toString(), operations);
+    }
+
+    /**
+     * Writes {@code summary.json} and the per-operation percentile distributions into {@code directory}.
+     */
+    public void write(Summary summary, Path directory) throws IOException {
+        Files.createDirectories(directory);
+        MAPPER.writeValue(directory.resolve("summary.json").toFile(), summary);
+        for (Map.Entry<Operation, Histogram> entry : latencies.entrySet()) {
+            try (PrintStream out = new PrintStream(
+                    Files.newOutputStream(directory.resolve(entry.getKey().label() + ".hgrm")))) {
+                entry.getValue().outputPercentileDistribution(out, NANOS_PER_MILLI);
+            }
+        }
+    }
+
+    public static Summary read(Path summaryFile) throws IOException {
+        return MAPPER.readValue(summaryFile.toFile(), Summary.class);
+    }
+
+    public static void print(Summary summary, PrintStream out) {
+        out.printf(
+                "Run %s: %.0f req/s for %ds, mix %s%n",
+                summary.label(), summary.rate(), summary.durationSeconds(), summary.mix());
+        out.printf(
+                "%-14s %8s %7s %7s %9s %9s %9s %9s %9s%n",
+                "operation", "count", "errors", "skipped", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms");
+        summary.operations().forEach((name, operation) -> out.printf(
+                "%-14s %8d %7d %7d %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+                name,
+                operation.count(),
+                operation.errors(),
+                operation.skipped(),
+                operation.p50(),
+                operation.p90(),
+                operation.p99(),
+                operation.p999(),
+                operation.max()));
+    }
+
+    /**
+     * Prints the change in tail latency and error count of each operation from {@code baseline} to {@code current}.
+     */
+    public static void compare(Summary baseline, Summary current, PrintStream out) {
+        out.printf(
+                "Compared with %s (%.0f req/s for %ds):%n",
+                baseline.label(), baseline.rate(), baseline.durationSeconds());
+        out.printf("%-14s %18s %18s %18s %14s%n", "operation", "p50 ms", "p99 ms", "p99.9 ms", "errors");
+        current.operations().forEach((name, now) -> {
+            OperationSummary before = baseline.operations().get(name);
+            if (before == null) {
+                out.printf("%-14s %s%n", name, "(not in baseline)");
+                return;
+            }
+            out.printf(
+                    "%-14s %18s %18s %18s %14s%n",
+                    name,
+                    change(before.p50(), now.p50()),
+                    change(before.p99(), now.p99()),
+                    change(before.p999(), now.p999()),
+                    before.errors() + " -> " + now.errors());
+        });
+    }
+
+    static String change(double before, double now) {
+        if (before == 0) {
+            return "%.2f -> %.2f".formatted(before, now);
+        }
+        return "%.2f (%+.0f%%)".formatted(now, (now - before) / before * 100);
+    }
+
+    private static double millis(long nanos) {
+        return nanos / NANOS_PER_MILLI;
+    }
+}
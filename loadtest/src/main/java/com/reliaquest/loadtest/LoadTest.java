@@ -0,0 +1,100 @@
+package com.reliaquest.loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Boots the mock server and the api (unless {@code --start-apps=false}), drives a fixed-rate mix of
+ * {@code IEmployeeController} operations against the api, and reports latency percentiles per operation. A run's
+ * files land in {@code <output>/<label>}; pass an earlier run's {@code summary.json} as {@code --baseline} to compare.
+ *
+ * @see LoadTestOptions
+ */
+public final class LoadTest {
+
+    private static final int SERVER_PORT = 8112;
+    private static final int SEED_ATTEMPTS = 5;
+
+    private LoadTest() {}
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options = LoadTestOptions.parse(args);
+        Path runDirectory = options.runDirectory();
+        Files.createDirectories(runDirectory);
+
+        AppProcess server = null;
+        AppProcess api = null;
+        try {
+            if (options.startApps()) {
+                // The api's upstream address is fixed, so the server keeps its usual port.
+                server = AppProcess.start(
+                        "server",
+                        options.serverJar(),
+                        SERVER_PORT,
+                        options.serverArgs(),
+                        runDirectory.resolve("server.log"));
+                api = AppProcess.start(
+                        "api",
+                        options.apiJar(),
+                        port(options.apiUrl()),
+                        options.apiArgs(),
+                        runDirectory.resolve("api.log"));
+            }
+            run(options);
+        } finally {
+            if (api != null) {
+                api.close();
+            }
+            if (server != null) {
+                server.close();
+            }
+        }
+    }
+
+    private static void run(LoadTestOptions options) throws IOException, InterruptedException {
+        HttpClient client = LoadGenerator.newClient(options);
+        Workload workload = new Workload(options.apiUrl(), options.requestTimeout());
+        seed(workload, client);
+
+        System.out.printf(
+                "Driving %s at %.0f req/s: %ds warmup, %ds measured (%s)%n",
+                options.apiUrl(),
+                options.rate(),
+                options.warmup().toSeconds(),
+                options.duration().toSeconds(),
+                options.mix());
+        LoadReport report = new LoadReport(options.mix());
+        new LoadGenerator(options, workload, report).run(client);
+
+        LoadReport.Summary summary = report.summarize(options);
+        report.write(summary, options.runDirectory());
+        LoadReport.print(summary, System.out);
+        if (options.baseline() != null) {
+            LoadReport.compare(LoadReport.read(options.baseline()), summary, System.out);
+        }
+        System.out.println("Report written to " + options.runDirectory().toAbsolutePath());
+    }
+
+    /*
+     * The upstream may be rate limiting right after startup; the run still proceeds without a roster, with by-id
+     * lookups of unknown ids.
+     */
+    private static void seed(Workload workload, HttpClient client) throws InterruptedException {
+        for (int attempt = 1; attempt <= SEED_ATTEMPTS; attempt++) {
+            try {
+                System.out.printf("Read %d employees to target%n", workload.seed(client));
+                return;
+            } catch (IOException e) {
+                System.err.printf("Reading the roster failed (attempt %d): %s%n", attempt, e.getMessage());
+                Thread.sleep(1000L * attempt);
+            }
+        }
+    }
+
+    private static int port(URI url) {
+        return url.getPort() > 0 ? url.getPort() : 80;
+    }
+}
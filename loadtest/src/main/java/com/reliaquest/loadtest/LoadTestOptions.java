@@ -0,0 +1,116 @@
+package com.reliaquest.loadtest;
+
+import java.net.URI;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Command-line options of a load test run, given as {@code --name=value}.
+ *
+ * @param rate requests per second, sent on schedule whether or not earlier requests have completed
+ * @param warmup time driven at the full rate before latencies are recorded
+ * @param mix relative weights of the operations, e.g. {@code getAll=30,search=20,create=5}
+ * @param startApps false to drive an api (and server) already running at {@code apiUrl}
+ * @param baseline summary of an earlier run to compare against, if any
+ */
+public record LoadTestOptions(
+        double rate,
+        Duration warmup,
+        Duration duration,
+        RequestMix mix,
+        URI apiUrl,
+        boolean startApps,
+        Path apiJar,
+        Path serverJar,
+        List<String> apiArgs,
+        List<String> serverArgs,
+        Duration requestTimeout,
+        Path output,
+        String label,
+        Path baseline,
+        long seed) {
+
+    static final String DEFAULT_MIX = "getAll=30,search=20,getById=20,highestSalary=10,topTen=10,create=5,delete=5";
+
+    private static final DateTimeFormatter LABEL_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+
+    private static final Set<String> NAMES = Set.of(
+            "rate",
+            "warmup",
+            "duration",
+            "mix",
+            "api-url",
+            "start-apps",
+            "api-jar",
+            "server-jar",
+            "api-args",
+            "server-args",
+            "timeout",
+            "output",
+            "label",
+            "baseline",
+            "seed");
+
+    /**
+     * @throws IllegalArgumentException on an unknown option, a malformed value, or missing jars when starting apps
+     */
+    public static LoadTestOptions parse(String... args) {
+        Map<String, String> values = new HashMap<>();
+        for (String arg : args) {
+            int equals = arg.indexOf('=');
+            if (!arg.startsWith("--") || equals < 0) {
+                throw new IllegalArgumentException("Expected --name=value but got " + arg);
+            }
+            String name = arg.substring(2, equals);
+            if (!NAMES.contains(name)) {
+                throw new IllegalArgumentException("Unknown option --" + name + "; expected one of " + NAMES);
+            }
+            values.put(name, arg.substring(equals + 1));
+        }
+
+        boolean startApps = Boolean.parseBoolean(values.getOrDefault("start-apps", "true"));
+        Path apiJar = path(values.get("api-jar"));
+        Path serverJar = path(values.get("server-jar"));
+        if (startApps && (apiJar == null || serverJar == null)) {
+            throw new IllegalArgumentException("--api-jar and --server-jar are required unless --start-apps=false");
+        }
+        double rate = Double.parseDouble(values.getOrDefault("rate", "50"));
+        if (rate <= 0) {
+            throw new IllegalArgumentException("--rate must be positive");
+        }
+        return new LoadTestOptions(
+                rate,
+                Duration.ofSeconds(Long.parseLong(values.getOrDefault("warmup", "10"))),
+                Duration.ofSeconds(Long.parseLong(values.getOrDefault("duration", "60"))),
+                RequestMix.parse(values.getOrDefault("mix", DEFAULT_MIX)),
+                URI.create(values.getOrDefault("api-url", "http://localhost:8111")),
+                startApps,
+                apiJar,
+                serverJar,
+                words(values.get("api-args")),
+                words(values.get("server-args")),
+                Duration.ofMillis(Long.parseLong(values.getOrDefault("timeout", "30000"))),
+                Path.of(values.getOrDefault("output", "build/loadtest")),
+                values.getOrDefault("label", LocalDateTime.now().format(LABEL_FORMAT)),
+                path(values.get("baseline")),
+                Long.parseLong(values.getOrDefault("seed", "42")));
+    }
+
+    public Path runDirectory() {
+        return output.resolve(label);
+    }
+
+    private static Path path(String value) {
+        return value == null || value.isBlank() ? null : Path.of(value);
+    }
+
+    private static List<String> words(String value) {
+        return value == null || value.isBlank() ? List.of() : List.of(value.trim().split("\\s+"));
+    }
+}
@@ -0,0 +1,80 @@
+package com.reliaquest.loadtest;
+
+import java.net.http.HttpRequest;
+import java.util.Arrays;
+import java.util.random.RandomGenerator;
+
+/**
+ * The {@code IEmployeeController} operations a load test can drive.
+ */
+public enum Operation {
+    GET_ALL("getAll") {
+        @Override
+        HttpRequest request(Workload workload, RandomGenerator random) {
+            return workload.get("/employee");
+        }
+    },
+    SEARCH("search") {
+        @Override
+        HttpRequest request(Workload workload, RandomGenerator random) {
+            return workload.get("/employee/search/" + workload.nameFragment(random));
+        }
+    },
+    GET_BY_ID("getById") {
+        @Override
+        HttpRequest request(Workload workload, RandomGenerator random) {
+            return workload.get("/employee/" + workload.knownId(random));
+        }
+    },
+    HIGHEST_SALARY("highestSalary") {
+        @Override
+        HttpRequest request(Workload workload, RandomGenerator random) {
+            return workload.get("/employee/highestSalary");
+        }
+    },
+    TOP_TEN("topTen") {
+        @Override
+        HttpRequest request(Workload workload, RandomGenerator random) {
+            return workload.get("/employee/topTenHighestEarningEmployeeNames");
+        }
+    },
+    CREATE("create") {
+        @Override
+        HttpRequest request(Workload workload, RandomGenerator random) {
+            return workload.post("/employee", workload.newEmployee(random));
+        }
+    },
+    /**
+     * Deletes an employee created earlier in the run, so the roster is not drained; skipped while there is none.
+     */
+    DELETE("delete") {
+        @Override
+        HttpRequest request(Workload workload, RandomGenerator random) {
+            String id = workload.takeCreatedId();
+            return id == null ? null : workload.delete("/employee/" + id);
+        }
+    };
+
+    private final String label;
+
+    Operation(String label) {
+        this.label = label;
+    }
+
+    public String label() {
+        return label;
+    }
+
+    public static Operation named(String label) {
+        return Arrays.stream(values())
+                .filter(operation -> operation.label.equalsIgnoreCase(label))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Unknown operation " + label + "; expected one of "
+                        + Arrays.stream(values()).map(Operation::label).toList()));
+    }
+
+    /**
+     * @return the request to send, or null if the operation has nothing to act on yet
+     */
+    abstract HttpRequest request(Workload workload, RandomGenerator random);
+}
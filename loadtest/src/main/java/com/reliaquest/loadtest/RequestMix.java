@@ -0,0 +1,74 @@
+package com.reliaquest.loadtest;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.random.RandomGenerator;
+
+/**
+ * Weighted choice among {@link Operation}s.
+ */
+public final class RequestMix {
+
+    private final Operation[] operations;
+    private final double[] cumulative;
+
+    private RequestMix(Map<Operation, Double> weights) {
+        this.operations = weights.keySet().toArray(Operation[]::new);
+        this.cumulative = new double[operations.length];
+        double total = weights.values().stream().mapToDouble(Double::doubleValue).sum();
+        double sum = 0;
+        for (int i = 0; i < operations.length; i++) {
+            sum += weights.get(operations[i]) / total;
+            cumulative[i] = sum;
+        }
+    }
+
+    /**
+     * @param spec comma-separated {@code operation=weight} pairs; operations left out get no traffic
+     */
+    public static RequestMix parse(String spec) {
+        Map<Operation, Double> weights = new EnumMap<>(Operation.class);
+        for (String pair : spec.split(",")) {
+            String[] parts = pair.trim().split("=");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Expected operation=weight but got " + pair);
+            }
+            double weight = Double.parseDouble(parts[1].trim());
+            if (weight < 0) {
+                throw new IllegalArgumentException("Negative weight for " + parts[0]);
+            }
+            if (weight > 0) {
+                weights.merge(Operation.named(parts[0].trim()), weight, Double::sum);
+            }
+        }
+        if (weights.isEmpty()) {
+            throw new IllegalArgumentException("The request mix gives no operation any weight: " + spec);
+        }
+        return new RequestMix(weights);
+    }
+
+    public Operation next(RandomGenerator random) {
+        double point = random.nextDouble();
+        for (int i = 0; i < cumulative.length - 1; i++) {
+            if (point < cumulative[i]) {
+                return operations[i];
+            }
+        }
+        return operations[operations.length - 1];
+    }
+
+    public Operation[] operations() {
+        return operations.clone();
+    }
+
+    @Override
+    public String toString() {
+        StringJoiner shares = new StringJoiner(", ");
+        for (int i = 0; i < operations.length; i++) {
+            double share = cumulative[i] - (i == 0 ? 0 : cumulative[i - 1]);
+            shares.add("%s=%.0f%%".formatted(operations[i].label(), share * 100));
+        }
+        return shares.toString();
+    }
+}
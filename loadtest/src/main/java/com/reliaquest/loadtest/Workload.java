@@ -0,0 +1,120 @@
+package com.reliaquest.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.random.RandomGenerator;
+
+/**
+ * Request targets for a run: ids and names of the roster read at the start, plus employees created during the run
+ * (which deletes consume).
+ */
+final class Workload {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final String[] TITLES = {"Engineer", "Analyst", "Manager", "Designer", "Support Specialist"};
+
+    private final URI apiUrl;
+    private final Duration requestTimeout;
+    private final List<String> ids = new ArrayList<>();
+    private final List<String> names = new ArrayList<>();
+    private final ConcurrentLinkedQueue<String> createdIds = new ConcurrentLinkedQueue<>();
+
+    Workload(URI apiUrl, Duration requestTimeout) {
+        this.apiUrl = apiUrl;
+        this.requestTimeout = requestTimeout;
+    }
+
+    /**
+     * Reads the roster the run picks ids and names from.
+     *
+     * @return the number of employees read
+     */
+    int seed(HttpClient client) throws IOException, InterruptedException {
+        HttpResponse<String> response = client.send(get("/employee"), HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 200) {
+            throw new IOException("GET /employee answered " + response.statusCode());
+        }
+        for (JsonNode employee : MAPPER.readTree(response.body())) {
+            ids.add(employee.path("id").asText());
+            names.add(employee.path("employee_name").asText());
+        }
+        return ids.size();
+    }
+
+    HttpRequest get(String path) {
+        return request(path).GET().build();
+    }
+
+    HttpRequest post(String path, Object body) {
+        try {
+            return request(path)
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofByteArray(MAPPER.writeValueAsBytes(body)))
+                    .build();
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    HttpRequest delete(String path) {
+        return request(path).DELETE().build();
+    }
+
+    String knownId(RandomGenerator random) {
+        // A random id before the roster is known is answered 404, which is still a measured round trip.
+        return ids.isEmpty() ? UUID.randomUUID().toString() : ids.get(random.nextInt(ids.size()));
+    }
+
+    /**
+     * @return three letters from a roster name, so searches match a realistic share of employees
+     */
+    String nameFragment(RandomGenerator random) {
+        String name = names.isEmpty() ? "load" : names.get(random.nextInt(names.size()));
+        int start = name.length() <= 3 ? 0 : random.nextInt(name.length() - 3);
+        String fragment = name.substring(start, Math.min(name.length(), start + 3));
+        return URLEncoder.encode(fragment, StandardCharsets.UTF_8).replace("+", "%20");
+    }
+
+    Map<String, Object> newEmployee(RandomGenerator random) {
+        // Unique names keep duplicate detection from rejecting the creates.
+        return Map.of(
+                "employee_name", "Load Test " + UUID.randomUUID().toString().substring(0, 8),
+                "employee_salary", 40_000 + random.nextInt(160_000),
+                "employee_age", 18 + random.nextInt(50),
+                "employee_title", TITLES[random.nextInt(TITLES.length)]);
+    }
+
+    String takeCreatedId() {
+        return createdIds.poll();
+    }
+
+    void onResponse(Operation operation, HttpResponse<String> response) {
+        if (operation == Operation.CREATE && response.statusCode() == 200) {
+            try {
+                String id = MAPPER.readTree(response.body()).path("id").asText(null);
+                if (id != null) {
+                    createdIds.add(id);
+                }
+            } catch (IOException e) {
+                // Not a created employee; nothing for deletes to use.
+            }
+        }
+    }
+
+    private HttpRequest.Builder request(String path) {
+        return HttpRequest.newBuilder(apiUrl.resolve(path)).timeout(requestTimeout);
+    }
+}
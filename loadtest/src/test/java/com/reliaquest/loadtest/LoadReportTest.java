@@ -0,0 +1,54 @@
+package com.reliaquest.loadtest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class LoadReportTest {
+
+    @TempDir
+    Path directory;
+
+    private final LoadTestOptions options =
+            LoadTestOptions.parse("--start-apps=false", "--mix=getAll=1,delete=1", "--duration=2", "--label=run");
+
+    @Test
+    void summarize_shouldCountErrorsAndSkips() {
+        LoadReport report = new LoadReport(options.mix());
+        report.record(Operation.GET_ALL, TimeUnit.MILLISECONDS.toNanos(10), "200");
+        report.record(Operation.GET_ALL, TimeUnit.MILLISECONDS.toNanos(30), "500");
+        report.record(Operation.GET_ALL, TimeUnit.MILLISECONDS.toNanos(20), "HttpTimeoutException");
+        report.recordSkipped(Operation.DELETE);
+
+        LoadReport.Summary summary = report.summarize(options);
+
+        LoadReport.OperationSummary getAll = summary.operations().get("getAll");
+        assertThat(getAll.count()).isEqualTo(3);
+        assertThat(getAll.errors()).isEqualTo(2);
+        assertThat(getAll.throughput()).isEqualTo(1.5);
+        assertThat(getAll.max()).isCloseTo(30, within(0.1));
+        assertThat(summary.operations().get("delete").skipped()).isEqualTo(1);
+    }
+
+    @Test
+    void write_shouldRoundTripSummaryForLaterComparison() throws Exception {
+        LoadReport report = new LoadReport(options.mix());
+        report.record(Operation.GET_ALL, TimeUnit.MILLISECONDS.toNanos(10), "200");
+        LoadReport.Summary summary = report.summarize(options);
+
+        report.write(summary, directory);
+
+        assertThat(LoadReport.read(directory.resolve("summary.json"))).isEqualTo(summary);
+        assertThat(directory.resolve("getAll.hgrm")).exists();
+    }
+
+    @Test
+    void change_shouldShowRelativeDifference() {
+        assertThat(LoadReport.change(10, 12)).isEqualTo("12.00 (+20%)");
+        assertThat(LoadReport.change(0, 1)).isEqualTo("0.00 -> 1.00");
+    }
+}
@@ -0,0 +1,47 @@
+package com.reliaquest.loadtest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+import org.junit.jupiter.api.Test;
+
+class RequestMixTest {
+
+    @Test
+    void next_shouldFollowWeights() {
+        RequestMix mix = RequestMix.parse("getAll=3, search=1");
+        SplittableRandom random = new SplittableRandom(1);
+        Map<Operation, Integer> counts = new EnumMap<>(Operation.class);
+
+        for (int i = 0; i < 40_000; i++) {
+            counts.merge(mix.next(random), 1, Integer::sum);
+        }
+
+        assertThat(counts).containsOnlyKeys(Operation.GET_ALL, Operation.SEARCH);
+        assertThat(counts.get(Operation.GET_ALL) / 40_000.0).isCloseTo(0.75, within(0.02));
+    }
+
+    @Test
+    void parse_shouldLeaveOutZeroWeights() {
+        RequestMix mix = RequestMix.parse("topTen=1,create=0");
+
+        assertThat(mix.operations()).containsExactly(Operation.TOP_TEN);
+        assertThat(mix).hasToString("topTen=100%");
+    }
+
+    @Test
+    void parse_shouldRejectUnknownOperation() {
+        assertThatThrownBy(() -> RequestMix.parse("getAll=1,update=1"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("update");
+    }
+
+    @Test
+    void parse_shouldRejectMixWithoutTraffic() {
+        assertThatThrownBy(() -> RequestMix.parse("getAll=0")).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,130 @@
+package com.reliaquest.server.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.server.model.CreateMockEmployeeInput;
+import com.reliaquest.server.model.DeleteMockEmployeeInput;
+import com.reliaquest.server.model.MockEmployee;
+import java.util.ArrayList;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import net.datafaker.Faker;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Read and write throughput of the roster under a mixed concurrent workload: readers serialize the whole roster or
+ * look employees up by id while writers create and delete employees. Compare the {@code reads} group (no writer)
+ * with {@code mixed} to see what writes cost readers.
+ */
+@State(Scope.Group)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MockEmployeeServiceBenchmark {
+
+    @Param({"20", "1000"})
+    private int size;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private MockEmployeeService service;
+    private UUID[] ids;
+
+    @Setup
+    public void setUp() {
+        final var faker = new Faker(Locale.ROOT);
+        final var employees = new ArrayList<MockEmployee>(size);
+        for (int i = 0; i < size; i++) {
+            employees.add(MockEmployee.builder()
+                    .id(UUID.randomUUID())
+                    .name(faker.name().fullName())
+                    .salary(faker.number().numberBetween(30000, 500000))
+                    .age(faker.number().numberBetween(16, 70))
+                    .title(faker.job().title())
+                    .email(faker.internet().emailAddress())
+                    .build());
+        }
+        service = new MockEmployeeService(faker, employees, new EmployeeChangeLog(1024));
+        ids = employees.stream().map(MockEmployee::getId).toArray(UUID[]::new);
+    }
+
+    @Benchmark
+    @Group("reads")
+    @GroupThreads(3)
+    public byte[] readsList() throws JsonProcessingException {
+        return serializeRoster();
+    }
+
+    @Benchmark
+    @Group("reads")
+    @GroupThreads(3)
+    public MockEmployee readsById() {
+        return findRandom();
+    }
+
+    @Benchmark
+    @Group("mixed")
+    @GroupThreads(3)
+    public byte[] mixedList() throws JsonProcessingException {
+        return serializeRoster();
+    }
+
+    @Benchmark
+    @Group("mixed")
+    @GroupThreads(3)
+    public MockEmployee mixedById() {
+        return findRandom();
+    }
+
+    /*
+     * Alternates creating and deleting one employee, so the roster size stays put.
+     */
+    @Benchmark
+    @Group("mixed")
+    @GroupThreads(2)
+    public boolean mixedWrite(Writer writer) {
+        if (writer.pending == null) {
+            final var input = new CreateMockEmployeeInput();
+            input.setName("Benchmark " + Thread.currentThread().getId() + " " + writer.created++);
+            input.setSalary(50000);
+            input.setAge(30);
+            input.setTitle("Engineer");
+            writer.pending = service.create(input).getName();
+            return true;
+        }
+        final var input = new DeleteMockEmployeeInput();
+        input.setName(writer.pending);
+        writer.pending = null;
+        return service.delete(input);
+    }
+
+    private byte[] serializeRoster() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(service.getMockEmployees());
+    }
+
+    private MockEmployee findRandom() {
+        return service.findById(ids[ThreadLocalRandom.current().nextInt(ids.length)]).orElseThrow();
+    }
+
+    @State(Scope.Thread)
+    public static class Writer {
+
+        private String pending;
+        private long created;
+    }
+}
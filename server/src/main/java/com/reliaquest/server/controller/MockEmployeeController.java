@@ -2,43 +2,159 @@ package com.reliaquest.server.controller;
 
 import com.reliaquest.server.model.CreateMockEmployeeInput;
 import com.reliaquest.server.model.DeleteMockEmployeeInput;
+import com.reliaquest.server.model.EmployeeChanges;
+import com.reliaquest.server.model.EmployeeLookup;
+import com.reliaquest.server.model.EmployeeLookupInput;
 import com.reliaquest.server.model.MockEmployee;
 import com.reliaquest.server.model.Response;
+import com.reliaquest.server.service.EmployeeChangeLog;
 import com.reliaquest.server.service.MockEmployeeService;
+import com.reliaquest.server.web.EmployeeEventStream;
+import com.reliaquest.server.web.RosterETag;
+import com.reliaquest.server.web.RosterResponseCache;
 import jakarta.validation.Valid;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @RestController
 @RequestMapping("/api/v1/employee")
 @RequiredArgsConstructor
 public class MockEmployeeController {
 
+    private static final String GZIP = "gzip";
+    private static final long MAX_CHANGES_WAIT_MS = 30_000;
+
     private final MockEmployeeService mockEmployeeService;
+    private final EmployeeChangeLog changeLog;
+    private final EmployeeEventStream eventStream;
+    private final RosterResponseCache rosterResponseCache;
 
+    /*
+     * Body is served pre-serialized for the current roster version. When the client accepts gzip the pre-compressed
+     * bytes are sent with Content-Encoding set, which also keeps the container from compressing them again.
+     */
     @GetMapping()
-    public Response<List<MockEmployee>> getEmployees() {
-        return Response.handledWith(mockEmployeeService.getMockEmployees());
+    public ResponseEntity<byte[]> getEmployees(
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        final long version = mockEmployeeService.getVersion();
+        final boolean gzip = acceptsGzip(acceptEncoding);
+        if (RosterETag.matches(ifNoneMatch, version)) {
+            // Tagged as the representation a 200 would have carried for this Accept-Encoding.
+            return notModified(gzip ? RosterETag.gzipOf(version) : RosterETag.of(version))
+                    .varyBy(HttpHeaders.ACCEPT_ENCODING)
+                    .build();
+        }
+
+        final var roster = rosterResponseCache.get();
+        final var response =
+                ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).varyBy(HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            return response.eTag(roster.gzipETag())
+                    .header(HttpHeaders.CONTENT_ENCODING, GZIP)
+                    .body(roster.gzip());
+        }
+        return response.eTag(roster.eTag()).body(roster.json());
+    }
+
+    /*
+     * With waitMs > 0 the request is parked (without holding a container thread) until a change after {@code since} is
+     * recorded or the wait elapses, in which case an empty batch is returned.
+     */
+    @GetMapping("/changes")
+    public DeferredResult<Response<EmployeeChanges>> getChanges(
+            @RequestParam("since") long since, @RequestParam(value = "waitMs", defaultValue = "0") long waitMs) {
+        final long timeout = Math.min(Math.max(waitMs, 0), MAX_CHANGES_WAIT_MS);
+        final var result = new DeferredResult<Response<EmployeeChanges>>(timeout == 0 ? null : timeout);
+        if (timeout == 0 || changeLog.getLatestSequence() > since) {
+            result.setResult(Response.handledWith(changeLog.changesSince(since)));
+            return result;
+        }
+
+        final Runnable listener = () -> result.setResult(Response.handledWith(changeLog.changesSince(since)));
+        result.onTimeout(listener);
+        result.onCompletion(() -> changeLog.removeListener(listener));
+        changeLog.addListener(listener);
+        if (changeLog.getLatestSequence() > since) {
+            // A change slipped in before the listener was registered.
+            listener.run();
+        }
+        return result;
     }
 
+    @GetMapping(path = "/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamEvents(@RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        return eventStream.subscribe(lastEventId);
+    }
+
+    /*
+     * Employees are never updated in place, so the roster version also validates any single employee representation
+     * a client obtained at that version. The employee is read from the same roster snapshot its ETag names.
+     */
     @GetMapping("/{id}")
-    public ResponseEntity<Response<MockEmployee>> getEmployee(@PathVariable("id") UUID uuid) {
-        return mockEmployeeService
-                .findById(uuid)
-                .map(employee -> ResponseEntity.ok(Response.handledWith(employee)))
+    public ResponseEntity<Response<MockEmployee>> getEmployee(
+            @PathVariable("id") UUID uuid,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        final var roster = mockEmployeeService.getRoster();
+        final long version = roster.version();
+        if (RosterETag.matches(ifNoneMatch, version)) {
+            return notModified(RosterETag.of(version)).build();
+        }
+
+        return roster.findById(uuid)
+                .map(employee -> ResponseEntity.ok().eTag(RosterETag.of(version)).body(Response.handledWith(employee)))
                 .orElseGet(() -> ResponseEntity.status(HttpStatus.NOT_FOUND).body(Response.handled()));
     }
 
+    /*
+     * Multi-get: resolves a batch of ids in one request (against one roster snapshot), reporting each id's outcome in
+     * request order. Counts as a single request against the rate limit.
+     */
+    @PostMapping("/lookup")
+    public ResponseEntity<Response<List<EmployeeLookup>>> lookupEmployees(
+            @Valid @RequestBody EmployeeLookupInput input) {
+        final var roster = mockEmployeeService.getRoster();
+        final var uuids = new HashMap<String, UUID>();
+        for (final var id : input.getIds()) {
+            parseUuid(id).ifPresent(uuid -> uuids.put(id, uuid));
+        }
+        final var found = roster.findAllById(new HashSet<>(uuids.values()));
+
+        final var lookups = input.getIds().stream()
+                .map(id -> {
+                    final var uuid = uuids.get(id);
+                    if (uuid == null) {
+                        return new EmployeeLookup(id, EmployeeLookup.Status.INVALID_ID, null);
+                    }
+                    final var employee = found.get(uuid);
+                    return employee == null
+                            ? new EmployeeLookup(id, EmployeeLookup.Status.NOT_FOUND, null)
+                            : new EmployeeLookup(id, EmployeeLookup.Status.FOUND, employee);
+                })
+                .toList();
+        return ResponseEntity.ok().eTag(RosterETag.of(roster.version())).body(Response.handledWith(lookups));
+    }
+
     @PostMapping()
     public Response<MockEmployee> createEmployee(@Valid @RequestBody CreateMockEmployeeInput input) {
         return Response.handledWith(mockEmployeeService.create(input));
@@ -48,4 +164,29 @@ public class MockEmployeeController {
     public Response<Boolean> deleteEmployee(@Valid @RequestBody DeleteMockEmployeeInput input) {
         return Response.handledWith(mockEmployeeService.delete(input));
     }
+
+    private static ResponseEntity.BodyBuilder notModified(String eTag) {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag);
+    }
+
+    private static Optional<UUID> parseUuid(String id) {
+        if (id == null) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(UUID.fromString(id));
+        } catch (IllegalArgumentException ex) {
+            return Optional.empty();
+        }
+    }
+
+    private static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        return Arrays.stream(acceptEncoding.split(","))
+                .map(String::trim)
+                .anyMatch(coding -> coding.regionMatches(true, 0, GZIP, 0, GZIP.length())
+                        && !coding.replace(" ", "").matches("(?i)gzip;q=0(\\.0*)?"));
+    }
 }
@@ -0,0 +1,9 @@
+package com.reliaquest.server.model;
+
+public record EmployeeChange(long sequence, Type type, MockEmployee employee) {
+
+    public enum Type {
+        CREATED,
+        DELETED
+    }
+}
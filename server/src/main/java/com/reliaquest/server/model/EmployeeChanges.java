@@ -0,0 +1,11 @@
+package com.reliaquest.server.model;
+
+import java.util.List;
+
+/**
+ * Changes recorded after {@code since}, up to and including {@code latest}.
+ *
+ * @param epoch identifies this server run; sequences from another run are meaningless
+ * @param reset true if changes after {@code since} are no longer retained and the caller must reload the full roster
+ */
+public record EmployeeChanges(String epoch, long since, long latest, boolean reset, List<EmployeeChange> changes) {}
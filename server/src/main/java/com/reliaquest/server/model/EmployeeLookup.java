@@ -0,0 +1,16 @@
+package com.reliaquest.server.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * Outcome of looking up one id in a batch; {@code employee} is only present when {@code status} is FOUND.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record EmployeeLookup(String id, Status status, MockEmployee employee) {
+
+    public enum Status {
+        FOUND,
+        NOT_FOUND,
+        INVALID_ID
+    }
+}
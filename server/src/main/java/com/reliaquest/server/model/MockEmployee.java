@@ -3,23 +3,25 @@ package com.reliaquest.server.model;
 import com.fasterxml.jackson.databind.PropertyNamingStrategies;
 import com.fasterxml.jackson.databind.annotation.JsonNaming;
 import java.util.UUID;
-import lombok.AllArgsConstructor;
 import lombok.Builder;
-import lombok.Data;
 import lombok.NonNull;
+import lombok.Value;
 
-@Data
-@AllArgsConstructor
+/**
+ * Immutable, so a roster snapshot can be handed to Jackson while writers publish the next one; derive changed copies
+ * with {@link #toBuilder()}.
+ */
+@Value
 @Builder(toBuilder = true)
 @JsonNaming(MockEmployee.PrefixNamingStrategy.class)
 public class MockEmployee {
 
-    private UUID id;
-    private String name;
-    private Integer salary;
-    private Integer age;
-    private String title;
-    private String email;
+    UUID id;
+    String name;
+    Integer salary;
+    Integer age;
+    String title;
+    String email;
 
     public static MockEmployee from(@NonNull String email, @NonNull CreateMockEmployeeInput input) {
         return MockEmployee.builder()
@@ -0,0 +1,25 @@
+package com.reliaquest.server.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.reliaquest.server.RosterLookup")
+@Label("Roster Lookup")
+@Category({"Mock Employee API", "Roster"})
+@Description("A batch of ids resolved against one roster version")
+@StackTrace(false)
+public final class RosterLookupEvent extends Event {
+
+    @Label("Requested")
+    public int requested;
+
+    @Label("Found")
+    public int found;
+
+    @Label("Version")
+    public long version;
+}
@@ -0,0 +1,28 @@
+package com.reliaquest.server.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.reliaquest.server.RosterSerialization")
+@Label("Roster Serialization")
+@Category({"Mock Employee API", "Web"})
+@Description("The roster response rendered to JSON and compressed for caching")
+@StackTrace(false)
+public final class RosterSerializationEvent extends Event {
+
+    @Label("Version")
+    public long version;
+
+    @Label("JSON Size")
+    @DataAmount
+    public long jsonBytes;
+
+    @Label("Gzip Size")
+    @DataAmount
+    public long gzipBytes;
+}
@@ -0,0 +1,33 @@
+package com.reliaquest.server.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * A create or delete, from waiting for the write lock until the new roster version is published.
+ */
+@Name("com.reliaquest.server.RosterWrite")
+@Label("Roster Write")
+@Category({"Mock Employee API", "Roster"})
+@Description("A change applied to the mock employee roster")
+@StackTrace(false)
+public final class RosterWriteEvent extends Event {
+
+    @Label("Type")
+    public String type;
+
+    @Label("Applied")
+    @Description("False if a delete matched no employee")
+    public boolean applied;
+
+    @Label("Version")
+    @Description("Roster version published by the write")
+    public long version;
+
+    @Label("Roster Size")
+    public int rosterSize;
+}
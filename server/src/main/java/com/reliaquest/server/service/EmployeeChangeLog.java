@@ -0,0 +1,92 @@
+package com.reliaquest.server.service;
+
+import com.reliaquest.server.model.EmployeeChange;
+import com.reliaquest.server.model.EmployeeChanges;
+import com.reliaquest.server.model.MockEmployee;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.random.RandomGenerator;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Bounded, sequence-numbered log of roster changes. The latest sequence doubles as the roster version.
+ */
+@Slf4j
+@Component
+public class EmployeeChangeLog {
+
+    /*
+     * Identifies this server run; every run starts from sequence 0 with a freshly generated roster.
+     */
+    public static final String EPOCH = Long.toString(RandomGenerator.getDefault().nextLong() & Long.MAX_VALUE, 36);
+
+    private final int capacity;
+    private final Deque<EmployeeChange> changes;
+    private final Set<Runnable> listeners = ConcurrentHashMap.newKeySet();
+
+    private volatile long latestSequence;
+
+    public EmployeeChangeLog(@Value("${mock.changes.capacity:1024}") int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("mock.changes.capacity must be at least 1, got " + capacity);
+        }
+        this.capacity = capacity;
+        this.changes = new ArrayDeque<>(capacity);
+    }
+
+    public long getLatestSequence() {
+        return latestSequence;
+    }
+
+    /**
+     * Appends a change without running the listeners; callers {@link #notifyListeners()} once what the change
+     * produced is published, outside any lock of their own.
+     */
+    public EmployeeChange record(@NonNull EmployeeChange.Type type, @NonNull MockEmployee employee) {
+        final EmployeeChange change;
+        synchronized (changes) {
+            change = new EmployeeChange(latestSequence + 1, type, employee);
+            if (changes.size() == capacity) {
+                changes.removeFirst();
+            }
+            changes.addLast(change);
+            latestSequence = change.sequence();
+        }
+        log.debug("Recorded change: {}", change);
+        return change;
+    }
+
+    public void notifyListeners() {
+        listeners.forEach(Runnable::run);
+    }
+
+    public EmployeeChanges changesSince(long since) {
+        synchronized (changes) {
+            final long oldestRetained = changes.isEmpty() ? latestSequence + 1 : changes.getFirst().sequence();
+            if (since > latestSequence || since < oldestRetained - 1) {
+                return new EmployeeChanges(EPOCH, since, latestSequence, true, List.of());
+            }
+            final var result = changes.stream()
+                    .filter(change -> change.sequence() > since)
+                    .toList();
+            return new EmployeeChanges(EPOCH, since, latestSequence, false, result);
+        }
+    }
+
+    /**
+     * Runs the listener after every subsequently recorded change, until removed.
+     */
+    public void addListener(@NonNull Runnable listener) {
+        listeners.add(listener);
+    }
+
+    public void removeListener(@NonNull Runnable listener) {
+        listeners.remove(listener);
+    }
+}
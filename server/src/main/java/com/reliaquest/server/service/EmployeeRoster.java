@@ -0,0 +1,70 @@
+package com.reliaquest.server.service;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * One immutable version of the roster. Writers derive the next version from the current one and publish it whole, so
+ * a reader holding a roster sees it complete and unchanging for as long as it keeps it.
+ *
+ * @param version sequence of the latest change included, as recorded in the {@link EmployeeChangeLog}
+ * @param employees the roster in insertion order
+ * @param byId the same employees indexed by id; employees without one are left out
+ */
+public record EmployeeRoster(long version, List<MockEmployee> employees, Map<UUID, MockEmployee> byId) {
+
+    public static EmployeeRoster of(long version, List<MockEmployee> employees) {
+        final var byId = new HashMap<UUID, MockEmployee>();
+        for (final var mockEmployee : employees) {
+            if (mockEmployee.getId() != null) {
+                byId.putIfAbsent(mockEmployee.getId(), mockEmployee);
+            }
+        }
+        return new EmployeeRoster(version, List.copyOf(employees), Map.copyOf(byId));
+    }
+
+    public Optional<MockEmployee> findById(UUID uuid) {
+        return Optional.ofNullable(byId.get(uuid));
+    }
+
+    public Map<UUID, MockEmployee> findAllById(Set<UUID> uuids) {
+        final var found = new HashMap<UUID, MockEmployee>();
+        for (final var uuid : uuids) {
+            final var mockEmployee = byId.get(uuid);
+            if (mockEmployee != null) {
+                found.put(uuid, mockEmployee);
+            }
+        }
+        return found;
+    }
+
+    EmployeeRoster with(MockEmployee added, long nextVersion) {
+        final var employees = new ArrayList<MockEmployee>(this.employees.size() + 1);
+        employees.addAll(this.employees);
+        employees.add(added);
+        return of(nextVersion, employees);
+    }
+
+    EmployeeRoster without(MockEmployee removed, long nextVersion) {
+        final var employees = new ArrayList<>(this.employees);
+        employees.remove(removed);
+        return of(nextVersion, employees);
+    }
+
+    /*
+     * The first employee with that name, ignoring case, as delete requests address employees by name.
+     */
+    Optional<MockEmployee> findByName(String name) {
+        return employees.stream()
+                .filter(employee -> Objects.nonNull(employee.getName())
+                        && employee.getName().equalsIgnoreCase(name))
+                .findFirst();
+    }
+}
@@ -3,56 +3,127 @@ package com.reliaquest.server.service;
 import com.reliaquest.server.config.ServerConfiguration;
 import com.reliaquest.server.model.CreateMockEmployeeInput;
 import com.reliaquest.server.model.DeleteMockEmployeeInput;
+import com.reliaquest.server.model.EmployeeChange;
 import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.profiling.RosterLookupEvent;
+import com.reliaquest.server.profiling.RosterWriteEvent;
 import java.util.List;
-import java.util.Objects;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
-import lombok.Getter;
+import java.util.concurrent.atomic.AtomicReference;
 import lombok.NonNull;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import net.datafaker.Faker;
 import org.springframework.stereotype.Service;
 
+/**
+ * Serves reads from the published {@link EmployeeRoster}, so listing or looking up employees never waits for writers
+ * and never sees a half-applied change. Creates and deletes are serialized, each publishing a new roster version.
+ */
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class MockEmployeeService {
 
     private final Faker faker;
+    private final EmployeeChangeLog changeLog;
+    private final AtomicReference<EmployeeRoster> roster;
+    private final Object writeLock = new Object();
 
-    @Getter
-    private final List<MockEmployee> mockEmployees;
+    public MockEmployeeService(Faker faker, List<MockEmployee> mockEmployees, EmployeeChangeLog changeLog) {
+        this.faker = faker;
+        this.changeLog = changeLog;
+        this.roster = new AtomicReference<>(EmployeeRoster.of(changeLog.getLatestSequence(), mockEmployees));
+    }
+
+    /*
+     * The current roster; callers reading several things from it (its version and its employees, say) see them
+     * consistently.
+     */
+    public EmployeeRoster getRoster() {
+        return roster.get();
+    }
+
+    public List<MockEmployee> getMockEmployees() {
+        return roster.get().employees();
+    }
+
+    /*
+     * Advanced on every successful create/delete so that derived representations of the roster can be cached per
+     * version. It is the sequence of the latest change published to readers.
+     */
+    public long getVersion() {
+        return roster.get().version();
+    }
 
     public Optional<MockEmployee> findById(@NonNull UUID uuid) {
-        return mockEmployees.stream()
-                .filter(mockEmployee -> Objects.nonNull(mockEmployee.getId())
-                        && mockEmployee.getId().equals(uuid))
-                .findFirst();
+        return roster.get().findById(uuid);
+    }
+
+    public Map<UUID, MockEmployee> findAllById(@NonNull Set<UUID> uuids) {
+        final var event = new RosterLookupEvent();
+        event.begin();
+        final var current = roster.get();
+        final var found = current.findAllById(uuids);
+        event.requested = uuids.size();
+        event.found = found.size();
+        event.version = current.version();
+        event.commit();
+        return found;
     }
 
+    /*
+     * The change is recorded before the roster including it is published, so the published version never runs
+     * ahead of the change feed. Change listeners run after the write lock is released, so a slow one cannot hold up
+     * other writers.
+     */
     public MockEmployee create(@NonNull CreateMockEmployeeInput input) {
         final var mockEmployee = MockEmployee.from(
                 ServerConfiguration.EMAIL_TEMPLATE.formatted(
                         faker.twitter().userName().toLowerCase()),
                 input);
-        mockEmployees.add(mockEmployee);
+        final var event = new RosterWriteEvent();
+        event.begin();
+        synchronized (writeLock) {
+            final var change = changeLog.record(EmployeeChange.Type.CREATED, mockEmployee);
+            final var next = roster.get().with(mockEmployee, change.sequence());
+            roster.set(next);
+            commit(event, change.type(), true, next);
+        }
+        changeLog.notifyListeners();
         log.debug("Added employee: {}", mockEmployee);
         return mockEmployee;
     }
 
     public boolean delete(@NonNull DeleteMockEmployeeInput input) {
-        final var mockEmployee = mockEmployees.stream()
-                .filter(employee -> Objects.nonNull(employee.getName())
-                        && employee.getName().equalsIgnoreCase(input.getName()))
-                .findFirst();
-        if (mockEmployee.isPresent()) {
-            mockEmployees.remove(mockEmployee.get());
-            log.debug("Removed employee: {}", mockEmployee.get());
-            return true;
+        final var event = new RosterWriteEvent();
+        event.begin();
+        final MockEmployee mockEmployee;
+        synchronized (writeLock) {
+            final var current = roster.get();
+            final var match = current.findByName(input.getName());
+            if (match.isEmpty()) {
+                commit(event, EmployeeChange.Type.DELETED, false, current);
+                return false;
+            }
+            mockEmployee = match.get();
+            final var change = changeLog.record(EmployeeChange.Type.DELETED, mockEmployee);
+            final var next = current.without(mockEmployee, change.sequence());
+            roster.set(next);
+            commit(event, change.type(), true, next);
         }
+        changeLog.notifyListeners();
+        log.debug("Removed employee: {}", mockEmployee);
+        return true;
+    }
 
-        return false;
+    private static void commit(
+            RosterWriteEvent event, EmployeeChange.Type type, boolean applied, EmployeeRoster roster) {
+        event.type = type.name();
+        event.applied = applied;
+        event.version = roster.version();
+        event.rosterSize = roster.employees().size();
+        event.commit();
     }
 }
@@ -0,0 +1,162 @@
+package com.reliaquest.server.web;
+
+import com.reliaquest.server.service.EmployeeChangeLog;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * Pushes roster changes to subscribers as Server-Sent Events.
+ *
+ * @implNote Event ids are {@code <epoch>-<sequence>}, so a client resuming with {@code Last-Event-ID} after a server
+ * restart gets a {@code reset} event instead of unrelated changes. Every delivery reads the change log from the last
+ * sequence sent to that subscriber, which keeps events gap-free and in order even when writers race. Deliveries run on
+ * a small pool of sender threads, at most one queued per subscriber, so a slow client delays neither writers nor
+ * other subscribers beyond the pool's size.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EmployeeEventStream {
+
+    public static final String RESET_EVENT = "reset";
+
+    private static final int SENDER_THREADS = 4;
+
+    private final EmployeeChangeLog changeLog;
+
+    private final Set<Subscription> subscriptions = ConcurrentHashMap.newKeySet();
+
+    private final ExecutorService sender = Executors.newFixedThreadPool(SENDER_THREADS, task -> {
+        final var thread = new Thread(task, "employee-event-sender");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public SseEmitter subscribe(String lastEventId) {
+        final var emitter = new SseEmitter(0L);
+        final var subscription = new Subscription(emitter, resumeSequence(lastEventId));
+        subscriptions.add(subscription);
+        changeLog.addListener(subscription.listener);
+        emitter.onCompletion(() -> unsubscribe(subscription));
+        emitter.onTimeout(() -> unsubscribe(subscription));
+        emitter.onError(ignored -> unsubscribe(subscription));
+        subscription.flush();
+        return emitter;
+    }
+
+    /*
+     * Comments keep idle connections (and any intermediaries) alive and surface dead subscribers.
+     */
+    @Scheduled(fixedRateString = "${mock.events.heartbeat-ms:15000}")
+    public void heartbeat() {
+        subscriptions.forEach(Subscription::heartbeat);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        sender.shutdownNow();
+    }
+
+    private void unsubscribe(Subscription subscription) {
+        subscriptions.remove(subscription);
+        changeLog.removeListener(subscription.listener);
+    }
+
+    /*
+     * Returns -1 for ids from another epoch, which the first flush answers with a reset.
+     */
+    private long resumeSequence(String lastEventId) {
+        if (lastEventId == null || lastEventId.isBlank()) {
+            return changeLog.getLatestSequence();
+        }
+        final int separator = lastEventId.lastIndexOf('-');
+        if (separator <= 0 || !EmployeeChangeLog.EPOCH.equals(lastEventId.substring(0, separator))) {
+            return -1;
+        }
+        try {
+            return Long.parseLong(lastEventId.substring(separator + 1));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    private static String eventId(long sequence) {
+        return EmployeeChangeLog.EPOCH + "-" + sequence;
+    }
+
+    private final class Subscription {
+
+        private final SseEmitter emitter;
+        private final Runnable listener = this::schedule;
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+
+        private long lastSent;
+
+        private Subscription(SseEmitter emitter, long lastSent) {
+            this.emitter = emitter;
+            this.lastSent = lastSent;
+        }
+
+        /*
+         * Called on the writer's thread; changes recorded while a flush is queued are sent by that flush.
+         */
+        private void schedule() {
+            if (scheduled.compareAndSet(false, true)) {
+                sender.execute(() -> {
+                    scheduled.set(false);
+                    flush();
+                });
+            }
+        }
+
+        private synchronized void flush() {
+            final var batch = changeLog.changesSince(lastSent);
+            try {
+                if (batch.reset()) {
+                    final var data = Map.of("epoch", batch.epoch(), "latest", batch.latest());
+                    emitter.send(SseEmitter.event()
+                            .id(eventId(batch.latest()))
+                            .name(RESET_EVENT)
+                            .data(data, MediaType.APPLICATION_JSON));
+                    lastSent = batch.latest();
+                    return;
+                }
+                for (final var change : batch.changes()) {
+                    emitter.send(SseEmitter.event()
+                            .id(eventId(change.sequence()))
+                            .name(change.type().name())
+                            .data(change, MediaType.APPLICATION_JSON));
+                    lastSent = change.sequence();
+                }
+            } catch (IOException | IllegalStateException e) {
+                fail(e);
+            }
+        }
+
+        private synchronized void heartbeat() {
+            try {
+                emitter.send(SseEmitter.event().comment("heartbeat"));
+            } catch (IOException | IllegalStateException e) {
+                fail(e);
+            }
+        }
+
+        private void fail(Exception e) {
+            log.debug("Dropping event subscriber: {}", e.getMessage());
+            unsubscribe(this);
+            emitter.completeWithError(e);
+        }
+    }
+}
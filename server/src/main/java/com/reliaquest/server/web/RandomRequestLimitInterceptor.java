@@ -1,15 +1,21 @@
 package com.reliaquest.server.web;
 
+import jakarta.servlet.DispatcherType;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.LongSupplier;
 import java.util.random.RandomGenerator;
 import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.servlet.HandlerInterceptor;
 
+@RequiredArgsConstructor
 public class RandomRequestLimitInterceptor implements HandlerInterceptor {
 
     private static final int REQUEST_LIMIT = RandomGenerator.getDefault().nextInt(5, 10);
@@ -18,8 +24,19 @@ public class RandomRequestLimitInterceptor implements HandlerInterceptor {
 
     private final AtomicReference<RequestLimit> requestLimit = new AtomicReference<>(RequestLimit.init());
 
+    private final LongSupplier rosterVersion;
+
     @Override
     public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (request.getDispatcherType() == DispatcherType.ASYNC) {
+            // Re-dispatch of an already admitted long-poll.
+            return true;
+        }
+        if (isRevalidation(request)) {
+            // Answered with a bodiless 304, so neither counted nor rejected.
+            return true;
+        }
+
         if (requestLimit.get().getCount() >= REQUEST_LIMIT) {
             if (Instant.now()
                     .minus(REQUEST_BACKOFF_DURATION)
@@ -40,6 +57,11 @@ public class RandomRequestLimitInterceptor implements HandlerInterceptor {
         return true;
     }
 
+    private boolean isRevalidation(HttpServletRequest request) {
+        return HttpMethod.GET.matches(request.getMethod())
+                && RosterETag.matches(request.getHeader(HttpHeaders.IF_NONE_MATCH), rosterVersion.getAsLong());
+    }
+
     private record RequestLimit(@Getter int count, @Getter Instant lastRequested) {
         public static RequestLimit init() {
             return new RequestLimit(0, Instant.now());
@@ -0,0 +1,46 @@
+package com.reliaquest.server.web;
+
+import com.reliaquest.server.service.EmployeeChangeLog;
+import java.util.Arrays;
+
+/**
+ * Strong entity tags for representations of the mock employee roster.
+ *
+ * @implNote Tags combine a per-process epoch with the roster version, so a restarted server (whose version counter
+ * starts over with freshly generated employees) never validates a tag issued by a previous run.
+ */
+public final class RosterETag {
+
+    private static final String EPOCH = EmployeeChangeLog.EPOCH;
+    private static final String GZIP_SUFFIX = "-gzip";
+    private static final String WEAK_PREFIX = "W/";
+
+    private RosterETag() {}
+
+    public static String of(long version) {
+        return "\"%s-%d\"".formatted(EPOCH, version);
+    }
+
+    /*
+     * Compressed bytes are a distinct representation and therefore need a distinct strong tag.
+     */
+    public static String gzipOf(long version) {
+        return "\"%s-%d%s\"".formatted(EPOCH, version, GZIP_SUFFIX);
+    }
+
+    /**
+     * @return true if an {@code If-None-Match} header value names any representation of the given roster version.
+     * Both the plain and gzip tags validate, since every representation of one version carries the same data.
+     */
+    public static boolean matches(String ifNoneMatch, long version) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+            return false;
+        }
+        final var plain = of(version);
+        final var gzip = gzipOf(version);
+        return Arrays.stream(ifNoneMatch.split(","))
+                .map(String::trim)
+                .map(tag -> tag.startsWith(WEAK_PREFIX) ? tag.substring(WEAK_PREFIX.length()) : tag)
+                .anyMatch(tag -> tag.equals(plain) || tag.equals(gzip));
+    }
+}
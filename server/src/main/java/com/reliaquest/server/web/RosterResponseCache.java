@@ -0,0 +1,82 @@
+package com.reliaquest.server.web;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.server.model.Response;
+import com.reliaquest.server.profiling.RosterSerializationEvent;
+import com.reliaquest.server.service.EmployeeRoster;
+import com.reliaquest.server.service.MockEmployeeService;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.zip.GZIPOutputStream;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Holds the serialized (plain and gzip-compressed) body of {@code GET /api/v1/employee} for the current roster
+ * version, so repeated list reads skip Jackson and compression entirely.
+ */
+@Component
+@RequiredArgsConstructor
+public class RosterResponseCache {
+
+    private final MockEmployeeService mockEmployeeService;
+    private final ObjectMapper objectMapper;
+
+    private final AtomicReference<SerializedRoster> current = new AtomicReference<>();
+
+    public SerializedRoster get() {
+        final var roster = mockEmployeeService.getRoster();
+        final var cached = current.get();
+        if (cached != null && cached.version() == roster.version()) {
+            return cached;
+        }
+
+        // The roster is an immutable snapshot, so its rendering always matches its version. Concurrent readers may
+        // serialize the same version; only ever move the cache forward.
+        final var event = new RosterSerializationEvent();
+        event.begin();
+        final var serialized = serialize(roster);
+        event.version = serialized.version();
+        event.jsonBytes = serialized.json().length;
+        event.gzipBytes = serialized.gzip().length;
+        event.commit();
+        current.accumulateAndGet(
+                serialized, (previous, next) -> previous == null || next.version() > previous.version()
+                        ? next
+                        : previous);
+        return serialized;
+    }
+
+    private SerializedRoster serialize(EmployeeRoster roster) {
+        try {
+            final var json = objectMapper.writeValueAsBytes(Response.handledWith(roster.employees()));
+            return new SerializedRoster(roster.version(), json, gzip(json));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize employee roster.", e);
+        }
+    }
+
+    private static byte[] gzip(byte[] bytes) {
+        final var out = new ByteArrayOutputStream(Math.max(512, bytes.length / 4));
+        try (var gzip = new GZIPOutputStream(out)) {
+            gzip.write(bytes);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    public record SerializedRoster(long version, byte[] json, byte[] gzip) {
+
+        public String eTag() {
+            return RosterETag.of(version);
+        }
+
+        public String gzipETag() {
+            return RosterETag.gzipOf(version);
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package com.reliaquest.server.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.reliaquest.server.model.EmployeeChange;
+import com.reliaquest.server.model.MockEmployee;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+class EmployeeChangeLogTest {
+
+    private final EmployeeChangeLog changeLog = new EmployeeChangeLog(3);
+
+    @Test
+    void changesSince_shouldReturnChangesAfterSequenceInOrder() {
+        final var alice = employee("Alice");
+        final var bob = employee("Bob");
+        changeLog.record(EmployeeChange.Type.CREATED, alice);
+        changeLog.record(EmployeeChange.Type.CREATED, bob);
+        changeLog.record(EmployeeChange.Type.DELETED, alice);
+
+        final var changes = changeLog.changesSince(1);
+
+        assertThat(changes.epoch()).isEqualTo(EmployeeChangeLog.EPOCH);
+        assertThat(changes.since()).isEqualTo(1);
+        assertThat(changes.latest()).isEqualTo(3);
+        assertThat(changes.reset()).isFalse();
+        assertThat(changes.changes())
+                .containsExactly(
+                        new EmployeeChange(2, EmployeeChange.Type.CREATED, bob),
+                        new EmployeeChange(3, EmployeeChange.Type.DELETED, alice));
+    }
+
+    @Test
+    void changesSince_shouldReturnEmptyBatchWhenUpToDate() {
+        changeLog.record(EmployeeChange.Type.CREATED, employee("Alice"));
+
+        final var changes = changeLog.changesSince(1);
+
+        assertThat(changes.reset()).isFalse();
+        assertThat(changes.latest()).isEqualTo(1);
+        assertThat(changes.changes()).isEmpty();
+        assertThat(new EmployeeChangeLog(3).changesSince(0).reset()).isFalse();
+    }
+
+    @Test
+    void changesSince_shouldServeRetainedHistoryAcrossEviction() {
+        for (int i = 0; i < 5; i++) {
+            changeLog.record(EmployeeChange.Type.CREATED, employee("Employee " + i));
+        }
+
+        // Sequences 3 to 5 are retained, so anything after 2 can still be served.
+        final var changes = changeLog.changesSince(2);
+
+        assertThat(changes.reset()).isFalse();
+        assertThat(changes.changes()).extracting(EmployeeChange::sequence).containsExactly(3L, 4L, 5L);
+    }
+
+    @Test
+    void changesSince_shouldResetOnceHistoryIsDropped() {
+        for (int i = 0; i < 5; i++) {
+            changeLog.record(EmployeeChange.Type.CREATED, employee("Employee " + i));
+        }
+
+        final var changes = changeLog.changesSince(1);
+
+        assertThat(changes.reset()).isTrue();
+        assertThat(changes.latest()).isEqualTo(5);
+        assertThat(changes.changes()).isEmpty();
+    }
+
+    @Test
+    void changesSince_shouldResetForSequenceAheadOfLog() {
+        changeLog.record(EmployeeChange.Type.CREATED, employee("Alice"));
+
+        final var changes = changeLog.changesSince(7);
+
+        assertThat(changes.reset()).isTrue();
+        assertThat(changes.latest()).isEqualTo(1);
+    }
+
+    @Test
+    void record_shouldNotifyListenersOnlyWhenAsked() {
+        final var notified = new int[1];
+        final Runnable listener = () -> notified[0]++;
+        changeLog.addListener(listener);
+
+        changeLog.record(EmployeeChange.Type.CREATED, employee("Alice"));
+        assertThat(notified[0]).isZero();
+        changeLog.notifyListeners();
+        assertThat(notified[0]).isEqualTo(1);
+
+        changeLog.removeListener(listener);
+        changeLog.notifyListeners();
+        assertThat(notified[0]).isEqualTo(1);
+    }
+
+    @Test
+    void constructor_shouldRejectNonPositiveCapacity() {
+        assertThatThrownBy(() -> new EmployeeChangeLog(0)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static MockEmployee employee(String name) {
+        return MockEmployee.builder()
+                .id(UUID.randomUUID())
+                .name(name)
+                .salary(100000)
+                .age(30)
+                .title("Engineer")
+                .email(name.toLowerCase().replace(' ', '.') + "@example.com")
+                .build();
+    }
+}
@@ -0,0 +1,129 @@
+package com.reliaquest.server.web;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+
+import com.reliaquest.server.model.EmployeeChange;
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.service.EmployeeChangeLog;
+import java.util.UUID;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+class EmployeeEventStreamTest {
+
+    private final EmployeeChangeLog changeLog = new EmployeeChangeLog(3);
+    private final EmployeeEventStream eventStream = new EmployeeEventStream(changeLog);
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.standaloneSetup(new EventsController(eventStream)).build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        eventStream.shutdown();
+    }
+
+    @Test
+    void subscribe_shouldResumeAfterLastEventIdWithoutGaps() throws Exception {
+        for (int i = 1; i <= 3; i++) {
+            changeLog.record(EmployeeChange.Type.CREATED, employee("Employee " + i));
+        }
+
+        final var events = stream(eventId(1));
+
+        assertThat(events).doesNotContain("id:" + eventId(1) + "\n");
+        assertThat(events.indexOf("id:" + eventId(2) + "\nevent:CREATED\n"))
+                .isNotNegative()
+                .isLessThan(events.indexOf("id:" + eventId(3) + "\nevent:CREATED\n"));
+        assertThat(events).contains("Employee 2", "Employee 3").doesNotContain("Employee 1");
+    }
+
+    @Test
+    void subscribe_shouldResetWhenResumedHistoryWasDropped() throws Exception {
+        for (int i = 1; i <= 5; i++) {
+            changeLog.record(EmployeeChange.Type.CREATED, employee("Employee " + i));
+        }
+
+        final var events = stream(eventId(1));
+
+        assertThat(events).contains("id:" + eventId(5) + "\nevent:" + EmployeeEventStream.RESET_EVENT + "\n");
+        assertThat(events).doesNotContain("event:CREATED");
+    }
+
+    @Test
+    void subscribe_shouldResetForLastEventIdFromAnotherEpoch() throws Exception {
+        changeLog.record(EmployeeChange.Type.CREATED, employee("Alice"));
+
+        final var events = stream("other" + EmployeeChangeLog.EPOCH + "-0");
+
+        assertThat(events)
+                .contains("id:" + eventId(1) + "\nevent:" + EmployeeEventStream.RESET_EVENT + "\n")
+                .contains("\"epoch\":\"" + EmployeeChangeLog.EPOCH + "\"")
+                .doesNotContain("event:CREATED");
+    }
+
+    @Test
+    void subscribe_shouldStartFromLatestWithoutLastEventId() throws Exception {
+        changeLog.record(EmployeeChange.Type.CREATED, employee("Alice"));
+
+        assertThat(stream(null)).doesNotContain("event:");
+    }
+
+    /*
+     * Events sent by the time the subscription is returned, in SSE wire format.
+     */
+    private String stream(String lastEventId) throws Exception {
+        final var builder = get("/events").accept(MediaType.TEXT_EVENT_STREAM);
+        if (lastEventId != null) {
+            builder.header("Last-Event-ID", lastEventId);
+        }
+        return mockMvc.perform(builder)
+                .andExpect(request().asyncStarted())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+    }
+
+    private static String eventId(long sequence) {
+        return EmployeeChangeLog.EPOCH + "-" + sequence;
+    }
+
+    private static MockEmployee employee(String name) {
+        return MockEmployee.builder()
+                .id(UUID.randomUUID())
+                .name(name)
+                .salary(100000)
+                .age(30)
+                .title("Engineer")
+                .email(name.toLowerCase().replace(' ', '.') + "@example.com")
+                .build();
+    }
+
+    @RestController
+    static class EventsController {
+
+        private final EmployeeEventStream eventStream;
+
+        EventsController(EmployeeEventStream eventStream) {
+            this.eventStream = eventStream;
+        }
+
+        @GetMapping(path = "/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+        SseEmitter events(@RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+            return eventStream.subscribe(lastEventId);
+        }
+    }
+}